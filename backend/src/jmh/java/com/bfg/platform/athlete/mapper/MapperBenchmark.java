@@ -0,0 +1,128 @@
+package com.bfg.platform.athlete.mapper;
+
+import com.bfg.platform.athlete.entity.Accreditation;
+import com.bfg.platform.athlete.entity.Athlete;
+import com.bfg.platform.club.entity.Club;
+import com.bfg.platform.gen.model.AccreditationDto;
+import com.bfg.platform.gen.model.AccreditationStatus;
+import com.bfg.platform.gen.model.Gender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity → DTO mapping for one page of the accreditation list, with and without expand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final Set<String> EXPAND = Set.of("athlete", "club");
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private List<Accreditation> accreditations;
+
+    @Setup
+    public void setUp() {
+        accreditations = syntheticAccreditations(pageSize, new Random(42));
+    }
+
+    @Benchmark
+    public void accreditationsFlat(Blackhole blackhole) {
+        for (Accreditation accreditation : accreditations) {
+            blackhole.consume(AccreditationMapper.toDto(accreditation));
+        }
+    }
+
+    @Benchmark
+    public void accreditationsExpanded(Blackhole blackhole) {
+        for (Accreditation accreditation : accreditations) {
+            blackhole.consume(AccreditationMapper.toDto(accreditation, EXPAND));
+        }
+    }
+
+    @Benchmark
+    public void athletes(Blackhole blackhole) {
+        for (Accreditation accreditation : accreditations) {
+            blackhole.consume(AthleteMapper.toDto(accreditation.getAthlete()));
+        }
+    }
+
+    /** Accreditations with their athlete and club loaded, spread over a handful of clubs */
+    public static List<Accreditation> syntheticAccreditations(int count, Random random) {
+        List<Club> clubs = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            clubs.add(Club.builder()
+                    .id(UUID.randomUUID())
+                    .name("Гребен клуб " + i)
+                    .shortName("ГК" + i)
+                    .cardPrefix(String.format("%02d", i))
+                    .isActive(true)
+                    .createdAt(Instant.now())
+                    .modifiedAt(Instant.now())
+                    .build());
+        }
+
+        List<Accreditation> accreditations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Club club = clubs.get(random.nextInt(clubs.size()));
+            LocalDate dateOfBirth = LocalDate.of(1995 + random.nextInt(15), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            Athlete athlete = Athlete.builder()
+                    .id(UUID.randomUUID())
+                    .firstName("Име" + i)
+                    .middleName("Презиме" + i)
+                    .lastName("Фамилия" + i)
+                    .gender(random.nextBoolean() ? Gender.MALE : Gender.FEMALE)
+                    .dateOfBirth(dateOfBirth)
+                    .medicalExaminationDue(LocalDate.now().plusDays(random.nextInt(365)))
+                    .insuranceFrom(LocalDate.now().minusDays(random.nextInt(180)))
+                    .insuranceTo(LocalDate.now().plusDays(random.nextInt(180)))
+                    .registeredOn(Instant.now())
+                    .modifiedAt(Instant.now())
+                    .build();
+            accreditations.add(Accreditation.builder()
+                    .id(UUID.randomUUID())
+                    .athleteId(athlete.getId())
+                    .athlete(athlete)
+                    .clubId(club.getId())
+                    .club(club)
+                    .accreditationNumber(club.getCardPrefix() + String.format("%05d", i))
+                    .year(2025)
+                    .status(AccreditationStatus.ACTIVE)
+                    .createdAt(Instant.now())
+                    .modifiedAt(Instant.now())
+                    .build());
+        }
+        return accreditations;
+    }
+
+    public static List<AccreditationDto> syntheticAccreditationDtos(int count, Random random) {
+        return syntheticAccreditations(count, random).stream()
+                .map(accreditation -> AccreditationMapper.toDto(accreditation, EXPAND))
+                .toList();
+    }
+}
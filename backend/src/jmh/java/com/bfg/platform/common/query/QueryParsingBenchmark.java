@@ -0,0 +1,62 @@
+package com.bfg.platform.common.query;
+
+import com.bfg.platform.athlete.entity.Accreditation;
+import com.bfg.platform.athlete.query.AccreditationQueryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The list-endpoint query pipeline up to (not including) JPA: tokenizing and parsing $filter,
+ * parsing $orderBy and validating $expand against the entity, all on the accreditation list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParsingBenchmark {
+
+    private static final Set<String> EXPAND = Set.of("athlete", "club");
+    private static final String ORDER_BY = "athlete.lastName_asc,athlete.firstName_asc,year_desc";
+    private static final String EXPAND_PARAM = "athlete,club";
+
+    @Param({
+            "status eq 'ACTIVE'",
+            "status eq 'ACTIVE' and year in (2024 2025) and (athlete.lastName eq 'Иванов' or club.shortName eq 'ЦСКА')",
+            "year range 2020 to 2025 and athlete.dateOfBirth range '2005-01-01' to '2010-12-31' and athlete.gender in (MALE FEMALE) and club.isActive eq true"
+    })
+    public String filter;
+
+    @Benchmark
+    public List<FilterToken> tokenizeFilter() {
+        return new FilterTokenizer(filter).tokenize();
+    }
+
+    @Benchmark
+    public EnhancedFilterExpressionParser.ParseResult<Accreditation> parseFilter() {
+        return AccreditationQueryAdapter.parseFilter(filter, EXPAND);
+    }
+
+    @Benchmark
+    public EnhancedSortParser.ParseResult parseOrderBy() {
+        return AccreditationQueryAdapter.parseSort(ORDER_BY, EXPAND);
+    }
+
+    @Benchmark
+    public Set<String> parseExpand() {
+        return ExpandQueryParser.parse(EXPAND_PARAM, Accreditation.class);
+    }
+}
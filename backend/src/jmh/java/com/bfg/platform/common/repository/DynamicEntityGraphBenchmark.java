@@ -0,0 +1,81 @@
+package com.bfg.platform.common.repository;
+
+import com.bfg.platform.athlete.entity.Accreditation;
+import com.bfg.platform.competition.entity.Entry;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity graph construction for expand. The session factory is built from the real entity
+ * metamodel with JDBC metadata access off, so no database is needed — graphs never touch one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicEntityGraphBenchmark {
+
+    private static final Set<String> ACCREDITATION_EXPAND = Set.of("athlete", "club");
+    private static final Set<String> ENTRY_EXPAND = Set.of("competition", "club", "discipline.competitionGroup");
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+
+    @Setup
+    public void setUp() throws ClassNotFoundException {
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .setProperty("hibernate.temp.use_jdbc_metadata_defaults", "false")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "none");
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        for (BeanDefinition candidate : scanner.findCandidateComponents("com.bfg.platform")) {
+            configuration.addAnnotatedClass(Class.forName(candidate.getBeanClassName()));
+        }
+
+        sessionFactory = configuration.buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public EntityGraph<Accreditation> flatExpand() {
+        return DynamicEntityGraph.create(entityManager, Accreditation.class, ACCREDITATION_EXPAND);
+    }
+
+    @Benchmark
+    public EntityGraph<Entry> nestedExpand() {
+        return DynamicEntityGraph.create(entityManager, Entry.class, ENTRY_EXPAND);
+    }
+}
@@ -0,0 +1,115 @@
+package com.bfg.platform.common.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched inserts keyed by random v4 vs time-ordered v7 UUIDs into a table shaped like crew_members,
+ * against the local Postgres (DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD as for the app).
+ * Throughput is rows per millisecond; at the end of each trial the primary key index size and the
+ * WAL written are printed per inserted row, since trials insert different row counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidKeyInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"v4", "v7"})
+    public String keys;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+    private long rows;
+    private String walStart;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("DATABASE_URL", "jdbc:postgresql://localhost:5434/bfg_platform?options=-c%20timezone=UTC"),
+                env("DATABASE_USERNAME", "bfg_user"),
+                env("DATABASE_PASSWORD", "bfg_password"));
+        table = "bench_uuid_keys_" + keys;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, entry_id uuid NOT NULL, "
+                    + "seat_position varchar(20) NOT NULL, accreditation_id uuid NOT NULL)");
+            walStart = queryString(statement, "SELECT pg_current_wal_lsn()::text");
+        }
+        insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, entry_id, seat_position, accreditation_id) VALUES (?, ?, ?, ?)");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        UUID entryId = UUID.randomUUID();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, "v7".equals(keys) ? UuidV7Generator.next() : UUID.randomUUID());
+            insert.setObject(2, entryId);
+            insert.setString(3, "STROKE");
+            insert.setObject(4, UUID.randomUUID());
+            insert.addBatch();
+        }
+        rows += BATCH_SIZE;
+        return insert.executeBatch();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        insert.close();
+        try (Statement statement = connection.createStatement()) {
+            long indexBytes = queryLong(statement, "SELECT pg_relation_size('" + table + "_pkey')");
+            long walBytes = queryLong(statement,
+                    "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walStart + "')::bigint");
+            System.out.printf("%n%s keys: %d rows, primary key index %.1f bytes/row, WAL %.1f bytes/row%n",
+                    keys, rows, indexBytes / (double) rows, walBytes / (double) rows);
+            statement.execute("DROP TABLE " + table);
+        }
+        connection.close();
+    }
+
+    private static String queryString(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
@@ -0,0 +1,86 @@
+package com.bfg.platform.common.util;
+
+import com.bfg.platform.athlete.mapper.MapperBenchmark;
+import com.bfg.platform.gen.model.AccreditationDto;
+import com.bfg.platform.gen.model.GetAllAccreditations200Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page → generated list response, the last step of every list endpoint. reflectiveBaseline is the
+ * previous implementation (constructor and setter lookup through reflection on every call),
+ * kept here for comparison with the cached method handles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageConverterBenchmark {
+
+    private Page<AccreditationDto> page;
+
+    @Setup
+    public void setUp() {
+        page = new PageImpl<>(MapperBenchmark.syntheticAccreditationDtos(20, new Random(42)), PageRequest.of(3, 20), 1_000);
+    }
+
+    @Benchmark
+    public GetAllAccreditations200Response toResponse() {
+        return PageConverter.toResponse(page, GetAllAccreditations200Response.class);
+    }
+
+    @Benchmark
+    public GetAllAccreditations200Response reflectiveBaseline() throws ReflectiveOperationException {
+        return reflectiveToResponse(page, GetAllAccreditations200Response.class);
+    }
+
+    private static <T, R> R reflectiveToResponse(Page<T> page, Class<R> responseClass) throws ReflectiveOperationException {
+        R response = responseClass.getDeclaredConstructor().newInstance();
+        responseClass.getMethod("content", List.class).invoke(response, page.getContent());
+        setReflectively(response, "totalElements", page.getTotalElements());
+        setReflectively(response, "totalPages", page.getTotalPages());
+        setReflectively(response, "size", page.getSize());
+        setReflectively(response, "number", page.getNumber());
+        setReflectively(response, "numberOfElements", page.getNumberOfElements());
+        setReflectively(response, "first", page.isFirst());
+        setReflectively(response, "last", page.isLast());
+        setReflectively(response, "empty", page.isEmpty());
+        return response;
+    }
+
+    private static void setReflectively(Object response, String name, Object value) throws ReflectiveOperationException {
+        Method method;
+        try {
+            method = response.getClass().getMethod(name, value.getClass());
+        } catch (NoSuchMethodException e) {
+            method = null;
+            for (Method candidate : response.getClass().getMethods()) {
+                if (candidate.getName().equals(name) && candidate.getParameterCount() == 1) {
+                    method = candidate;
+                    break;
+                }
+            }
+        }
+        if (method != null) {
+            method.invoke(response, value);
+        }
+    }
+}
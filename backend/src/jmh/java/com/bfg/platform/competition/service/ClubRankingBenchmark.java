@@ -0,0 +1,147 @@
+package com.bfg.platform.competition.service;
+
+import com.bfg.platform.club.entity.Club;
+import com.bfg.platform.club.repository.ClubRepository;
+import com.bfg.platform.common.storage.S3Service;
+import com.bfg.platform.competition.entity.Competition;
+import com.bfg.platform.competition.entity.CompetitionFinalStanding;
+import com.bfg.platform.competition.entity.CompetitionGroupDefinition;
+import com.bfg.platform.competition.entity.DisciplineDefinition;
+import com.bfg.platform.competition.entity.Entry;
+import com.bfg.platform.competition.repository.CompetitionFinalStandingRepository;
+import com.bfg.platform.competition.repository.CompetitionGroupDefinitionRepository;
+import com.bfg.platform.competition.repository.CompetitionRepository;
+import com.bfg.platform.competition.repository.DisciplineDefinitionRepository;
+import com.bfg.platform.competition.repository.EntryRepository;
+import com.bfg.platform.gen.model.ClubRankingsResponse;
+import com.bfg.platform.gen.model.DisciplineGender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClubRankingServiceImpl's in-memory aggregation (club → competition → discipline) over synthetic
+ * final standings. Repositories are stubs that hand back the prepared rows, so only grouping,
+ * summing and DTO building are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClubRankingBenchmark {
+
+    private static final int CLUBS = 30;
+    private static final int DISCIPLINES = 40;
+    private static final int GROUPS = 6;
+    private static final int BOATS_PER_DISCIPLINE = 12;
+
+    @Param({"1", "5", "12"})
+    public int competitions;
+
+    private ClubRankingServiceImpl service;
+    private List<UUID> competitionIds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        List<Club> clubs = new ArrayList<>();
+        for (int i = 0; i < CLUBS; i++) {
+            clubs.add(Club.builder().id(UUID.randomUUID()).name("Гребен клуб " + i).shortName("ГК" + i).isActive(true).build());
+        }
+        List<CompetitionGroupDefinition> groups = new ArrayList<>();
+        for (int i = 0; i < GROUPS; i++) {
+            groups.add(CompetitionGroupDefinition.builder().id(UUID.randomUUID()).name("Група " + i).shortName("Г" + i).build());
+        }
+        List<DisciplineDefinition> disciplines = new ArrayList<>();
+        for (int i = 0; i < DISCIPLINES; i++) {
+            disciplines.add(DisciplineDefinition.builder()
+                    .id(UUID.randomUUID())
+                    .name("Дисциплина " + i)
+                    .shortName("Д" + i)
+                    .competitionGroupId(groups.get(i % GROUPS).getId())
+                    .gender(DisciplineGender.values()[i % DisciplineGender.values().length])
+                    .build());
+        }
+
+        List<Competition> competitionList = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
+        List<CompetitionFinalStanding> standings = new ArrayList<>();
+        for (int c = 0; c < competitions; c++) {
+            Competition competition = Competition.builder().id(UUID.randomUUID()).shortName("Регата " + c).name("Регата " + c).build();
+            competitionList.add(competition);
+            for (DisciplineDefinition discipline : disciplines) {
+                for (int rank = 1; rank <= BOATS_PER_DISCIPLINE; rank++) {
+                    Entry entry = Entry.builder()
+                            .id(UUID.randomUUID())
+                            .competitionId(competition.getId())
+                            .disciplineId(discipline.getId())
+                            .clubId(clubs.get(random.nextInt(CLUBS)).getId())
+                            .teamNumber(1)
+                            .build();
+                    entries.add(entry);
+                    standings.add(CompetitionFinalStanding.builder()
+                            .id(UUID.randomUUID())
+                            .competitionId(competition.getId())
+                            .disciplineId(discipline.getId())
+                            .entryId(entry.getId())
+                            .overallRank(rank)
+                            .timeMs(400_000 + rank * 1_500 + random.nextInt(1_000))
+                            .points(rank <= 8 ? BigDecimal.valueOf(9 - rank) : null)
+                            .build());
+                }
+            }
+        }
+        competitionIds = competitionList.stream().map(Competition::getId).toList();
+
+        service = new ClubRankingServiceImpl(
+                stub(CompetitionFinalStandingRepository.class, Map.of("findByCompetitionIdIn", standings)),
+                stub(EntryRepository.class, Map.of("findAllById", entries)),
+                stub(ClubRepository.class, Map.of("findAllById", clubs)),
+                stub(CompetitionRepository.class, Map.of("findAllById", competitionList)),
+                stub(DisciplineDefinitionRepository.class, Map.of("findAllById", disciplines)),
+                stub(CompetitionGroupDefinitionRepository.class, Map.of("findAllById", groups)),
+                stub(S3Service.class, Map.of()));
+    }
+
+    @Benchmark
+    public ClubRankingsResponse computeClubRankings() {
+        return service.computeClubRankings(competitionIds);
+    }
+
+    /** Interface stub answering the named methods with fixed results; anything else is a setup mistake */
+    static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            if (!answers.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            }
+            return answers.get(method.getName());
+        }));
+    }
+}
@@ -0,0 +1,82 @@
+package com.bfg.platform.competition.service;
+
+import com.bfg.platform.competition.entity.CompetitionParticipation;
+import com.bfg.platform.competition.entity.CompetitionTimetableEvent;
+import com.bfg.platform.gen.model.ParticipationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lane seeding of qualified entries into the next stage and place computation from finish times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgressionPlacementBenchmark {
+
+    private static final int LANES = 6;
+
+    @Param({"6", "24", "72"})
+    public int entries;
+
+    private List<CompetitionProgressionServiceImpl.QualifiedEntry> qualified;
+    private List<CompetitionTimetableEvent> events;
+    private List<CompetitionParticipation> results;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        qualified = new ArrayList<>(entries);
+        for (int rank = 1; rank <= entries; rank++) {
+            qualified.add(new CompetitionProgressionServiceImpl.QualifiedEntry(UUID.randomUUID(), rank, 400_000 + rank * 800));
+        }
+
+        events = new ArrayList<>();
+        for (int i = 0; i < (entries + LANES - 1) / LANES; i++) {
+            events.add(CompetitionTimetableEvent.builder().id(UUID.randomUUID()).build());
+        }
+
+        // A stage's results: mostly finishers, a few DNS/DNF, and ties on the timing resolution
+        results = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            boolean finished = random.nextInt(10) > 0;
+            results.add(CompetitionParticipation.builder()
+                    .id(UUID.randomUUID())
+                    .entryId(UUID.randomUUID())
+                    .lane(i % LANES + 1)
+                    .participationStatus(finished ? ParticipationStatus.FINISHED : ParticipationStatus.DNF)
+                    .finishTimeMs(finished ? 400_000 + random.nextInt(60) * 100 : null)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<CompetitionParticipation> seedLanes() {
+        return CompetitionProgressionServiceImpl.seedLanes(qualified, events, LANES);
+    }
+
+    @Benchmark
+    public List<CompetitionParticipation> computePlaces() {
+        CompetitionProgressionServiceImpl.computePlaces(results);
+        return results;
+    }
+}
@@ -1,6 +1,7 @@
 package com.bfg.platform.athlete.controller;
 
 import com.bfg.platform.athlete.service.AccreditationService;
+import com.bfg.platform.athlete.service.AthleteMigrationJobService;
 import com.bfg.platform.common.exception.ResourceNotFoundException;
 import com.bfg.platform.gen.api.AccreditationsApi;
 import com.bfg.platform.gen.model.AccreditationBatchRenewalRequest;
@@ -11,6 +12,7 @@ import com.bfg.platform.gen.model.AthleteBatchMigrationRequest;
 import com.bfg.platform.gen.model.AthleteBatchMigrationResponse;
 import com.bfg.platform.gen.model.AthleteCreateRequest;
 import com.bfg.platform.gen.model.AthleteDto;
+import com.bfg.platform.gen.model.AthleteMigrationJobDto;
 import com.bfg.platform.common.util.PageConverter;
 import com.bfg.platform.gen.model.GetAllAccreditations200Response;
 import lombok.AllArgsConstructor;
@@ -18,6 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +30,7 @@ import java.util.UUID;
 public class AccreditationController implements AccreditationsApi {
 
     private final AccreditationService accreditationService;
+    private final AthleteMigrationJobService athleteMigrationJobService;
 
     @Override
     @PreAuthorize("hasAnyAuthority('FEDERATION_ADMIN', 'APP_ADMIN', 'CLUB_ADMIN', 'COACH', 'UMPIRE')")
@@ -36,9 +40,10 @@ public class AccreditationController implements AccreditationsApi {
             List<String> orderBy,
             Integer top,
             Integer skip,
-            List<String> expand
+            List<String> expand,
+            List<String> select
     ) {
-        var page = accreditationService.getAllAccreditations(filter, search, orderBy, top, skip, expand);
+        var page = accreditationService.getAllAccreditations(filter, search, orderBy, top, skip, expand, select);
         var response = PageConverter.toResponse(page, GetAllAccreditations200Response.class);
         return ResponseEntity.ok(response);
     }
@@ -78,6 +83,21 @@ public class AccreditationController implements AccreditationsApi {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @PreAuthorize("hasAnyAuthority('FEDERATION_ADMIN', 'APP_ADMIN')")
+    public ResponseEntity<AthleteMigrationJobDto> startAthleteMigrationJob(MultipartFile file, Integer year) {
+        AthleteMigrationJobDto job = athleteMigrationJobService.startJob(file, year);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyAuthority('FEDERATION_ADMIN', 'APP_ADMIN')")
+    public ResponseEntity<AthleteMigrationJobDto> getAthleteMigrationJob(UUID jobUuid, Integer top, Integer skip) {
+        return athleteMigrationJobService.getJob(jobUuid, top, skip)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("AthleteMigrationJob", jobUuid));
+    }
+
     @Override
     @PreAuthorize("hasAnyAuthority('FEDERATION_ADMIN', 'APP_ADMIN')")
     public ResponseEntity<AccreditationDto> updateAccreditationStatus(
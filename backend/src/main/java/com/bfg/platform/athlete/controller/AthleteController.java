@@ -2,11 +2,14 @@ package com.bfg.platform.athlete.controller;
 
 import com.bfg.platform.gen.api.AthletesApi;
 import com.bfg.platform.athlete.service.AthleteService;
+import com.bfg.platform.athlete.service.ExpiryAlertService;
 import com.bfg.platform.common.exception.ResourceNotFoundException;
 import com.bfg.platform.gen.model.AthleteBatchMedicalUpdateRequest;
 import com.bfg.platform.gen.model.AthleteDto;
 import com.bfg.platform.gen.model.AthleteUpdateRequest;
+import com.bfg.platform.gen.model.ExpiryAlertType;
 import com.bfg.platform.gen.model.GetAllAthletes200Response;
+import com.bfg.platform.gen.model.GetExpiryAlerts200Response;
 import com.bfg.platform.common.util.PageConverter;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -22,6 +25,7 @@ import java.util.UUID;
 public class AthleteController implements AthletesApi {
 
     private final AthleteService athleteService;
+    private final ExpiryAlertService expiryAlertService;
 
     @Override
     @PreAuthorize("hasAnyAuthority('FEDERATION_ADMIN', 'APP_ADMIN', 'CLUB_ADMIN', 'COACH', 'UMPIRE')")
@@ -31,9 +35,10 @@ public class AthleteController implements AthletesApi {
             List<String> orderBy,
             Integer top,
             Integer skip,
-            List<String> expand
+            List<String> expand,
+            List<String> select
     ) {
-        var page = athleteService.getAllAthletes(filter, search, orderBy, top, skip, expand);
+        var page = athleteService.getAllAthletes(filter, search, orderBy, top, skip, expand, select);
         return ResponseEntity.ok(PageConverter.toResponse(page, GetAllAthletes200Response.class));
     }
 
@@ -69,5 +74,17 @@ public class AthleteController implements AthletesApi {
         athleteService.deleteAthlete(athleteUuid);
         return ResponseEntity.noContent().build();
     }
-}
 
+    @Override
+    @PreAuthorize("hasAnyAuthority('FEDERATION_ADMIN', 'APP_ADMIN', 'CLUB_ADMIN', 'COACH')")
+    public ResponseEntity<GetExpiryAlerts200Response> getExpiryAlerts(
+            UUID clubId,
+            ExpiryAlertType type,
+            Integer withinDays,
+            Integer top,
+            Integer skip
+    ) {
+        var page = expiryAlertService.getExpiryAlerts(clubId, type, withinDays, top, skip);
+        return ResponseEntity.ok(PageConverter.toResponse(page, GetExpiryAlerts200Response.class));
+    }
+}
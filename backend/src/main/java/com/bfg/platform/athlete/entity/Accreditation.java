@@ -2,6 +2,7 @@ package com.bfg.platform.athlete.entity;
 
 import com.bfg.platform.athlete.entity.Athlete;
 import com.bfg.platform.club.entity.Club;
+import com.bfg.platform.common.repository.UuidV7;
 import com.bfg.platform.gen.model.AccreditationStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -25,7 +26,7 @@ import java.util.UUID;
 public class Accreditation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "id", updatable = false)
     @Setter(AccessLevel.NONE)
     private UUID id;
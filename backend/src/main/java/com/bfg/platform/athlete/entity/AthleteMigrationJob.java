@@ -0,0 +1,67 @@
+package com.bfg.platform.athlete.entity;
+
+import com.bfg.platform.gen.model.AthleteMigrationJobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "athlete_migration_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class AthleteMigrationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false)
+    @Setter(AccessLevel.NONE)
+    private UUID id;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private AthleteMigrationJobStatus status;
+
+    @Column(name = "year", nullable = false)
+    private Integer year;
+
+    @Column(name = "rows_read", nullable = false)
+    @Builder.Default
+    private Integer rowsRead = 0;
+
+    @Column(name = "migrated_count", nullable = false)
+    @Builder.Default
+    private Integer migratedCount = 0;
+
+    @Column(name = "skipped_count", nullable = false)
+    @Builder.Default
+    private Integer skippedCount = 0;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "owner_node")
+    private String ownerNode;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    @Column(name = "created_at", insertable = false, updatable = false, nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Instant createdAt;
+
+    @Column(name = "modified_at", insertable = false, nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Instant modifiedAt;
+}
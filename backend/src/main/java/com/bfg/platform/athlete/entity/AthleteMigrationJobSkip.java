@@ -0,0 +1,50 @@
+package com.bfg.platform.athlete.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "athlete_migration_job_skips")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class AthleteMigrationJobSkip {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false)
+    @Setter(AccessLevel.NONE)
+    private UUID id;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "row_number", nullable = false)
+    private Integer rowNumber;
+
+    @Column(name = "old_card_number")
+    private String oldCardNumber;
+
+    @Column(name = "athlete_name")
+    private String athleteName;
+
+    @Column(name = "reason", nullable = false)
+    private String reason;
+
+    @Column(name = "created_at", insertable = false, updatable = false, nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Instant createdAt;
+
+    @Column(name = "modified_at", insertable = false, nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Instant modifiedAt;
+}
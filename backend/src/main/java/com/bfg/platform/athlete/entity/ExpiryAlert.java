@@ -0,0 +1,60 @@
+package com.bfg.platform.athlete.entity;
+
+import com.bfg.platform.gen.model.ExpiryAlertType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Upcoming expiry for an athlete in a club. Rows are written only through the native
+ * statements in ExpiryAlertRepository, run by ExpiryAlertScanner.
+ */
+@Entity
+@Immutable
+@Table(name = "expiry_alerts")
+@Data
+@NoArgsConstructor
+@Setter(AccessLevel.NONE)
+public class ExpiryAlert {
+
+    @Id
+    @Column(name = "id", updatable = false)
+    private UUID id;
+
+    @Column(name = "athlete_id")
+    private UUID athleteId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "athlete_id", insertable = false, updatable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Athlete athlete;
+
+    @Column(name = "club_id")
+    private UUID clubId;
+
+    @Column(name = "alert_type")
+    @Enumerated(EnumType.STRING)
+    private ExpiryAlertType alertType;
+
+    @Column(name = "expires_on")
+    private LocalDate expiresOn;
+
+    @Column(name = "notified_at")
+    private Instant notifiedAt;
+
+    @Column(name = "created_at", insertable = false, updatable = false, nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "modified_at", insertable = false, updatable = false, nullable = false)
+    private Instant modifiedAt;
+}
@@ -0,0 +1,40 @@
+package com.bfg.platform.athlete.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/** How far ExpiryAlertScanner has scanned; written through ExpiryScanCursorRepository.advance */
+@Entity
+@Immutable
+@Table(name = "expiry_scan_cursors")
+@Data
+@NoArgsConstructor
+@Setter(AccessLevel.NONE)
+public class ExpiryScanCursor {
+
+    @Id
+    @Column(name = "scan_key", updatable = false)
+    private String scanKey;
+
+    @Column(name = "scanned_through", nullable = false)
+    private LocalDate scannedThrough;
+
+    @Column(name = "last_run_at", nullable = false)
+    private Instant lastRunAt;
+
+    @Column(name = "created_at", insertable = false, updatable = false, nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "modified_at", insertable = false, updatable = false, nullable = false)
+    private Instant modifiedAt;
+}
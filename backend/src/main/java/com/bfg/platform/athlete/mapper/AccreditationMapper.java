@@ -2,13 +2,19 @@ package com.bfg.platform.athlete.mapper;
 
 import com.bfg.platform.athlete.entity.Accreditation;
 import com.bfg.platform.club.mapper.ClubMapper;
+import com.bfg.platform.common.exception.ValidationException;
 import com.bfg.platform.common.query.ExpandQueryParser;
+import com.bfg.platform.common.query.SelectQueryParser;
 import com.bfg.platform.gen.model.AccreditationDto;
 import com.bfg.platform.gen.model.AccreditationCreateRequest;
 import com.bfg.platform.gen.model.AccreditationStatus;
+import com.bfg.platform.gen.model.ClubDto;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 public class AccreditationMapper {
 
@@ -53,6 +59,48 @@ public class AccreditationMapper {
         return dto;
     }
 
+    /**
+     * Builds a sparse DTO from a $select projection row; fields that were not selected stay null
+     * and nested athlete/club objects are created only when one of their fields was selected.
+     */
+    public static AccreditationDto toDto(Map<String, Object> row) {
+        AccreditationDto dto = new AccreditationDto();
+        row.forEach((field, value) -> {
+            if (field.contains(".")) return;
+            switch (field) {
+                case "uuid" -> dto.setUuid((UUID) value);
+                case "athleteId" -> dto.setAthleteId((UUID) value);
+                case "clubId" -> dto.setClubId((UUID) value);
+                case "accreditationNumber" -> dto.setAccreditationNumber((String) value);
+                case "year" -> dto.setYear((Integer) value);
+                case "status" -> dto.setStatus((AccreditationStatus) value);
+                case "createdAt" -> dto.setCreatedAt(value != null
+                    ? OffsetDateTime.ofInstant((Instant) value, ZoneOffset.UTC)
+                    : null);
+                case "updatedAt" -> dto.setUpdatedAt(value != null
+                    ? OffsetDateTime.ofInstant((Instant) value, ZoneOffset.UTC)
+                    : null);
+                default -> throw new IllegalArgumentException("Unsupported select field: " + field);
+            }
+        });
+
+        Map<String, Object> athleteRow = SelectQueryParser.subRow(row, "athlete");
+        if (!athleteRow.isEmpty()) {
+            dto.setAthlete(AthleteMapper.toDto(athleteRow).uuid(dto.getAthleteId()));
+        }
+
+        Map<String, Object> clubRow = SelectQueryParser.subRow(row, "club");
+        if (!clubRow.isEmpty()) {
+            ClubDto club = new ClubDto();
+            club.setUuid(dto.getClubId());
+            club.setName((String) clubRow.get("name"));
+            club.setShortName((String) clubRow.get("shortName"));
+            dto.setClub(club);
+        }
+
+        return dto;
+    }
+
     public static Accreditation fromCreateRequest(AccreditationCreateRequest request) {
         Accreditation accreditation = new Accreditation();
         accreditation.setAthleteId(request.getAthleteId());
@@ -79,4 +127,39 @@ public class AccreditationMapper {
         accreditation.setStatus(status);
         return accreditation;
     }
+
+    /** Converts a pre-platform 4/5 digit card number (club prefix + athlete number) to the 6 digit format */
+    public static String convertLegacyCardNumber(String oldCardNumber) {
+        if (oldCardNumber.length() == 6) {
+            return oldCardNumber;
+        }
+        
+        String clubPrefix;
+        String athleteSuffix;
+        
+        if (oldCardNumber.length() == 4) {
+            clubPrefix = normalizeClubPrefix(oldCardNumber.substring(0, 1));
+            athleteSuffix = oldCardNumber.substring(1);
+        } else if (oldCardNumber.length() == 5) {
+            clubPrefix = normalizeClubPrefix(oldCardNumber.substring(0, 2));
+            athleteSuffix = oldCardNumber.substring(2);
+        } else {
+            throw new ValidationException("Invalid card number format: " + oldCardNumber);
+        }
+
+        String athleteNumber = String.format("%04d", Integer.parseInt(athleteSuffix));
+        
+        return clubPrefix + athleteNumber;
+    }
+
+    /** Athlete part of a 6 digit card number (after the 2 digit club prefix), or 0 when it is not numeric */
+    public static int athleteNumberOf(String cardNumber) {
+        String suffix = cardNumber.substring(2);
+        return !suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit) ? Integer.parseInt(suffix) : 0;
+    }
+
+    private static String normalizeClubPrefix(String prefix) {
+        int prefixNum = Integer.parseInt(prefix);
+        return String.format("%02d", prefixNum);
+    }
 }
@@ -5,10 +5,15 @@ import com.bfg.platform.gen.model.AthleteBatchMigrationRequestItem;
 import com.bfg.platform.gen.model.AthleteCreateRequest;
 import com.bfg.platform.gen.model.AthleteDto;
 import com.bfg.platform.gen.model.AthleteUpdateRequest;
+import com.bfg.platform.gen.model.Gender;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class AthleteMapper {
@@ -35,6 +40,34 @@ public class AthleteMapper {
                     : null);
     }
 
+    /**
+     * Builds a sparse DTO from a $select projection row; fields that were not selected stay null.
+     */
+    public static AthleteDto toDto(Map<String, Object> row) {
+        AthleteDto dto = new AthleteDto();
+        row.forEach((field, value) -> {
+            switch (field) {
+                case "uuid" -> dto.setUuid((UUID) value);
+                case "firstName" -> dto.setFirstName((String) value);
+                case "middleName" -> dto.setMiddleName((String) value);
+                case "lastName" -> dto.setLastName((String) value);
+                case "dateOfBirth" -> dto.setDateOfBirth((LocalDate) value);
+                case "gender" -> dto.setGender((Gender) value);
+                case "medicalExaminationDue" -> dto.setMedicalExaminationDue((LocalDate) value);
+                case "insuranceFrom" -> dto.setInsuranceFrom((LocalDate) value);
+                case "insuranceTo" -> dto.setInsuranceTo((LocalDate) value);
+                case "registeredOn" -> dto.setRegisteredOn(value != null
+                    ? OffsetDateTime.ofInstant((Instant) value, ZoneOffset.UTC)
+                    : null);
+                case "modifiedAt" -> dto.setModifiedAt(value != null
+                    ? OffsetDateTime.ofInstant((Instant) value, ZoneOffset.UTC)
+                    : null);
+                default -> throw new IllegalArgumentException("Unsupported select field: " + field);
+            }
+        });
+        return dto;
+    }
+
     public static Athlete fromCreateRequest(AthleteCreateRequest request) {
         return Athlete.builder()
                 .firstName(request.getFirstName().trim())
@@ -0,0 +1,47 @@
+package com.bfg.platform.athlete.mapper;
+
+import com.bfg.platform.athlete.entity.AthleteMigrationJob;
+import com.bfg.platform.athlete.entity.AthleteMigrationJobSkip;
+import com.bfg.platform.gen.model.AthleteMigrationJobDto;
+import com.bfg.platform.gen.model.AthleteMigrationSkipDto;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+public class AthleteMigrationJobMapper {
+
+    private AthleteMigrationJobMapper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static AthleteMigrationJobDto toDto(AthleteMigrationJob job, List<AthleteMigrationJobSkip> skipped) {
+        if (job == null) return null;
+
+        AthleteMigrationJobDto dto = new AthleteMigrationJobDto();
+        dto.setId(job.getId());
+        dto.setStatus(job.getStatus());
+        dto.setYear(job.getYear());
+        dto.setRowsRead(job.getRowsRead());
+        dto.setMigratedCount(job.getMigratedCount());
+        dto.setSkippedCount(job.getSkippedCount());
+        dto.setError(job.getError());
+        dto.setCreatedAt(job.getCreatedAt() != null
+            ? OffsetDateTime.ofInstant(job.getCreatedAt(), ZoneOffset.UTC)
+            : null);
+        dto.setFinishedAt(job.getFinishedAt() != null
+            ? OffsetDateTime.ofInstant(job.getFinishedAt(), ZoneOffset.UTC)
+            : null);
+        dto.setSkipped(skipped.stream().map(AthleteMigrationJobMapper::toDto).toList());
+        return dto;
+    }
+
+    public static AthleteMigrationSkipDto toDto(AthleteMigrationJobSkip skip) {
+        AthleteMigrationSkipDto dto = new AthleteMigrationSkipDto();
+        dto.setRow(skip.getRowNumber());
+        dto.setOldCardNumber(skip.getOldCardNumber());
+        dto.setAthleteName(skip.getAthleteName());
+        dto.setReason(skip.getReason());
+        return dto;
+    }
+}
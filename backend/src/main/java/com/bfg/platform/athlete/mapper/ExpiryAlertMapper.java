@@ -0,0 +1,39 @@
+package com.bfg.platform.athlete.mapper;
+
+import com.bfg.platform.athlete.entity.Athlete;
+import com.bfg.platform.athlete.entity.ExpiryAlert;
+import com.bfg.platform.gen.model.ExpiryAlertDto;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ExpiryAlertMapper {
+
+    private ExpiryAlertMapper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static ExpiryAlertDto toDto(ExpiryAlert alert, LocalDate today) {
+        if (alert == null) return null;
+
+        ExpiryAlertDto dto = new ExpiryAlertDto();
+        dto.setUuid(alert.getId());
+        dto.setAthleteId(alert.getAthleteId());
+        dto.setAthleteName(athleteName(alert.getAthlete()));
+        dto.setClubId(alert.getClubId());
+        dto.setType(alert.getAlertType());
+        dto.setExpiresOn(alert.getExpiresOn());
+        dto.setDaysLeft((int) ChronoUnit.DAYS.between(today, alert.getExpiresOn()));
+        return dto;
+    }
+
+    public static String athleteName(Athlete athlete) {
+        if (athlete == null) return null;
+        return Stream.of(athlete.getFirstName(), athlete.getMiddleName(), athlete.getLastName())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -117,8 +117,8 @@ public final class AccreditationQueryAdapter {
         if (tokens.isEmpty()) {
             return Specification.where(null);
         }
+        // athlete and club are to-one joins, so no DISTINCT: it would also reject ORDER BY columns outside the projection
         return (root, query, cb) -> {
-            query.distinct(true);
             Join<Accreditation, Athlete> athleteJoin = root.join("athlete", JoinType.LEFT);
             Join<Accreditation, Club> clubJoin = root.join("club", JoinType.LEFT);
             List<Predicate> tokenPredicates = new ArrayList<>();
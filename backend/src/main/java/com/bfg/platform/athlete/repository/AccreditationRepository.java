@@ -11,8 +11,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -56,6 +58,9 @@ public interface AccreditationRepository extends JpaRepository<Accreditation, UU
         WHERE club_id = :clubId AND accreditation_number LIKE :prefixPattern
         """, nativeQuery = true)
     String findNextAthleteNumberForClub(@Param("clubId") UUID clubId, @Param("prefixPattern") String prefixPattern);
+
+    @Query("SELECT DISTINCT a.accreditationNumber FROM Accreditation a WHERE a.clubId = :clubId AND a.accreditationNumber IN :cardNumbers")
+    Set<String> findAccreditationNumbersIn(@Param("clubId") UUID clubId, @Param("cardNumbers") Collection<String> cardNumbers);
     
     @Query(value = """
         SELECT accreditation_number
@@ -65,5 +70,35 @@ public interface AccreditationRepository extends JpaRepository<Accreditation, UU
         LIMIT 1
         """, nativeQuery = true)
     Optional<String> findExistingCardNumberForAthleteAndClub(@Param("athleteId") UUID athleteId, @Param("clubId") UUID clubId);
+
+    @Query("SELECT a.athleteId FROM Accreditation a WHERE a.clubId = :clubId AND a.year = :year AND a.athleteId IN :athleteIds")
+    Set<UUID> findAccreditedAthleteIds(
+            @Param("clubId") UUID clubId,
+            @Param("year") Integer year,
+            @Param("athleteIds") Collection<UUID> athleteIds);
+
+    List<Accreditation> findByYearAndAthleteIdIn(Integer year, Collection<UUID> athleteIds);
+
+    @Query("SELECT DISTINCT a.athleteId FROM Accreditation a WHERE a.clubId = :clubId AND a.athleteId IN :athleteIds")
+    Set<UUID> findAthleteIdsWithClub(
+            @Param("clubId") UUID clubId,
+            @Param("athleteIds") Collection<UUID> athleteIds);
+
+    /** Batch form of findExistingCardNumberForAthleteAndClub: latest card number per athlete in the club */
+    @Query(value = """
+        SELECT DISTINCT ON (athlete_id) athlete_id AS athleteId, accreditation_number AS accreditationNumber
+        FROM accreditations
+        WHERE club_id = :clubId AND athlete_id IN (:athleteIds)
+        ORDER BY athlete_id, year DESC, created_at DESC
+        """, nativeQuery = true)
+    List<AthleteCardNumber> findExistingCardNumbersForAthletesAndClub(
+            @Param("clubId") UUID clubId,
+            @Param("athleteIds") Collection<UUID> athleteIds);
+
+    interface AthleteCardNumber {
+        UUID getAthleteId();
+
+        String getAccreditationNumber();
+    }
 }
 
@@ -0,0 +1,73 @@
+package com.bfg.platform.athlete.repository;
+
+import com.bfg.platform.athlete.entity.AthleteMigrationJob;
+import com.bfg.platform.gen.model.AthleteMigrationJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface AthleteMigrationJobRepository extends JpaRepository<AthleteMigrationJob, UUID> {
+
+    @Modifying
+    @Query(value = """
+        UPDATE athlete_migration_jobs
+        SET rows_read = rows_read + :rowsRead,
+            migrated_count = migrated_count + :migrated,
+            skipped_count = skipped_count + :skipped
+        WHERE id = :jobId
+        """, nativeQuery = true)
+    void addProgress(
+            @Param("jobId") UUID jobId,
+            @Param("rowsRead") int rowsRead,
+            @Param("migrated") int migrated,
+            @Param("skipped") int skipped);
+
+    @Modifying
+    @Query("UPDATE AthleteMigrationJob j SET j.status = :status, j.error = :error, j.finishedAt = :finishedAt WHERE j.id = :jobId")
+    void updateStatus(
+            @Param("jobId") UUID jobId,
+            @Param("status") AthleteMigrationJobStatus status,
+            @Param("error") String error,
+            @Param("finishedAt") Instant finishedAt);
+
+    @Modifying
+    @Query("UPDATE AthleteMigrationJob j SET j.heartbeatAt = :now WHERE j.ownerNode = :ownerNode AND j.status IN :unfinished")
+    int heartbeat(
+            @Param("ownerNode") String ownerNode,
+            @Param("unfinished") Collection<AthleteMigrationJobStatus> unfinished,
+            @Param("now") Instant now);
+
+    /** Fails unfinished jobs of the given node (it restarted) and jobs whose node stopped sending heartbeats */
+    @Modifying
+    @Query("""
+        UPDATE AthleteMigrationJob j SET j.status = :status, j.error = :error, j.finishedAt = :finishedAt
+        WHERE j.status IN :unfinished
+          AND (j.ownerNode = :ownerNode OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)
+        """)
+    int failInterrupted(
+            @Param("unfinished") Collection<AthleteMigrationJobStatus> unfinished,
+            @Param("ownerNode") String ownerNode,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("status") AthleteMigrationJobStatus status,
+            @Param("error") String error,
+            @Param("finishedAt") Instant finishedAt);
+
+    @Modifying
+    @Query("""
+        UPDATE AthleteMigrationJob j SET j.status = :status, j.error = :error, j.finishedAt = :finishedAt
+        WHERE j.status IN :unfinished AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)
+        """)
+    int failStale(
+            @Param("unfinished") Collection<AthleteMigrationJobStatus> unfinished,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("status") AthleteMigrationJobStatus status,
+            @Param("error") String error,
+            @Param("finishedAt") Instant finishedAt);
+}
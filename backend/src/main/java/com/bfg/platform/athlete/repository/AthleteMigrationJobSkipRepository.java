@@ -0,0 +1,15 @@
+package com.bfg.platform.athlete.repository;
+
+import com.bfg.platform.athlete.entity.AthleteMigrationJobSkip;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AthleteMigrationJobSkipRepository extends JpaRepository<AthleteMigrationJobSkip, UUID> {
+
+    List<AthleteMigrationJobSkip> findByJobIdOrderByRowNumberAsc(UUID jobId, Pageable pageable);
+}
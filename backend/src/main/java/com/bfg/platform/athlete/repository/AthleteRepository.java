@@ -6,8 +6,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,8 +25,53 @@ public interface AthleteRepository extends JpaRepository<Athlete, UUID>, JpaSpec
     @Override
     Optional<Athlete> findById(UUID id);
 
-    Optional<Athlete> findByFirstNameAndMiddleNameAndLastNameAndDateOfBirth(
-            String firstName, String middleName, String lastName, java.time.LocalDate dateOfBirth
-    );
+    /**
+     * Natural-key lookup that ignores case, surrounding whitespace and null vs empty middle names.
+     * Same predicate as the chunked migration lookup, on the idx_athletes_natural_key expressions.
+     */
+    default Optional<Athlete> findByNaturalKey(
+            String firstName, String middleName, String lastName, LocalDate dateOfBirth) {
+        return findFirstByNormalizedNaturalKey(
+                normalizeNamePart(firstName), normalizeNamePart(middleName), normalizeNamePart(lastName), dateOfBirth);
+    }
+
+    @Query(value = """
+        SELECT * FROM athletes
+        WHERE lower(first_name) = :firstName
+          AND lower(COALESCE(middle_name, '')) = :middleName
+          AND lower(last_name) = :lastName
+          AND date_of_birth = :dateOfBirth
+        ORDER BY id
+        LIMIT 1
+        """, nativeQuery = true)
+    Optional<Athlete> findFirstByNormalizedNaturalKey(
+            @Param("firstName") String firstName,
+            @Param("middleName") String middleName,
+            @Param("lastName") String lastName,
+            @Param("dateOfBirth") LocalDate dateOfBirth);
+
+    private static String normalizeNamePart(String value) {
+        return value == null ? "" : value.trim().toLowerCase(java.util.Locale.ROOT);
+    }
+
+    /**
+     * Sets insurance and/or medical dates for many athletes in one statement and returns the updated rows.
+     * A group is only written when its flag is set; untouched columns keep their values.
+     */
+    @Query(value = """
+        UPDATE athletes
+        SET insurance_from = CASE WHEN :setInsurance THEN CAST(:insuranceFrom AS DATE) ELSE insurance_from END,
+            insurance_to = CASE WHEN :setInsurance THEN CAST(:insuranceTo AS DATE) ELSE insurance_to END,
+            medical_examination_due = CASE WHEN :setMedical THEN CAST(:medicalExaminationDue AS DATE) ELSE medical_examination_due END
+        WHERE id IN (:athleteIds)
+        RETURNING *
+        """, nativeQuery = true)
+    List<Athlete> bulkUpdateMedicalInfo(
+            @Param("athleteIds") Collection<UUID> athleteIds,
+            @Param("setInsurance") boolean setInsurance,
+            @Param("insuranceFrom") LocalDate insuranceFrom,
+            @Param("insuranceTo") LocalDate insuranceTo,
+            @Param("setMedical") boolean setMedical,
+            @Param("medicalExaminationDue") LocalDate medicalExaminationDue);
 }
 
@@ -0,0 +1,143 @@
+package com.bfg.platform.athlete.repository;
+
+import com.bfg.platform.athlete.entity.ExpiryAlert;
+import com.bfg.platform.gen.model.ExpiryAlertType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The insert statements take the date window [from, to] that has not been scanned yet, plus
+ * everything in [today, to] touched since the previous run (changed dates, new accreditations),
+ * so each run reads only a thin slice of athletes and accreditations through the date indexes.
+ * Athletes are alerted for every club they hold an accreditation with for the current or a later year.
+ */
+@Repository
+public interface ExpiryAlertRepository extends JpaRepository<ExpiryAlert, UUID> {
+
+    @EntityGraph(attributePaths = "athlete")
+    @Query(value = """
+        SELECT e FROM ExpiryAlert e
+        WHERE (:clubId IS NULL OR e.clubId = :clubId)
+          AND (:type IS NULL OR e.alertType = :type)
+          AND (CAST(:until AS LocalDate) IS NULL OR e.expiresOn <= :until)
+        ORDER BY e.expiresOn, e.id
+        """,
+            countQuery = """
+        SELECT COUNT(e) FROM ExpiryAlert e
+        WHERE (:clubId IS NULL OR e.clubId = :clubId)
+          AND (:type IS NULL OR e.alertType = :type)
+          AND (CAST(:until AS LocalDate) IS NULL OR e.expiresOn <= :until)
+        """)
+    Page<ExpiryAlert> findAlerts(
+            @Param("clubId") UUID clubId,
+            @Param("type") ExpiryAlertType type,
+            @Param("until") LocalDate until,
+            Pageable pageable);
+
+    @EntityGraph(attributePaths = "athlete")
+    List<ExpiryAlert> findByNotifiedAtIsNullOrderByClubIdAscExpiresOnAsc();
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO expiry_alerts (id, athlete_id, club_id, alert_type, expires_on)
+        SELECT gen_random_uuid(), a.id, acc.club_id, 'MEDICAL_EXAMINATION', a.medical_examination_due
+        FROM athletes a
+        JOIN accreditations acc ON acc.athlete_id = a.id
+        WHERE acc.year >= :currentYear
+          AND acc.status NOT IN ('EXPIRED', 'SUSPENDED')
+          AND (a.medical_examination_due BETWEEN :from AND :to
+               OR (a.medical_examination_due BETWEEN :today AND :to
+                   AND (a.modified_at >= :since OR acc.created_at >= :since)))
+        ON CONFLICT (athlete_id, club_id, alert_type, expires_on) DO NOTHING
+        """, nativeQuery = true)
+    int insertMedicalExaminationAlerts(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("today") LocalDate today,
+            @Param("since") Instant since,
+            @Param("currentYear") int currentYear);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO expiry_alerts (id, athlete_id, club_id, alert_type, expires_on)
+        SELECT gen_random_uuid(), a.id, acc.club_id, 'INSURANCE', a.insurance_to
+        FROM athletes a
+        JOIN accreditations acc ON acc.athlete_id = a.id
+        WHERE acc.year >= :currentYear
+          AND acc.status NOT IN ('EXPIRED', 'SUSPENDED')
+          AND (a.insurance_to BETWEEN :from AND :to
+               OR (a.insurance_to BETWEEN :today AND :to
+                   AND (a.modified_at >= :since OR acc.created_at >= :since)))
+        ON CONFLICT (athlete_id, club_id, alert_type, expires_on) DO NOTHING
+        """, nativeQuery = true)
+    int insertInsuranceAlerts(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("today") LocalDate today,
+            @Param("since") Instant since,
+            @Param("currentYear") int currentYear);
+
+    /** Accreditations are valid until the end of their year */
+    @Modifying
+    @Query(value = """
+        INSERT INTO expiry_alerts (id, athlete_id, club_id, alert_type, expires_on)
+        SELECT gen_random_uuid(), acc.athlete_id, acc.club_id, 'ACCREDITATION', make_date(acc.year, 12, 31)
+        FROM accreditations acc
+        WHERE acc.year BETWEEN EXTRACT(YEAR FROM CAST(:today AS DATE)) AND EXTRACT(YEAR FROM CAST(:to AS DATE))
+          AND acc.status NOT IN ('EXPIRED', 'SUSPENDED')
+          AND (make_date(acc.year, 12, 31) BETWEEN :from AND :to
+               OR (make_date(acc.year, 12, 31) BETWEEN :today AND :to AND acc.created_at >= :since))
+          AND NOT EXISTS (
+              SELECT 1 FROM accreditations next
+              WHERE next.athlete_id = acc.athlete_id AND next.club_id = acc.club_id AND next.year = acc.year + 1)
+        ON CONFLICT (athlete_id, club_id, alert_type, expires_on) DO NOTHING
+        """, nativeQuery = true)
+    int insertAccreditationAlerts(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("today") LocalDate today,
+            @Param("since") Instant since);
+
+    /** Drops alerts whose date was renewed since they were raised */
+    @Modifying
+    @Query(value = """
+        DELETE FROM expiry_alerts e
+        USING athletes a
+        WHERE e.athlete_id = a.id
+          AND ((e.alert_type = 'MEDICAL_EXAMINATION' AND a.medical_examination_due IS DISTINCT FROM e.expires_on)
+               OR (e.alert_type = 'INSURANCE' AND a.insurance_to IS DISTINCT FROM e.expires_on))
+        """, nativeQuery = true)
+    int deleteRenewedAthleteAlerts();
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM expiry_alerts e
+        WHERE e.alert_type = 'ACCREDITATION'
+          AND EXISTS (
+              SELECT 1 FROM accreditations next
+              WHERE next.athlete_id = e.athlete_id
+                AND next.club_id = e.club_id
+                AND next.year = EXTRACT(YEAR FROM e.expires_on) + 1)
+        """, nativeQuery = true)
+    int deleteRenewedAccreditationAlerts();
+
+    @Modifying
+    @Query("DELETE FROM ExpiryAlert e WHERE e.expiresOn < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDate cutoff);
+
+    @Modifying
+    @Query(value = "UPDATE expiry_alerts SET notified_at = :notifiedAt WHERE id IN (:ids)", nativeQuery = true)
+    void markNotified(@Param("ids") Collection<UUID> ids, @Param("notifiedAt") Instant notifiedAt);
+}
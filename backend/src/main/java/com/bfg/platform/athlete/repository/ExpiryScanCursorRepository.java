@@ -0,0 +1,46 @@
+package com.bfg.platform.athlete.repository;
+
+import com.bfg.platform.athlete.entity.ExpiryScanCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ExpiryScanCursorRepository extends JpaRepository<ExpiryScanCursor, String> {
+
+    /** Serializes scanner runs across instances for the rest of the transaction */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ExpiryScanCursor c WHERE c.scanKey = :scanKey")
+    Optional<ExpiryScanCursor> lockByScanKey(@Param("scanKey") String scanKey);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO expiry_scan_cursors (scan_key, scanned_through, last_run_at)
+        VALUES (:scanKey, :scannedThrough, :lastRunAt)
+        ON CONFLICT (scan_key) DO NOTHING
+        """, nativeQuery = true)
+    void seed(
+            @Param("scanKey") String scanKey,
+            @Param("scannedThrough") LocalDate scannedThrough,
+            @Param("lastRunAt") Instant lastRunAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+        UPDATE expiry_scan_cursors
+        SET scanned_through = GREATEST(scanned_through, :scannedThrough),
+            last_run_at = :lastRunAt
+        WHERE scan_key = :scanKey
+        """, nativeQuery = true)
+    void advance(
+            @Param("scanKey") String scanKey,
+            @Param("scannedThrough") LocalDate scannedThrough,
+            @Param("lastRunAt") Instant lastRunAt);
+}
@@ -21,7 +21,8 @@ public interface AccreditationService {
             List<String> orderBy,
             Integer top,
             Integer skip,
-            List<String> expand
+            List<String> expand,
+            List<String> select
     );
     Optional<AccreditationDto> getAccreditationByUuid(UUID uuid, List<String> expand);
     
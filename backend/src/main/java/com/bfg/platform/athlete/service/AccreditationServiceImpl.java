@@ -8,6 +8,7 @@ import com.bfg.platform.athlete.mapper.AthleteMapper;
 import com.bfg.platform.athlete.repository.AthleteRepository;
 import com.bfg.platform.club.entity.Club;
 import com.bfg.platform.club.repository.ClubRepository;
+import com.bfg.platform.club.service.CardNumberAllocator;
 import com.bfg.platform.common.exception.ConflictException;
 import com.bfg.platform.common.exception.ResourceNotFoundException;
 import com.bfg.platform.common.exception.ValidationException;
@@ -19,6 +20,8 @@ import com.bfg.platform.common.query.EnhancedFilterExpressionParser;
 import com.bfg.platform.common.query.EnhancedSortParser;
 import com.bfg.platform.common.query.ExpandQueryParser;
 import com.bfg.platform.common.query.OffsetBasedPageRequest;
+import com.bfg.platform.common.query.SelectQueryExecutor;
+import com.bfg.platform.common.query.SelectQueryParser;
 import com.bfg.platform.common.repository.DynamicEntityGraph;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
@@ -40,6 +43,7 @@ import com.bfg.platform.gen.model.AthleteBatchMigrationResponseSkippedInner;
 import com.bfg.platform.gen.model.AthleteCreateRequest;
 import com.bfg.platform.gen.model.AthleteDto;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -67,6 +71,7 @@ public class AccreditationServiceImpl implements AccreditationService {
     private final ScopeAccessValidator scopeAccessValidator;
     private final PlatformTransactionManager transactionManager;
     private final EntityManager entityManager;
+    private final CardNumberAllocator cardNumberAllocator;
 
     @Override
     @Transactional(readOnly = true)
@@ -76,12 +81,14 @@ public class AccreditationServiceImpl implements AccreditationService {
             List<String> orderBy,
             Integer top,
             Integer skip,
-            List<String> expand
+            List<String> expand,
+            List<String> select
     ) {
         // Validate scope filter - throws 403 if requesting disallowed scopes
         scopeAccessValidator.validateFilterScope(filter);
 
         Set<String> requestedExpand = ExpandQueryParser.parse(expand, Accreditation.class);
+        Set<String> requestedSelect = SelectQueryParser.parse(select, Accreditation.class, requestedExpand);
 
         EnhancedFilterExpressionParser.ParseResult<Accreditation> filterResult =
                 AccreditationQueryAdapter.parseFilter(filter, requestedExpand);
@@ -105,6 +112,12 @@ public class AccreditationServiceImpl implements AccreditationService {
         allExpandFields.addAll(usedInSort);
         
         Pageable pageable = OffsetBasedPageRequest.of(skip, top, sort);
+
+        // Sparse fieldset: project only the selected columns, expanded relations become plain joins
+        if (!requestedSelect.isEmpty()) {
+            return SelectQueryExecutor.findAll(entityManager, Accreditation.class, spec, pageable, requestedSelect)
+                    .map(AccreditationMapper::toDto);
+        }
         
         Page<Accreditation> page;
         if (!allExpandFields.isEmpty()) {
@@ -176,62 +189,171 @@ public class AccreditationServiceImpl implements AccreditationService {
 
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
         transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-        
-        for (UUID athleteId : athleteIds) {
-            transactionTemplate.execute(status -> {
-                try {
-                    Athlete athlete = athleteMap.get(athleteId);
-                    if (athlete == null) {
-                        throw new ValidationException("Athlete not found");
-                    }
 
-                    boolean exists = accreditationRepository.existsByAthleteIdAndClubIdAndYear(athleteId, clubId, currentYear);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    renewAsBatch(club, athleteIds, athleteMap, currentYear, renewed, failed));
+        } catch (DataAccessException e) {
+            // Concurrent renewal or card number clash - redo athlete by athlete so only the conflicting ones fail
+            renewed.clear();
+            failed.clear();
+            renewIndividually(club, athleteIds, athleteMap, currentYear, transactionTemplate, renewed, failed);
+        }
 
-                    if (exists) {
-                        throw new ConflictException("Accreditation for this athlete and year already exists");
-                    }
+        AccreditationBatchRenewalResponse response = 
+                new AccreditationBatchRenewalResponse();
+        response.setRenewed(renewed);
+        response.setFailed(failed);
+        return response;
+    }
 
-                    String cardNumber;
-                    Optional<String> existingCardNumber = accreditationRepository
-                            .findExistingCardNumberForAthleteAndClub(athleteId, clubId);
+    /**
+     * Set-based renewal: existence and existing card numbers are checked for the whole batch in two
+     * queries, new card numbers are allocated as one block and all rows are inserted in one JDBC batch.
+     */
+    private void renewAsBatch(
+            Club club,
+            List<UUID> athleteIds,
+            java.util.Map<UUID, Athlete> athleteMap,
+            int currentYear,
+            List<AccreditationDto> renewed,
+            List<AccreditationBatchRenewalResponseFailedInner> failed) {
+        UUID clubId = club.getId();
+
+        Set<UUID> alreadyAccredited = athleteMap.isEmpty() ? Set.of()
+                : accreditationRepository.findAccreditedAthleteIds(clubId, currentYear, athleteMap.keySet());
+        java.util.Map<UUID, String> existingCardNumbers = athleteMap.isEmpty() ? java.util.Map.of()
+                : accreditationRepository.findExistingCardNumbersForAthletesAndClub(clubId, athleteMap.keySet()).stream()
+                        .collect(java.util.stream.Collectors.toMap(
+                                AccreditationRepository.AthleteCardNumber::getAthleteId,
+                                AccreditationRepository.AthleteCardNumber::getAccreditationNumber));
+
+        // Rejections are kept by request position so the failed list follows the request order
+        String[] rejections = new String[athleteIds.size()];
+        List<Integer> accepted = new ArrayList<>();
+        Set<UUID> seen = new java.util.HashSet<>();
+        for (int i = 0; i < athleteIds.size(); i++) {
+            UUID athleteId = athleteIds.get(i);
+            Athlete athlete = athleteMap.get(athleteId);
+            if (athlete == null) {
+                rejections[i] = "Athlete not found";
+            } else if (alreadyAccredited.contains(athleteId) || !seen.add(athleteId)) {
+                rejections[i] = "Accreditation for this athlete and year already exists";
+            } else {
+                accepted.add(i);
+            }
+        }
 
-                    if (existingCardNumber.isPresent()) {
-                        cardNumber = existingCardNumber.get();
-                    } else {
-                        cardNumber = generateNextCardNumber(club.getCardPrefix(), clubId);
-                    }
+        int newNumbersNeeded = (int) accepted.stream()
+                .filter(i -> !existingCardNumbers.containsKey(athleteIds.get(i)))
+                .count();
+        java.util.Iterator<Integer> newNumbers = cardNumberAllocator
+                .nextAthleteNumbers(clubId, club.getCardPrefix(), newNumbersNeeded).iterator();
+
+        List<Accreditation> accreditations = new ArrayList<>();
+        for (int i : accepted) {
+            UUID athleteId = athleteIds.get(i);
+            String cardNumber = existingCardNumbers.get(athleteId);
+            if (cardNumber == null) {
+                int number = newNumbers.next();
+                if (number > 9999) {
+                    rejections[i] = maxCardNumbersReachedMessage(club.getCardPrefix());
+                    continue;
+                }
+                cardNumber = club.getCardPrefix() + String.format("%04d", number);
+            }
+            accreditations.add(AccreditationMapper.createNewAccreditation(
+                    athleteId,
+                    clubId,
+                    cardNumber,
+                    currentYear,
+                    AccreditationStatus.PENDING_VALIDATION
+            ));
+        }
 
-                    Accreditation accreditation = AccreditationMapper.createNewAccreditation(
-                            athleteId,
-                            clubId,
-                            cardNumber,
-                            currentYear,
-                            AccreditationStatus.PENDING_VALIDATION
-                    );
+        accreditationRepository.saveAllAndFlush(accreditations)
+                .forEach(saved -> renewed.add(AccreditationMapper.toDto(saved)));
 
-                    Accreditation saved = accreditationRepository.save(accreditation);
-                    renewed.add(AccreditationMapper.toDto(saved));
-                } catch (ValidationException | ConflictException e) {
-                    Athlete athlete = athleteMap.get(athleteId);
-                    String athleteName = getAthleteName(athlete);
-                    addFailed(failed, athleteId, athleteName, e.getMessage());
-                    status.setRollbackOnly();
-                } catch (Exception e) {
-                    Athlete athlete = athleteMap.get(athleteId);
-                    String athleteName = getAthleteName(athlete);
-                    String errorMessage = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
-                    addFailed(failed, athleteId, athleteName, "Error: " + errorMessage);
+        for (int i = 0; i < rejections.length; i++) {
+            if (rejections[i] != null) {
+                UUID athleteId = athleteIds.get(i);
+                addFailed(failed, athleteId, getAthleteName(athleteMap.get(athleteId)), rejections[i]);
+            }
+        }
+    }
+
+    private void renewIndividually(
+            Club club,
+            List<UUID> athleteIds,
+            java.util.Map<UUID, Athlete> athleteMap,
+            int currentYear,
+            TransactionTemplate transactionTemplate,
+            List<AccreditationDto> renewed,
+            List<AccreditationBatchRenewalResponseFailedInner> failed) {
+        for (UUID athleteId : athleteIds) {
+            String athleteName = getAthleteName(athleteMap.get(athleteId));
+            try {
+                AccreditationDto saved = transactionTemplate.execute(status -> {
+                    try {
+                        return renewOne(club, athleteId, athleteMap, currentYear);
+                    } catch (ValidationException | ConflictException e) {
+                        addFailed(failed, athleteId, athleteName, e.getMessage());
+                    } catch (Exception e) {
+                        addFailed(failed, athleteId, athleteName, "Error: " + errorMessage(e));
+                    }
                     status.setRollbackOnly();
+                    return null;
+                });
+                if (saved != null) {
+                    renewed.add(saved);
                 }
-                return null;
-            });
+            } catch (RuntimeException e) {
+                // Failed on commit, after the row's own handling - still only this athlete fails
+                addFailed(failed, athleteId, athleteName, "Error: " + errorMessage(e));
+            }
         }
-        
-        AccreditationBatchRenewalResponse response = 
-                new AccreditationBatchRenewalResponse();
-        response.setRenewed(renewed);
-        response.setFailed(failed);
-        return response;
+    }
+
+    private AccreditationDto renewOne(
+            Club club,
+            UUID athleteId,
+            java.util.Map<UUID, Athlete> athleteMap,
+            int currentYear) {
+        UUID clubId = club.getId();
+        if (athleteMap.get(athleteId) == null) {
+            throw new ValidationException("Athlete not found");
+        }
+
+        boolean exists = accreditationRepository.existsByAthleteIdAndClubIdAndYear(athleteId, clubId, currentYear);
+
+        if (exists) {
+            throw new ConflictException("Accreditation for this athlete and year already exists");
+        }
+
+        String cardNumber;
+        Optional<String> existingCardNumber = accreditationRepository
+                .findExistingCardNumberForAthleteAndClub(athleteId, clubId);
+
+        if (existingCardNumber.isPresent()) {
+            cardNumber = existingCardNumber.get();
+        } else {
+            cardNumber = generateNextCardNumber(club.getCardPrefix(), clubId);
+        }
+
+        Accreditation accreditation = AccreditationMapper.createNewAccreditation(
+                athleteId,
+                clubId,
+                cardNumber,
+                currentYear,
+                AccreditationStatus.PENDING_VALIDATION
+        );
+
+        // Flush here so a constraint violation is reported for this row, not on commit
+        return AccreditationMapper.toDto(accreditationRepository.saveAndFlush(accreditation));
+    }
+
+    private static String errorMessage(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
     }
 
     private String getAthleteName(Athlete athlete) {
@@ -263,7 +385,7 @@ public class AccreditationServiceImpl implements AccreditationService {
         Club club = clubRepository.findById(clubId)
                 .orElseThrow(() -> new ResourceNotFoundException("Club", clubId));
 
-        Optional<Athlete> existingAthlete = athleteRepository.findByFirstNameAndMiddleNameAndLastNameAndDateOfBirth(
+        Optional<Athlete> existingAthlete = athleteRepository.findByNaturalKey(
                 request.getFirstName(),
                 request.getMiddleName(),
                 request.getLastName(),
@@ -371,13 +493,13 @@ public class AccreditationServiceImpl implements AccreditationService {
 
 
     private AthleteDto migrateSingleAthlete(AthleteBatchMigrationRequestItem item, Integer year, int currentYear) {
-        String newCardNumber = parseAndConvertCardNumber(item.getOldCardNumber());
+        String newCardNumber = AccreditationMapper.convertLegacyCardNumber(item.getOldCardNumber());
         Club club = clubRepository.findByCardPrefixAndType(newCardNumber.substring(0, 2), com.bfg.platform.gen.model.ScopeType.INTERNAL)
                 .orElseThrow(() -> new ValidationException(
                 "No internal club found with card prefix: " + newCardNumber.substring(0, 2)
         ));
 
-        Optional<Athlete> existingAthlete = athleteRepository.findByFirstNameAndMiddleNameAndLastNameAndDateOfBirth(
+        Optional<Athlete> existingAthlete = athleteRepository.findByNaturalKey(
                 item.getFirstName(),
                 item.getMiddleName(),
                 item.getLastName(),
@@ -412,49 +534,21 @@ public class AccreditationServiceImpl implements AccreditationService {
         );
         
         saveAccreditation(accreditation);
+        cardNumberAllocator.athleteNumberUsed(club.getId(), AccreditationMapper.athleteNumberOf(newCardNumber));
         return AthleteMapper.toDto(athlete);
     }
 
-    private String parseAndConvertCardNumber(String oldCardNumber) {
-        if (oldCardNumber.length() == 6) {
-            return oldCardNumber;
-        }
-        
-        String clubPrefix;
-        String athleteSuffix;
-        
-        if (oldCardNumber.length() == 4) {
-            clubPrefix = normalizeClubPrefix(oldCardNumber.substring(0, 1));
-            athleteSuffix = oldCardNumber.substring(1);
-        } else if (oldCardNumber.length() == 5) {
-            clubPrefix = normalizeClubPrefix(oldCardNumber.substring(0, 2));
-            athleteSuffix = oldCardNumber.substring(2);
-        } else {
-            throw new ValidationException("Invalid card number format: " + oldCardNumber);
-        }
-
-        String athleteNumber = String.format("%04d", Integer.parseInt(athleteSuffix));
-        
-        return clubPrefix + athleteNumber;
-    }
-
-    private String normalizeClubPrefix(String prefix) {
-        int prefixNum = Integer.parseInt(prefix);
-        return String.format("%02d", prefixNum);
-    }
-
     private String generateNextCardNumber(String clubPrefix, UUID clubId) {
-        String prefixPattern = clubPrefix + "%";
-        String athleteNumber = accreditationRepository.findNextAthleteNumberForClub(clubId, prefixPattern);
-
-        int nextNumber = Integer.parseInt(athleteNumber);
+        int nextNumber = cardNumberAllocator.nextAthleteNumber(clubId, clubPrefix);
         if (nextNumber > 9999) {
-            throw new ValidationException(
-                String.format("Maximum number of athletes (9999) reached for club with prefix %s. Cannot generate new card number.", clubPrefix)
-            );
+            throw new ValidationException(maxCardNumbersReachedMessage(clubPrefix));
         }
 
-        return clubPrefix + athleteNumber;
+        return clubPrefix + String.format("%04d", nextNumber);
+    }
+
+    private static String maxCardNumbersReachedMessage(String clubPrefix) {
+        return String.format("Maximum number of athletes (9999) reached for club with prefix %s. Cannot generate new card number.", clubPrefix);
     }
 
     private void saveAccreditation(Accreditation accreditation) {
@@ -0,0 +1,127 @@
+package com.bfg.platform.athlete.service;
+
+import com.bfg.platform.common.exception.ValidationException;
+import com.bfg.platform.common.util.CsvUtils;
+import com.bfg.platform.gen.model.AthleteBatchMigrationRequestItem;
+import com.bfg.platform.gen.model.Gender;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Streams athlete migration rows out of an uploaded file one line at a time.
+ * NDJSON: one AthleteBatchMigrationRequestItem object per line.
+ * CSV: header row with oldCardNumber, firstName, middleName, lastName, gender, dateOfBirth
+ * (comma or semicolon separated; dates as yyyy-MM-dd or dd.MM.yyyy).
+ */
+final class AthleteMigrationFileReader {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "oldcardnumber", "firstname", "middlename", "lastname", "gender", "dateofbirth");
+    private static final DateTimeFormatter LEGACY_DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private AthleteMigrationFileReader() {}
+
+    /** One parsed row; rowNumber is 1-based and excludes the CSV header. error is set when the row could not be parsed */
+    record Row(int rowNumber, AthleteBatchMigrationRequestItem item, String error) {}
+
+    static boolean isCsv(String filename, String contentType) {
+        if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".csv")) return true;
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv");
+    }
+
+    static void read(Path file, boolean csv, ObjectMapper objectMapper, Consumer<Row> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (csv) {
+                readCsv(reader, consumer);
+            } else {
+                readNdjson(reader, objectMapper, consumer);
+            }
+        }
+    }
+
+    private static void readNdjson(BufferedReader reader, ObjectMapper objectMapper, Consumer<Row> consumer) throws IOException {
+        String line;
+        int rowNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            rowNumber++;
+            try {
+                consumer.accept(new Row(rowNumber, objectMapper.readValue(line, AthleteBatchMigrationRequestItem.class), null));
+            } catch (JsonProcessingException e) {
+                consumer.accept(new Row(rowNumber, null, "Invalid JSON: " + e.getOriginalMessage()));
+            }
+        }
+    }
+
+    private static void readCsv(BufferedReader reader, Consumer<Row> consumer) throws IOException {
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new ValidationException("Migration file is empty");
+        }
+        char delimiter = CsvUtils.detectDelimiter(headerLine);
+        List<String> header = CsvUtils.parseHeader(headerLine, delimiter);
+        int[] positions = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = header.indexOf(CSV_COLUMNS.get(i));
+            if (positions[i] < 0 && !"middlename".equals(CSV_COLUMNS.get(i))) {
+                throw new ValidationException("Missing CSV column: " + CSV_COLUMNS.get(i));
+            }
+        }
+
+        String line;
+        int rowNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            rowNumber++;
+            List<String> fields = CsvUtils.split(line, delimiter);
+            try {
+                AthleteBatchMigrationRequestItem item = new AthleteBatchMigrationRequestItem();
+                item.setOldCardNumber(field(fields, positions[0]));
+                item.setFirstName(field(fields, positions[1]));
+                item.setMiddleName(field(fields, positions[2]));
+                item.setLastName(field(fields, positions[3]));
+                item.setGender(parseGender(field(fields, positions[4])));
+                item.setDateOfBirth(parseDate(field(fields, positions[5])));
+                consumer.accept(new Row(rowNumber, item, null));
+            } catch (ValidationException e) {
+                consumer.accept(new Row(rowNumber, null, e.getMessage()));
+            }
+        }
+    }
+
+    private static String field(List<String> fields, int position) {
+        if (position < 0 || position >= fields.size()) return null;
+        String value = fields.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Gender parseGender(String value) {
+        if (value == null) return null;
+        try {
+            return Gender.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid gender: " + value);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) return null;
+        try {
+            return value.indexOf('.') > 0 ? LocalDate.parse(value, LEGACY_DATE) : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid date of birth: " + value);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.bfg.platform.athlete.service;
+
+import com.bfg.platform.gen.model.AthleteMigrationJobDto;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AthleteMigrationJobService {
+    AthleteMigrationJobDto startJob(MultipartFile file, Integer year);
+    Optional<AthleteMigrationJobDto> getJob(UUID jobId, Integer top, Integer skip);
+}
@@ -0,0 +1,476 @@
+package com.bfg.platform.athlete.service;
+
+import com.bfg.platform.athlete.entity.Accreditation;
+import com.bfg.platform.athlete.entity.Athlete;
+import com.bfg.platform.athlete.entity.AthleteMigrationJob;
+import com.bfg.platform.athlete.entity.AthleteMigrationJobSkip;
+import com.bfg.platform.athlete.mapper.AccreditationMapper;
+import com.bfg.platform.athlete.mapper.AthleteMapper;
+import com.bfg.platform.athlete.mapper.AthleteMigrationJobMapper;
+import com.bfg.platform.athlete.repository.AccreditationRepository;
+import com.bfg.platform.athlete.repository.AthleteMigrationJobRepository;
+import com.bfg.platform.athlete.repository.AthleteMigrationJobSkipRepository;
+import com.bfg.platform.athlete.repository.AthleteRepository;
+import com.bfg.platform.club.entity.Club;
+import com.bfg.platform.club.repository.ClubRepository;
+import com.bfg.platform.club.service.CardNumberAllocator;
+import com.bfg.platform.common.exception.ConflictException;
+import com.bfg.platform.common.exception.ServiceException;
+import com.bfg.platform.common.exception.ValidationException;
+import com.bfg.platform.common.query.OffsetBasedPageRequest;
+import com.bfg.platform.gen.model.AccreditationStatus;
+import com.bfg.platform.gen.model.AthleteBatchMigrationRequest;
+import com.bfg.platform.gen.model.AthleteBatchMigrationRequestItem;
+import com.bfg.platform.gen.model.AthleteBatchMigrationResponse;
+import com.bfg.platform.gen.model.AthleteBatchMigrationResponseSkippedInner;
+import com.bfg.platform.gen.model.AthleteMigrationJobDto;
+import com.bfg.platform.gen.model.AthleteMigrationJobStatus;
+import com.bfg.platform.gen.model.ScopeType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Background counterpart of AccreditationService.batchMigrateAthletes for the yearly legacy import.
+ * The uploaded file is streamed row by row and processed in chunks; every chunk resolves existing
+ * athletes with one tuple-IN query on the normalized natural key (idx_athletes_natural_key),
+ * checks existing accreditations with one query and writes athletes, accreditations and skips
+ * with batched inserts in a single transaction. A chunk that fails as a whole is replayed
+ * through the per-item legacy path so one bad row only costs that row.
+ */
+@Service
+@Slf4j
+public class AthleteMigrationJobServiceImpl implements AthleteMigrationJobService {
+
+    private static final Set<AthleteMigrationJobStatus> UNFINISHED =
+            Set.of(AthleteMigrationJobStatus.QUEUED, AthleteMigrationJobStatus.RUNNING);
+
+    private final AthleteMigrationJobRepository jobRepository;
+    private final AthleteMigrationJobSkipRepository skipRepository;
+    private final AthleteRepository athleteRepository;
+    private final AccreditationRepository accreditationRepository;
+    private final ClubRepository clubRepository;
+    private final AccreditationService accreditationService;
+    private final CardNumberAllocator cardNumberAllocator;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate chunkTransaction;
+    private final ThreadPoolTaskExecutor executor;
+    private final int chunkSize;
+    private final String nodeId;
+    private final Duration staleAfter;
+
+    public AthleteMigrationJobServiceImpl(
+            AthleteMigrationJobRepository jobRepository,
+            AthleteMigrationJobSkipRepository skipRepository,
+            AthleteRepository athleteRepository,
+            AccreditationRepository accreditationRepository,
+            ClubRepository clubRepository,
+            AccreditationService accreditationService,
+            CardNumberAllocator cardNumberAllocator,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            @Value("${bfg.athlete-migration.chunk-size:500}") int chunkSize,
+            @Value("${bfg.athlete-migration.queue-capacity:10}") int queueCapacity,
+            @Value("${bfg.athlete-migration.node-id:}") String nodeId,
+            @Value("${bfg.athlete-migration.stale-after-ms:300000}") long staleAfterMs
+    ) {
+        this.jobRepository = jobRepository;
+        this.skipRepository = skipRepository;
+        this.athleteRepository = athleteRepository;
+        this.accreditationRepository = accreditationRepository;
+        this.clubRepository = clubRepository;
+        this.accreditationService = accreditationService;
+        this.cardNumberAllocator = cardNumberAllocator;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // One job at a time: imports compete for the same clubs and athletes
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("athlete-migration-");
+        this.executor.initialize();
+    }
+
+    @Override
+    public AthleteMigrationJobDto startJob(MultipartFile file, Integer year) {
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException("Migration file is required");
+        }
+        if (year == null) {
+            throw new ValidationException("Year is required");
+        }
+        if (year > Year.now().getValue()) {
+            throw new ValidationException("Accreditation year cannot be in the future");
+        }
+
+        boolean csv = AthleteMigrationFileReader.isCsv(file.getOriginalFilename(), file.getContentType());
+        Path upload;
+        try {
+            upload = Files.createTempFile("athlete-migration-", csv ? ".csv" : ".ndjson");
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new ServiceException("Failed to store migration file", e);
+        }
+
+        AthleteMigrationJob job = jobRepository.save(AthleteMigrationJob.builder()
+                .status(AthleteMigrationJobStatus.QUEUED)
+                .year(year)
+                .ownerNode(nodeId)
+                .heartbeatAt(Instant.now())
+                .build());
+
+        try {
+            executor.execute(() -> runJob(job.getId(), year, upload, csv));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(upload);
+            finishJob(job.getId(), AthleteMigrationJobStatus.FAILED, "Migration queue is full");
+            throw new ConflictException("Too many athlete migrations are queued, try again later");
+        }
+        return AthleteMigrationJobMapper.toDto(job, List.of());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AthleteMigrationJobDto> getJob(UUID jobId, Integer top, Integer skip) {
+        return jobRepository.findById(jobId)
+                .map(job -> AthleteMigrationJobMapper.toDto(job, skipRepository.findByJobIdOrderByRowNumberAsc(
+                        jobId, OffsetBasedPageRequest.of(skip, top, Sort.unsorted()))));
+    }
+
+    /**
+     * Jobs do not survive a restart; their temp files are gone, so report them as failed. Other
+     * replicas keep running theirs: only jobs of this node (same node id before the restart) and
+     * jobs without a recent heartbeat are failed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        Instant now = Instant.now();
+        Integer failed = chunkTransaction.execute(status -> jobRepository.failInterrupted(
+                UNFINISHED, nodeId, now.minus(staleAfter),
+                AthleteMigrationJobStatus.FAILED, "Interrupted by application restart", now));
+        if (failed != null && failed > 0) {
+            log.warn("Marked {} interrupted athlete migration job(s) as failed", failed);
+        }
+    }
+
+    /** Keeps this node's queued and running jobs alive and fails those of nodes that went away */
+    @Scheduled(fixedDelayString = "${bfg.athlete-migration.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        Instant now = Instant.now();
+        Integer failed = chunkTransaction.execute(status -> {
+            jobRepository.heartbeat(nodeId, UNFINISHED, now);
+            return jobRepository.failStale(UNFINISHED, now.minus(staleAfter),
+                    AthleteMigrationJobStatus.FAILED, "Node running the job stopped responding", now);
+        });
+        if (failed != null && failed > 0) {
+            log.warn("Marked {} abandoned athlete migration job(s) as failed", failed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void runJob(UUID jobId, int year, Path upload, boolean csv) {
+        chunkTransaction.executeWithoutResult(status ->
+                jobRepository.updateStatus(jobId, AthleteMigrationJobStatus.RUNNING, null, null));
+        JobContext context = new JobContext(jobId, year, Year.now().getValue());
+        try {
+            List<AthleteMigrationFileReader.Row> chunk = new ArrayList<>(chunkSize);
+            AthleteMigrationFileReader.read(upload, csv, objectMapper, row -> {
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    processChunk(context, chunk);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                processChunk(context, chunk);
+            }
+            finishJob(jobId, AthleteMigrationJobStatus.COMPLETED, null);
+        } catch (Exception e) {
+            log.error("Athlete migration job {} failed", jobId, e);
+            finishJob(jobId, AthleteMigrationJobStatus.FAILED,
+                    e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private void processChunk(JobContext context, List<AthleteMigrationFileReader.Row> rows) {
+        try {
+            chunkTransaction.executeWithoutResult(status -> writeChunk(context, rows));
+        } catch (RuntimeException e) {
+            log.warn("Athlete migration job {}: chunk of {} rows failed ({}), retrying item by item",
+                    context.jobId(), rows.size(), e.getMessage());
+            migrateIndividually(context, rows);
+        }
+    }
+
+    private void writeChunk(JobContext context, List<AthleteMigrationFileReader.Row> rows) {
+        List<AthleteMigrationJobSkip> skips = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>();
+        for (AthleteMigrationFileReader.Row row : rows) {
+            String reason = row.error() != null ? row.error() : validate(row.item());
+            if (reason != null) {
+                skips.add(toSkip(context.jobId(), row, reason));
+                continue;
+            }
+            String cardNumber;
+            try {
+                cardNumber = AccreditationMapper.convertLegacyCardNumber(row.item().getOldCardNumber());
+            } catch (ValidationException | NumberFormatException e) {
+                skips.add(toSkip(context.jobId(), row, "Invalid card number format: " + row.item().getOldCardNumber()));
+                continue;
+            }
+            String prefix = cardNumber.substring(0, 2);
+            Optional<Club> club = context.clubsByPrefix().computeIfAbsent(prefix,
+                    p -> clubRepository.findByCardPrefixAndType(p, ScopeType.INTERNAL));
+            if (club.isEmpty()) {
+                skips.add(toSkip(context.jobId(), row, "No internal club found with card prefix: " + prefix));
+                continue;
+            }
+            candidates.add(new Candidate(row, NaturalKey.of(row.item()), club.get().getId(), cardNumber));
+        }
+
+        Map<NaturalKey, UUID> existingAthletes = findAthleteIds(
+                candidates.stream().map(Candidate::key).collect(Collectors.toSet()));
+        Set<String> existingAccreditations = existingAthletes.isEmpty() ? Set.of()
+                : accreditationRepository.findByYearAndAthleteIdIn(context.year(), existingAthletes.values()).stream()
+                        .map(a -> a.getAthleteId() + ":" + a.getClubId())
+                        .collect(Collectors.toSet());
+
+        Set<String> accreditedInChunk = new HashSet<>();
+        Map<NaturalKey, Athlete> newAthletes = new LinkedHashMap<>();
+        List<Candidate> accepted = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            UUID athleteId = existingAthletes.get(candidate.key());
+            boolean duplicate = !accreditedInChunk.add(candidate.key() + ":" + candidate.clubId())
+                    || (athleteId != null && existingAccreditations.contains(athleteId + ":" + candidate.clubId()));
+            if (duplicate) {
+                skips.add(toSkip(context.jobId(), candidate.row(), "Accreditation already exists for athlete"));
+                continue;
+            }
+            if (athleteId == null) {
+                newAthletes.computeIfAbsent(candidate.key(), k -> AthleteMapper.fromMigrationItem(candidate.row().item()));
+            }
+            accepted.add(candidate);
+        }
+
+        athleteRepository.saveAll(newAthletes.values());
+
+        AccreditationStatus status = context.year() == context.currentYear()
+                ? AccreditationStatus.NEW_PHOTO_REQUIRED
+                : AccreditationStatus.EXPIRED;
+        List<Accreditation> accreditations = accepted.stream()
+                .map(c -> AccreditationMapper.createNewAccreditation(
+                        existingAthletes.containsKey(c.key()) ? existingAthletes.get(c.key()) : newAthletes.get(c.key()).getId(),
+                        c.clubId(),
+                        c.cardNumber(),
+                        context.year(),
+                        status))
+                .toList();
+        accreditationRepository.saveAll(accreditations);
+        // Legacy numbers bypass the allocator; keep each club's sequence past the highest one
+        accepted.stream()
+                .collect(Collectors.toMap(Candidate::clubId, c -> AccreditationMapper.athleteNumberOf(c.cardNumber()), Math::max))
+                .forEach(cardNumberAllocator::athleteNumberUsed);
+        skipRepository.saveAll(skips);
+        jobRepository.addProgress(context.jobId(), rows.size(), accreditations.size(), skips.size());
+    }
+
+    /** Fallback for a chunk whose batched write failed: the legacy one-transaction-per-item path */
+    private void migrateIndividually(JobContext context, List<AthleteMigrationFileReader.Row> rows) {
+        List<AthleteMigrationJobSkip> skips = new ArrayList<>();
+        Map<AthleteBatchMigrationRequestItem, AthleteMigrationFileReader.Row> rowsByItem = new IdentityHashMap<>();
+        List<AthleteBatchMigrationRequestItem> items = new ArrayList<>();
+        for (AthleteMigrationFileReader.Row row : rows) {
+            String reason = row.error() != null ? row.error() : validate(row.item());
+            if (reason != null) {
+                skips.add(toSkip(context.jobId(), row, reason));
+            } else {
+                rowsByItem.put(row.item(), row);
+                items.add(row.item());
+            }
+        }
+
+        int migrated = 0;
+        if (!items.isEmpty()) {
+            AthleteBatchMigrationRequest request = new AthleteBatchMigrationRequest();
+            request.setYear(context.year());
+            request.setAthletes(items);
+            AthleteBatchMigrationResponse response = accreditationService.batchMigrateAthletes(request);
+            migrated = response.getMigrated().size();
+            for (AthleteBatchMigrationResponseSkippedInner skipped : response.getSkipped()) {
+                skips.add(toSkip(context.jobId(), rowsByItem.get(skipped.getAthlete()), skipped.getReason()));
+            }
+        }
+
+        int migratedCount = migrated;
+        skips.sort(Comparator.comparing(AthleteMigrationJobSkip::getRowNumber));
+        chunkTransaction.executeWithoutResult(status -> {
+            skipRepository.saveAll(skips);
+            jobRepository.addProgress(context.jobId(), rows.size(), migratedCount, skips.size());
+        });
+    }
+
+    /**
+     * One round trip for the whole chunk. Stored names are re-normalized in Java so the
+     * map lookup agrees with the lower()/COALESCE() expression the index is built on.
+     */
+    private Map<NaturalKey, UUID> findAthleteIds(Set<NaturalKey> keys) {
+        if (keys.isEmpty()) return Map.of();
+
+        List<NaturalKey> ordered = new ArrayList<>(keys);
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, first_name, middle_name, last_name, date_of_birth
+                FROM athletes
+                WHERE (lower(first_name), lower(COALESCE(middle_name, '')), lower(last_name), date_of_birth) IN (""");
+        for (int i = 0; i < ordered.size(); i++) {
+            int p = i * 4;
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(?").append(p + 1).append(", ?").append(p + 2)
+                    .append(", ?").append(p + 3).append(", ?").append(p + 4).append(')');
+        }
+        sql.append(')');
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < ordered.size(); i++) {
+            NaturalKey key = ordered.get(i);
+            int p = i * 4;
+            query.setParameter(p + 1, key.firstName());
+            query.setParameter(p + 2, key.middleName());
+            query.setParameter(p + 3, key.lastName());
+            query.setParameter(p + 4, key.dateOfBirth());
+        }
+
+        Map<NaturalKey, UUID> result = new HashMap<>();
+        for (Object row : query.getResultList()) {
+            Object[] columns = (Object[]) row;
+            NaturalKey key = NaturalKey.of((String) columns[1], (String) columns[2], (String) columns[3], toLocalDate(columns[4]));
+            result.putIfAbsent(key, (UUID) columns[0]);
+        }
+        return result;
+    }
+
+    private String validate(AthleteBatchMigrationRequestItem item) {
+        Set<ConstraintViolation<AthleteBatchMigrationRequestItem>> violations = validator.validate(item);
+        return violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void finishJob(UUID jobId, AthleteMigrationJobStatus status, String error) {
+        chunkTransaction.executeWithoutResult(tx -> jobRepository.updateStatus(jobId, status, error, Instant.now()));
+    }
+
+    private static AthleteMigrationJobSkip toSkip(UUID jobId, AthleteMigrationFileReader.Row row, String reason) {
+        AthleteBatchMigrationRequestItem item = row.item();
+        String name = item == null ? null : Stream.of(item.getFirstName(), item.getMiddleName(), item.getLastName())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+        return AthleteMigrationJobSkip.builder()
+                .jobId(jobId)
+                .rowNumber(row.rowNumber())
+                .oldCardNumber(item != null ? item.getOldCardNumber() : null)
+                .athleteName(name)
+                .reason(reason)
+                .build();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date) return date;
+        if (value instanceof Date date) return date.toLocalDate();
+        return null;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete migration upload {}", path, e);
+        }
+    }
+
+    private record JobContext(UUID jobId, int year, int currentYear, Map<String, Optional<Club>> clubsByPrefix) {
+
+        JobContext(UUID jobId, int year, int currentYear) {
+            this(jobId, year, currentYear, new ConcurrentHashMap<>());
+        }
+    }
+
+    private record Candidate(AthleteMigrationFileReader.Row row, NaturalKey key, UUID clubId, String cardNumber) {}
+
+    /** Same normalization as idx_athletes_natural_key */
+    private record NaturalKey(String firstName, String middleName, String lastName, LocalDate dateOfBirth) {
+
+        static NaturalKey of(AthleteBatchMigrationRequestItem item) {
+            return of(item.getFirstName(), item.getMiddleName(), item.getLastName(), item.getDateOfBirth());
+        }
+
+        static NaturalKey of(String firstName, String middleName, String lastName, LocalDate dateOfBirth) {
+            return new NaturalKey(normalize(firstName), normalize(middleName), normalize(lastName), dateOfBirth);
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -16,7 +16,8 @@ public interface AthleteService {
             List<String> orderBy,
             Integer top,
             Integer skip,
-            List<String> expand
+            List<String> expand,
+            List<String> select
     );
     Optional<AthleteDto> getAthleteDtoByUuid(UUID uuid, List<String> expand);
     
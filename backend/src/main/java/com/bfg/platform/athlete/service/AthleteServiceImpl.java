@@ -11,6 +11,8 @@ import com.bfg.platform.common.exception.ForbiddenException;
 import com.bfg.platform.common.exception.ResourceNotFoundException;
 import com.bfg.platform.common.query.ExpandQueryParser;
 import com.bfg.platform.common.query.OffsetBasedPageRequest;
+import com.bfg.platform.common.query.SelectQueryExecutor;
+import com.bfg.platform.common.query.SelectQueryParser;
 import com.bfg.platform.common.security.AuthorizationService;
 import com.bfg.platform.common.security.ScopeAccessValidator;
 import com.bfg.platform.common.security.SecurityContextHelper;
@@ -18,6 +20,7 @@ import com.bfg.platform.gen.model.AthleteBatchMedicalUpdateRequest;
 import com.bfg.platform.gen.model.AthleteDto;
 import com.bfg.platform.gen.model.AthleteUpdateRequest;
 import com.bfg.platform.gen.model.SystemRole;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -27,10 +30,16 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -41,6 +50,7 @@ public class AthleteServiceImpl implements AthleteService {
     private final SecurityContextHelper securityContextHelper;
     private final AuthorizationService authorizationService;
     private final ScopeAccessValidator scopeAccessValidator;
+    private final EntityManager entityManager;
 
     @Override
     public Page<AthleteDto> getAllAthletes(
@@ -49,11 +59,13 @@ public class AthleteServiceImpl implements AthleteService {
             List<String> orderBy,
             Integer top,
             Integer skip,
-            List<String> expand
+            List<String> expand,
+            List<String> select
     ) {
         // Validate scope filter - throws 403 if invalid
         scopeAccessValidator.validateFilterScope(filter);
-        ExpandQueryParser.parse(expand, Athlete.class);
+        Set<String> requestedExpand = ExpandQueryParser.parse(expand, Athlete.class);
+        Set<String> requestedSelect = SelectQueryParser.parse(select, Athlete.class, requestedExpand);
 
         Specification<Athlete> filterSpec = AthleteQueryAdapter.parseFilter(filter);
         Specification<Athlete> searchSpec = AthleteQueryAdapter.parseSearch(search);
@@ -61,6 +73,11 @@ public class AthleteServiceImpl implements AthleteService {
         Specification<Athlete> spec = Specification.where(filterSpec).and(searchSpec).and(scopeSpec);
         Pageable pageable = OffsetBasedPageRequest.of(skip, top, AthleteQueryAdapter.parseSort(orderBy));
 
+        if (!requestedSelect.isEmpty()) {
+            return SelectQueryExecutor.findAll(entityManager, Athlete.class, spec, pageable, requestedSelect)
+                    .map(AthleteMapper::toDto);
+        }
+
         Page<Athlete> athletePage = athleteRepository.findAll(spec, pageable);
         return athletePage.map(AthleteMapper::toDto);
     }
@@ -138,33 +155,42 @@ public class AthleteServiceImpl implements AthleteService {
             throw new IllegalArgumentException("medicalExaminationStartDate is required when medicalExaminationDurationMonths is provided");
         }
 
-        List<AthleteDto> updated = new ArrayList<>();
-
         LocalDate medicalExaminationDue = null;
         if (hasMedical) {
             medicalExaminationDue = medicalExaminationStartDate.plusMonths(medicalExaminationDurationMonths);
         }
 
-        for (UUID athleteId : request.getAthleteIds()) {
-            Optional<Athlete> athleteOpt = athleteRepository.findById(athleteId);
-            if (athleteOpt.isPresent()) {
-                Athlete athlete = athleteOpt.get();
-
-                if (hasInsurance) {
-                    athlete.setInsuranceFrom(insuranceFrom);
-                    athlete.setInsuranceTo(insuranceTo);
-                }
-
-                if (hasMedical) {
-                    athlete.setMedicalExaminationDue(medicalExaminationDue);
-                }
+        Set<UUID> athleteIds = new LinkedHashSet<>(request.getAthleteIds());
+        if (athleteIds.isEmpty()) {
+            return List.of();
+        }
+        validateAthletesAccess(athleteIds);
+
+        Map<UUID, Athlete> updatedById = athleteRepository.bulkUpdateMedicalInfo(
+                        athleteIds, hasInsurance, insuranceFrom, insuranceTo, hasMedical, medicalExaminationDue)
+                .stream()
+                .collect(Collectors.toMap(Athlete::getId, Function.identity()));
+
+        // Keep the request order; unknown ids are skipped as before
+        return athleteIds.stream()
+                .map(updatedById::get)
+                .filter(Objects::nonNull)
+                .map(AthleteMapper::toDto)
+                .toList();
+    }
 
-                Athlete saved = athleteRepository.save(athlete);
-                updated.add(AthleteMapper.toDto(saved));
-            }
+    /** Set-based form of validateAthleteAccess: one query for all athletes instead of one per athlete */
+    private void validateAthletesAccess(Collection<UUID> athleteIds) {
+        var userRole = securityContextHelper.getUserRole();
+        if (userRole == SystemRole.APP_ADMIN || userRole == SystemRole.FEDERATION_ADMIN) {
+            return;
         }
 
-        return updated;
+        UUID myClubId = authorizationService.requireCurrentUserClubId();
+        Set<UUID> accessible = accreditationRepository.findAthleteIdsWithClub(myClubId, athleteIds);
+        if (!accessible.containsAll(athleteIds)) {
+            throw new ForbiddenException("You do not have access to this athlete");
+        }
     }
 
     @Override
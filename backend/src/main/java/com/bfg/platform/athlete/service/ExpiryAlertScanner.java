@@ -0,0 +1,115 @@
+package com.bfg.platform.athlete.service;
+
+import com.bfg.platform.athlete.entity.ExpiryAlert;
+import com.bfg.platform.athlete.entity.ExpiryScanCursor;
+import com.bfg.platform.athlete.mapper.ExpiryAlertMapper;
+import com.bfg.platform.athlete.repository.ExpiryAlertRepository;
+import com.bfg.platform.athlete.repository.ExpiryScanCursorRepository;
+import com.bfg.platform.club.entity.Club;
+import com.bfg.platform.club.repository.ClubRepository;
+import com.bfg.platform.common.email.EmailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains expiry_alerts once a day. Every run extends the scanned window from the cursor up to
+ * today + lookahead-days and re-checks only rows changed since the previous run, so the cost is
+ * proportional to what changed rather than to the size of the athletes table.
+ * With notify-clubs enabled, new alerts are sent to each club's email as one digest via the outbox.
+ */
+@Component
+@Slf4j
+public class ExpiryAlertScanner {
+
+    private static final String SCAN_KEY = "expiry-alerts";
+
+    private final ExpiryAlertRepository expiryAlertRepository;
+    private final ExpiryScanCursorRepository cursorRepository;
+    private final ClubRepository clubRepository;
+    private final EmailService emailService;
+    private final int lookaheadDays;
+    private final int retentionDays;
+    private final boolean notifyClubs;
+
+    public ExpiryAlertScanner(
+            ExpiryAlertRepository expiryAlertRepository,
+            ExpiryScanCursorRepository cursorRepository,
+            ClubRepository clubRepository,
+            EmailService emailService,
+            @Value("${bfg.expiry-alerts.lookahead-days:30}") int lookaheadDays,
+            @Value("${bfg.expiry-alerts.retention-days:30}") int retentionDays,
+            @Value("${bfg.expiry-alerts.notify-clubs:false}") boolean notifyClubs
+    ) {
+        this.expiryAlertRepository = expiryAlertRepository;
+        this.cursorRepository = cursorRepository;
+        this.clubRepository = clubRepository;
+        this.emailService = emailService;
+        this.lookaheadDays = lookaheadDays;
+        this.retentionDays = retentionDays;
+        this.notifyClubs = notifyClubs;
+    }
+
+    @Scheduled(cron = "${bfg.expiry-alerts.cron:0 30 3 * * *}")
+    @Transactional
+    public void scan() {
+        LocalDate today = LocalDate.now();
+        Instant now = Instant.now();
+        // First run: nothing scanned yet, the whole lookahead window is new
+        cursorRepository.seed(SCAN_KEY, today.minusDays(1), Instant.EPOCH);
+        ExpiryScanCursor cursor = cursorRepository.lockByScanKey(SCAN_KEY).orElseThrow();
+
+        LocalDate from = cursor.getScannedThrough().plusDays(1);
+        if (from.isBefore(today)) {
+            from = today;
+        }
+        LocalDate to = today.plusDays(lookaheadDays);
+        Instant since = cursor.getLastRunAt();
+
+        int removed = expiryAlertRepository.deleteRenewedAthleteAlerts()
+                + expiryAlertRepository.deleteRenewedAccreditationAlerts()
+                + expiryAlertRepository.deleteExpiredBefore(today.minusDays(retentionDays));
+        int added = expiryAlertRepository.insertMedicalExaminationAlerts(from, to, today, since, today.getYear())
+                + expiryAlertRepository.insertInsuranceAlerts(from, to, today, since, today.getYear())
+                + expiryAlertRepository.insertAccreditationAlerts(from, to, today, since);
+        cursorRepository.advance(SCAN_KEY, to, now);
+        log.info("Expiry scan {}..{}: {} alert(s) added, {} removed", from, to, added, removed);
+
+        if (notifyClubs) {
+            notifyClubs(today, now);
+        }
+    }
+
+    private void notifyClubs(LocalDate today, Instant now) {
+        List<ExpiryAlert> pending = expiryAlertRepository.findByNotifiedAtIsNullOrderByClubIdAscExpiresOnAsc();
+        if (pending.isEmpty()) return;
+
+        Map<UUID, List<ExpiryAlert>> byClub = pending.stream()
+                .collect(Collectors.groupingBy(ExpiryAlert::getClubId, LinkedHashMap::new, Collectors.toList()));
+        Map<UUID, Club> clubs = clubRepository.findAllById(byClub.keySet()).stream()
+                .collect(Collectors.toMap(Club::getId, Function.identity()));
+
+        byClub.forEach((clubId, alerts) -> {
+            Club club = clubs.get(clubId);
+            if (club == null || club.getClubEmail() == null || club.getClubEmail().isBlank()) return;
+            List<EmailService.ExpiryDigestLine> lines = alerts.stream()
+                    .map(alert -> new EmailService.ExpiryDigestLine(
+                            ExpiryAlertMapper.athleteName(alert.getAthlete()), alert.getAlertType(), alert.getExpiresOn()))
+                    .toList();
+            emailService.sendExpiryAlertDigest(club.getClubEmail(), club.getName(), lines);
+        });
+        // Clubs without an email are marked too, so the digest query stays small
+        expiryAlertRepository.markNotified(pending.stream().map(ExpiryAlert::getId).toList(), now);
+    }
+}
@@ -0,0 +1,11 @@
+package com.bfg.platform.athlete.service;
+
+import com.bfg.platform.gen.model.ExpiryAlertDto;
+import com.bfg.platform.gen.model.ExpiryAlertType;
+import org.springframework.data.domain.Page;
+
+import java.util.UUID;
+
+public interface ExpiryAlertService {
+    Page<ExpiryAlertDto> getExpiryAlerts(UUID clubId, ExpiryAlertType type, Integer withinDays, Integer top, Integer skip);
+}
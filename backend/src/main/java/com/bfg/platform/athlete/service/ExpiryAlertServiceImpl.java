@@ -0,0 +1,41 @@
+package com.bfg.platform.athlete.service;
+
+import com.bfg.platform.athlete.mapper.ExpiryAlertMapper;
+import com.bfg.platform.athlete.repository.ExpiryAlertRepository;
+import com.bfg.platform.common.query.OffsetBasedPageRequest;
+import com.bfg.platform.common.security.AuthorizationService;
+import com.bfg.platform.common.security.SecurityContextHelper;
+import com.bfg.platform.gen.model.ExpiryAlertDto;
+import com.bfg.platform.gen.model.ExpiryAlertType;
+import com.bfg.platform.gen.model.SystemRole;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class ExpiryAlertServiceImpl implements ExpiryAlertService {
+
+    private final ExpiryAlertRepository expiryAlertRepository;
+    private final SecurityContextHelper securityContextHelper;
+    private final AuthorizationService authorizationService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ExpiryAlertDto> getExpiryAlerts(UUID clubId, ExpiryAlertType type, Integer withinDays, Integer top, Integer skip) {
+        SystemRole role = securityContextHelper.getUserRole();
+        if (role == SystemRole.CLUB_ADMIN || role == SystemRole.COACH) {
+            clubId = authorizationService.requireCurrentUserClubId();
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate until = withinDays != null ? today.plusDays(withinDays) : null;
+        return expiryAlertRepository.findAlerts(clubId, type, until, OffsetBasedPageRequest.of(skip, top, Sort.unsorted()))
+                .map(alert -> ExpiryAlertMapper.toDto(alert, today));
+    }
+}
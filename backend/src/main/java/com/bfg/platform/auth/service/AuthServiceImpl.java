@@ -5,6 +5,7 @@ import com.bfg.platform.common.email.EmailService;
 import com.bfg.platform.common.exception.UnauthorizedException;
 import com.bfg.platform.common.exception.ValidationException;
 import com.bfg.platform.common.i18n.MessageResolver;
+import com.bfg.platform.common.security.PasswordHashingExecutor;
 import com.bfg.platform.gen.model.TokenResponse;
 import com.bfg.platform.user.entity.User;
 import com.bfg.platform.user.repository.UserRepository;
@@ -23,6 +24,7 @@ import java.util.regex.Pattern;
 public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtService jwtService;
     private final EmailService emailService;
     private final MessageResolver messageResolver;
@@ -35,6 +37,7 @@ public class AuthServiceImpl implements AuthService {
     public AuthServiceImpl(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
+            PasswordHashingExecutor passwordHashingExecutor,
             JwtService jwtService,
             EmailService emailService,
             MessageResolver messageResolver,
@@ -42,6 +45,7 @@ public class AuthServiceImpl implements AuthService {
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
         this.jwtService = jwtService;
         this.emailService = emailService;
         this.messageResolver = messageResolver;
@@ -49,12 +53,12 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // No surrounding transaction: a connection must not be held while waiting for the hashing pool
     public TokenResponse login(String username, String password) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UnauthorizedException(messageResolver.resolve("auth.invalidCredentials")));
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHashingExecutor.matches(password, user.getPasswordHash())) {
             throw new UnauthorizedException(messageResolver.resolve("auth.invalidCredentials"));
         }
 
@@ -99,7 +103,7 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public void requestPasswordReset(String username) {
         userRepository.findByUsername(username).ifPresent(user -> {
             String token = jwtService.issuePasswordResetToken(user.getId(), tokenTtlSeconds);
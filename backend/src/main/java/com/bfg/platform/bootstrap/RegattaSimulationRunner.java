@@ -0,0 +1,563 @@
+package com.bfg.platform.bootstrap;
+
+import com.bfg.platform.common.exception.ValidationErrorsException;
+import com.bfg.platform.common.metrics.SqlRequestStats;
+import com.bfg.platform.competition.entity.Competition;
+import com.bfg.platform.competition.entity.CompetitionTimetableEvent;
+import com.bfg.platform.competition.entity.QualificationTier;
+import com.bfg.platform.competition.repository.CompetitionRepository;
+import com.bfg.platform.competition.repository.CompetitionTimetableEventRepository;
+import com.bfg.platform.competition.repository.QualificationTierRepository;
+import com.bfg.platform.competition.service.ClubRankingService;
+import com.bfg.platform.competition.service.CompetitionFinalStandingService;
+import com.bfg.platform.competition.service.CompetitionProgressionService;
+import com.bfg.platform.competition.service.EntryService;
+import com.bfg.platform.gen.model.AdvanceProgressionRequest;
+import com.bfg.platform.gen.model.AdvanceProgressionResponse;
+import com.bfg.platform.gen.model.ClubEntriesDto;
+import com.bfg.platform.gen.model.ClubEntriesRequest;
+import com.bfg.platform.gen.model.CompetitionEventStatus;
+import com.bfg.platform.gen.model.CompetitionParticipationDto;
+import com.bfg.platform.gen.model.CompetitionType;
+import com.bfg.platform.gen.model.CrewMemberRequest;
+import com.bfg.platform.gen.model.DisciplineGender;
+import com.bfg.platform.gen.model.DisciplineProgressionResult;
+import com.bfg.platform.gen.model.DisciplineStandingResult;
+import com.bfg.platform.gen.model.EntryDto;
+import com.bfg.platform.gen.model.EntryRequest;
+import com.bfg.platform.gen.model.Gender;
+import com.bfg.platform.gen.model.LaneAssignment;
+import com.bfg.platform.gen.model.ParticipationResultRequest;
+import com.bfg.platform.gen.model.ParticipationStatus;
+import com.bfg.platform.gen.model.ProgressionGenerationStatus;
+import com.bfg.platform.gen.model.QualificationEventType;
+import com.bfg.platform.gen.model.ScopeType;
+import com.bfg.platform.gen.model.SeatPosition;
+import com.bfg.platform.gen.model.SetLanesRequest;
+import com.bfg.platform.gen.model.SystemRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * End-to-end regatta simulation for local performance work. Drives one competition through the
+ * service layer the way the admin UI does: entries for every club, then advance, lanes and official
+ * results stage by stage (H, SF, FB, FA as the qualification tier requires), final standings and club
+ * rankings. Logs latency percentiles and SQL statement counts per phase when it is done.
+ * <p>
+ * Needs INTERNAL clubs with current-year accreditations plus the reference data of
+ * TestDataBootstrapRunner; SyntheticDataGenerator provides enough of both. Every run creates a new
+ * SIM-* competition and leaves it in place for inspection. Crews and times come from a Random with a
+ * fixed seed, so runs against the same data are comparable.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnExpression("${bfg.regatta-simulation.clubs:0} > 0")
+@Slf4j
+public class RegattaSimulationRunner implements CommandLineRunner {
+
+    static final String COMPETITION_PREFIX = "SIM-";
+
+    private static final List<QualificationEventType> STAGES = List.of(
+            QualificationEventType.H, QualificationEventType.SF,
+            QualificationEventType.FB, QualificationEventType.FA);
+    private static final List<SeatPosition> ROWING_SEATS = List.of(
+            SeatPosition.STROKE, SeatPosition.BOW, SeatPosition.TWO, SeatPosition.THREE,
+            SeatPosition.FOUR, SeatPosition.FIVE, SeatPosition.SIX, SeatPosition.SEVEN);
+    private static final int DEFAULT_DISTANCE_METERS = 2000;
+    private static final double DNF_RATE = 0.01;
+
+    private final EntryService entryService;
+    private final CompetitionProgressionService progressionService;
+    private final CompetitionFinalStandingService finalStandingService;
+    private final ClubRankingService clubRankingService;
+    private final CompetitionRepository competitionRepository;
+    private final CompetitionTimetableEventRepository timetableEventRepository;
+    private final QualificationTierRepository tierRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int clubCount;
+    private final int disciplineCount;
+    private final long seed;
+
+    private final Map<String, PhaseStats> phases = new LinkedHashMap<>();
+    private final Map<UUID, Integer> baseTimes = new HashMap<>();
+    private Random random;
+    private int scheduledEvents;
+
+    public RegattaSimulationRunner(
+            EntryService entryService,
+            CompetitionProgressionService progressionService,
+            CompetitionFinalStandingService finalStandingService,
+            ClubRankingService clubRankingService,
+            CompetitionRepository competitionRepository,
+            CompetitionTimetableEventRepository timetableEventRepository,
+            QualificationTierRepository tierRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${bfg.regatta-simulation.clubs:0}") int clubCount,
+            @Value("${bfg.regatta-simulation.disciplines:12}") int disciplineCount,
+            @Value("${bfg.regatta-simulation.seed:42}") long seed
+    ) {
+        this.entryService = entryService;
+        this.progressionService = progressionService;
+        this.finalStandingService = finalStandingService;
+        this.clubRankingService = clubRankingService;
+        this.competitionRepository = competitionRepository;
+        this.timetableEventRepository = timetableEventRepository;
+        this.tierRepository = tierRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clubCount = clubCount;
+        this.disciplineCount = disciplineCount;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(String... args) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        UsernamePasswordAuthenticationToken simulationAuth = new UsernamePasswordAuthenticationToken(
+                UUID.randomUUID(),
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority(SystemRole.APP_ADMIN.getValue()))
+        );
+        simulationAuth.setDetails(Map.of());
+        context.setAuthentication(simulationAuth);
+        SecurityContextHolder.setContext(context);
+        try {
+            simulate();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void simulate() {
+        random = new Random(seed);
+        int year = LocalDate.now().getYear();
+
+        List<UUID> clubs = loadClubs(year);
+        List<SimDiscipline> disciplines = loadDisciplines();
+        List<UUID> scoringSchemes = jdbcTemplate.queryForList(
+                "SELECT id FROM scoring_schemes WHERE is_active ORDER BY name LIMIT 1", UUID.class);
+        List<UUID> qualificationSchemes = jdbcTemplate.queryForList(
+                "SELECT id FROM qualification_schemes WHERE is_active ORDER BY name LIMIT 1", UUID.class);
+        if (clubs.isEmpty() || disciplines.isEmpty() || scoringSchemes.isEmpty() || qualificationSchemes.isEmpty()) {
+            log.warn("Regatta simulation needs INTERNAL clubs with {} accreditations, disciplines, a scoring scheme "
+                    + "and a qualification scheme; run with bfg.test-data.enabled or bfg.synthetic-data.scale first", year);
+            return;
+        }
+
+        long started = System.nanoTime();
+        Competition competition = createCompetition(scoringSchemes.get(0), qualificationSchemes.get(0));
+        UUID competitionId = competition.getId();
+        // Entries are only accepted for disciplines in the timetable, so every discipline starts with its final A
+        for (SimDiscipline discipline : disciplines) {
+            scheduleEvents(competition, discipline.id(), QualificationEventType.FA, 1);
+        }
+
+        Map<UUID, Integer> entryCounts = submitEntries(competitionId, clubs, disciplines, year);
+        scheduleProgressionEvents(competition, qualificationSchemes.get(0), entryCounts);
+
+        Map<UUID, SimDiscipline> disciplinesById = disciplines.stream()
+                .collect(Collectors.toMap(SimDiscipline::id, d -> d));
+        for (int round = 0; round < STAGES.size(); round++) {
+            AdvanceProgressionResponse response = timed("advance",
+                    () -> progressionService.advanceProgression(competitionId, new AdvanceProgressionRequest()));
+            List<DisciplineProgressionResult> advanced = response.getResults().stream()
+                    .filter(r -> r.getStatus() == ProgressionGenerationStatus.SUCCESS)
+                    .toList();
+            if (advanced.isEmpty()) {
+                break;
+            }
+            for (DisciplineProgressionResult result : advanced) {
+                QualificationEventType stage = QualificationEventType.fromValue(result.getStage());
+                runStage(competitionId, disciplinesById.get(result.getDisciplineId()), stage);
+            }
+        }
+
+        List<UUID> enteredDisciplines = new ArrayList<>(entryCounts.keySet());
+        List<DisciplineStandingResult> standings = timed("standings",
+                () -> finalStandingService.computeStandings(competitionId, enteredDisciplines));
+        timed("club rankings", () -> clubRankingService.computeClubRankings(List.of(competitionId)));
+
+        long computed = standings.stream().filter(s -> s.getStatus() == ProgressionGenerationStatus.SUCCESS).count();
+        report(competition, clubs.size(), entryCounts, computed, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    // ── Setup ───────────────────────────────────────────────────────────
+
+    private List<UUID> loadClubs(int year) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.id FROM clubs c JOIN accreditations a ON a.club_id = c.id "
+                        + "WHERE c.type = ? AND c.is_active AND a.status = 'ACTIVE' AND a.year = ? "
+                        + "GROUP BY c.id ORDER BY count(*) DESC, c.id LIMIT ?",
+                UUID.class, ScopeType.INTERNAL.name(), year, clubCount);
+    }
+
+    private List<SimDiscipline> loadDisciplines() {
+        List<SimDiscipline> disciplines = new ArrayList<>(jdbcTemplate.query(
+                "SELECT d.id, d.competition_group_id, d.gender, d.crew_size, d.has_coxswain, "
+                        + "d.distance_meters, d.max_boats_per_club, g.min_age, g.max_age, g.cox_min_age, g.cox_max_age, "
+                        + "g.max_disciplines_per_athlete "
+                        + "FROM discipline_definitions d JOIN competition_group_definitions g ON g.id = d.competition_group_id "
+                        + "WHERE d.is_active AND g.is_active ORDER BY d.short_name",
+                (rs, i) -> new SimDiscipline(
+                        rs.getObject(1, UUID.class),
+                        rs.getObject(2, UUID.class),
+                        DisciplineGender.fromValue(rs.getString(3)),
+                        Math.max(1, rs.getInt(4)),
+                        rs.getBoolean(5),
+                        rs.getObject(6) != null ? rs.getInt(6) : DEFAULT_DISTANCE_METERS,
+                        Math.max(1, rs.getInt(7)),
+                        rs.getObject(8, Integer.class),
+                        rs.getObject(9, Integer.class),
+                        rs.getObject(10, Integer.class),
+                        rs.getObject(11, Integer.class),
+                        rs.getObject(12) != null ? rs.getInt(12) : Integer.MAX_VALUE)));
+        Collections.shuffle(disciplines, random);
+        return disciplines.subList(0, Math.min(disciplineCount, disciplines.size()));
+    }
+
+    private Competition createCompetition(UUID scoringSchemeId, UUID qualificationSchemeId) {
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.now();
+        String shortName = COMPETITION_PREFIX + now.getEpochSecond();
+        // Entry submission is open for the whole run, so club-level validation applies as for a real regatta
+        return competitionRepository.save(Competition.builder()
+                .shortName(shortName).name("Симулация " + shortName)
+                .location("Симулация")
+                .startDate(today).endDate(today.plusDays(2))
+                .entrySubmissionsOpenAt(now.minus(Duration.ofDays(1)))
+                .entrySubmissionsClosedAt(now.plus(Duration.ofDays(1)))
+                .lastChangesBeforeTmAt(now.plus(Duration.ofDays(1)))
+                .technicalMeetingAt(now.plus(Duration.ofDays(1)))
+                .scoringSchemeId(scoringSchemeId)
+                .qualificationSchemeId(qualificationSchemeId)
+                .competitionType(CompetitionType.NATIONAL_WATER)
+                .isTemplate(false).build());
+    }
+
+    /** Adds the events the matching qualification tier needs on top of the final A scheduled up front */
+    private void scheduleProgressionEvents(Competition competition, UUID qualificationSchemeId, Map<UUID, Integer> entryCounts) {
+        List<QualificationTier> tiers = tierRepository.findByQualificationSchemeIdOrderByBoatCountMinAsc(qualificationSchemeId);
+        List<UUID> outsideTiers = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> disciplineEntries : entryCounts.entrySet()) {
+            int count = disciplineEntries.getValue();
+            QualificationTier tier = tiers.stream()
+                    .filter(t -> count >= t.getBoatCountMin() && count <= t.getBoatCountMax())
+                    .findFirst().orElse(null);
+            if (tier == null) {
+                outsideTiers.add(disciplineEntries.getKey());
+                continue;
+            }
+            UUID disciplineId = disciplineEntries.getKey();
+            scheduleEvents(competition, disciplineId, QualificationEventType.H, tier.getHeatCount());
+            scheduleEvents(competition, disciplineId, QualificationEventType.SF, tier.getSemiFinalCount());
+            scheduleEvents(competition, disciplineId, QualificationEventType.FB, tier.getFinalBCount());
+            scheduleEvents(competition, disciplineId, QualificationEventType.FA, tier.getFinalACount() - 1);
+        }
+        if (!outsideTiers.isEmpty()) {
+            log.warn("Entry counts of {} simulated discipline(s) match no qualification tier, they will not race: {}",
+                    outsideTiers.size(), outsideTiers);
+        }
+    }
+
+    /** Stages run on consecutive days; within a day events are five minutes apart in creation order */
+    private void scheduleEvents(Competition competition, UUID disciplineId, QualificationEventType type, int count) {
+        Instant stageDay = competition.getStartDate().atStartOfDay().toInstant(ZoneOffset.UTC)
+                .plus(Duration.ofDays(STAGES.indexOf(type))).plus(Duration.ofHours(8));
+        for (int i = 0; i < count; i++) {
+            timetableEventRepository.save(CompetitionTimetableEvent.builder()
+                    .competitionId(competition.getId()).disciplineId(disciplineId)
+                    .qualificationEventType(type)
+                    .scheduledAt(stageDay.plus(Duration.ofMinutes(5L * scheduledEvents++)))
+                    .build());
+        }
+    }
+
+    // ── Entries ─────────────────────────────────────────────────────────
+
+    private Map<UUID, Integer> submitEntries(UUID competitionId, List<UUID> clubs, List<SimDiscipline> disciplines, int year) {
+        Map<UUID, List<SimAthlete>> athletesByClub = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT a.club_id, a.id, at.gender, at.date_of_birth FROM accreditations a "
+                        + "JOIN athletes at ON at.id = a.athlete_id "
+                        + "WHERE a.status = 'ACTIVE' AND a.year = ? AND a.club_id = ANY (CAST(? AS uuid[])) ORDER BY a.id",
+                rs -> {
+                    LocalDate dateOfBirth = rs.getObject(4, LocalDate.class);
+                    athletesByClub.computeIfAbsent(rs.getObject(1, UUID.class), c -> new ArrayList<>())
+                            .add(new SimAthlete(rs.getObject(2, UUID.class), Gender.fromValue(rs.getString(3)),
+                                    dateOfBirth != null ? year - dateOfBirth.getYear() : null));
+                },
+                year, clubs.stream().map(UUID::toString).toArray(String[]::new));
+
+        Map<UUID, Integer> entryCounts = new LinkedHashMap<>();
+        for (UUID clubId : clubs) {
+            List<SimAthlete> athletes = athletesByClub.getOrDefault(clubId, new ArrayList<>());
+            Collections.shuffle(athletes, random);
+            ClubEntriesRequest request = buildEntries(athletes, disciplines);
+            if (request.getEntries().isEmpty()) {
+                continue;
+            }
+            try {
+                ClubEntriesDto submitted = timed("entries", () -> entryService.submitEntries(competitionId, clubId, request));
+                for (EntryDto entry : submitted.getEntries()) {
+                    entryCounts.merge(entry.getDisciplineId(), 1, Integer::sum);
+                }
+            } catch (ValidationErrorsException e) {
+                log.warn("Simulation entries of club {} rejected: {}", clubId, e.getErrors());
+            }
+        }
+        return entryCounts;
+    }
+
+    /** Up to maxBoatsPerClub crews per discipline from the club's own athletes, within the group's limits */
+    private ClubEntriesRequest buildEntries(List<SimAthlete> athletes, List<SimDiscipline> disciplines) {
+        Map<UUID, Map<UUID, Integer>> rowingDisciplinesByGroup = new HashMap<>();
+        List<EntryRequest> entries = new ArrayList<>();
+        for (SimDiscipline discipline : disciplines) {
+            Map<UUID, Integer> rowingDisciplines = rowingDisciplinesByGroup
+                    .computeIfAbsent(discipline.groupId(), g -> new HashMap<>());
+            Set<UUID> inDiscipline = new HashSet<>();
+            int teams = 1 + random.nextInt(discipline.maxBoatsPerClub());
+            for (int team = 1; team <= teams; team++) {
+                List<CrewMemberRequest> crew = buildCrew(athletes, discipline, rowingDisciplines, inDiscipline);
+                if (crew == null) {
+                    break;
+                }
+                EntryRequest entry = new EntryRequest();
+                entry.setDisciplineId(discipline.id());
+                entry.setTeamNumber(team);
+                entry.setCrewMembers(crew);
+                entries.add(entry);
+            }
+        }
+        ClubEntriesRequest request = new ClubEntriesRequest();
+        request.setEntries(entries);
+        return request;
+    }
+
+    private List<CrewMemberRequest> buildCrew(List<SimAthlete> athletes, SimDiscipline discipline,
+                                              Map<UUID, Integer> rowingDisciplines, Set<UUID> inDiscipline) {
+        Predicate<SimAthlete> canRow = a -> !inDiscipline.contains(a.accreditationId())
+                && rowingDisciplines.getOrDefault(a.accreditationId(), 0) < discipline.maxDisciplinesPerAthlete()
+                && withinAge(a, discipline.minAge(), discipline.maxAge());
+
+        List<SimAthlete> rowers = new ArrayList<>();
+        if (discipline.gender() == DisciplineGender.MIXED) {
+            if (discipline.crewSize() % 2 != 0) {
+                return null;
+            }
+            rowers.addAll(pick(athletes, discipline.crewSize() / 2, canRow.and(a -> a.gender() == Gender.MALE), Set.of()));
+            rowers.addAll(pick(athletes, discipline.crewSize() / 2, canRow.and(a -> a.gender() == Gender.FEMALE), Set.of()));
+        } else {
+            Gender gender = discipline.gender() == DisciplineGender.MALE ? Gender.MALE : Gender.FEMALE;
+            rowers.addAll(pick(athletes, discipline.crewSize(), canRow.and(a -> a.gender() == gender), Set.of()));
+        }
+        if (rowers.size() != discipline.crewSize() || discipline.crewSize() > ROWING_SEATS.size()) {
+            return null;
+        }
+
+        SimAthlete cox = null;
+        if (discipline.hasCoxswain()) {
+            Integer minAge = discipline.coxMinAge() != null ? discipline.coxMinAge() : discipline.minAge();
+            Integer maxAge = discipline.coxMaxAge() != null ? discipline.coxMaxAge() : discipline.maxAge();
+            Set<UUID> taken = rowers.stream().map(SimAthlete::accreditationId).collect(Collectors.toSet());
+            List<SimAthlete> coxes = pick(athletes, 1,
+                    a -> !inDiscipline.contains(a.accreditationId()) && withinAge(a, minAge, maxAge), taken);
+            if (coxes.isEmpty()) {
+                return null;
+            }
+            cox = coxes.get(0);
+        }
+
+        List<CrewMemberRequest> crew = new ArrayList<>();
+        for (int seat = 0; seat < rowers.size(); seat++) {
+            UUID accreditationId = rowers.get(seat).accreditationId();
+            crew.add(crewMember(ROWING_SEATS.get(seat), accreditationId));
+            inDiscipline.add(accreditationId);
+            rowingDisciplines.merge(accreditationId, 1, Integer::sum);
+        }
+        if (cox != null) {
+            crew.add(crewMember(SeatPosition.COX, cox.accreditationId()));
+            inDiscipline.add(cox.accreditationId());
+        }
+        return crew;
+    }
+
+    private static List<SimAthlete> pick(List<SimAthlete> athletes, int count, Predicate<SimAthlete> eligible, Set<UUID> taken) {
+        List<SimAthlete> picked = new ArrayList<>(count);
+        for (SimAthlete athlete : athletes) {
+            if (picked.size() == count) break;
+            if (!taken.contains(athlete.accreditationId()) && eligible.test(athlete)) {
+                picked.add(athlete);
+            }
+        }
+        return picked;
+    }
+
+    private static boolean withinAge(SimAthlete athlete, Integer minAge, Integer maxAge) {
+        if (athlete.age() == null) return true;
+        return (minAge == null || athlete.age() >= minAge) && (maxAge == null || athlete.age() <= maxAge);
+    }
+
+    private static CrewMemberRequest crewMember(SeatPosition seat, UUID accreditationId) {
+        CrewMemberRequest member = new CrewMemberRequest();
+        member.setSeatPosition(seat);
+        member.setAccreditationId(accreditationId);
+        return member;
+    }
+
+    // ── Races ───────────────────────────────────────────────────────────
+
+    /** Swaps lanes within each event of the stage as a referee would, then records official results */
+    private void runStage(UUID competitionId, SimDiscipline discipline, QualificationEventType stage) {
+        List<CompetitionTimetableEvent> events = timetableEventRepository
+                .findByCompetitionIdAndDisciplineIdOrderByScheduledAtAsc(competitionId, discipline.id()).stream()
+                .filter(e -> stage.equals(e.getQualificationEventType()))
+                .toList();
+
+        List<LaneAssignment> assignments = new ArrayList<>();
+        for (int eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+            List<CompetitionParticipationDto> participations = progressionService
+                    .getEventParticipations(events.get(eventIndex).getId()).getParticipations();
+            List<Integer> lanes = new ArrayList<>(participations.stream().map(CompetitionParticipationDto::getLane).toList());
+            Collections.shuffle(lanes, random);
+            for (int i = 0; i < participations.size(); i++) {
+                LaneAssignment assignment = new LaneAssignment();
+                assignment.setEntryId(participations.get(i).getEntryId());
+                assignment.setEventIndex(eventIndex);
+                assignment.setLane(lanes.get(i));
+                assignments.add(assignment);
+            }
+        }
+        if (!assignments.isEmpty()) {
+            SetLanesRequest request = new SetLanesRequest();
+            request.setDisciplineId(discipline.id());
+            request.setQualificationEventType(stage);
+            request.setAssignments(assignments);
+            timed("lanes " + stage.getValue(), () -> progressionService.setLanes(competitionId, request));
+        }
+
+        for (CompetitionTimetableEvent event : events) {
+            List<CompetitionParticipationDto> participations = progressionService
+                    .getEventParticipations(event.getId()).getParticipations();
+            if (participations.isEmpty()) {
+                continue;
+            }
+            List<ParticipationResultRequest> results = participations.stream()
+                    .map(p -> raceResult(p, discipline))
+                    .toList();
+            timed("results " + stage.getValue(), () -> progressionService.recordResults(
+                    event.getId(), results, CompetitionEventStatus.OFFICIAL_RESULTS));
+        }
+    }
+
+    /** Each crew keeps its own pace across stages (about 2% spread), plus 1% noise per race */
+    private ParticipationResultRequest raceResult(CompetitionParticipationDto participation, SimDiscipline discipline) {
+        ParticipationResultRequest result = new ParticipationResultRequest();
+        result.setParticipationId(participation.getUuid());
+        if (random.nextDouble() < DNF_RATE) {
+            result.setFinishStatus(ParticipationStatus.DNF);
+            return result;
+        }
+        int baseTimeMs = baseTimes.computeIfAbsent(participation.getEntryId(), id -> {
+            double msPerMeter = 200 - 6 * Math.min(discipline.crewSize(), ROWING_SEATS.size());
+            return (int) (discipline.distanceMeters() * msPerMeter * (1 + 0.02 * random.nextGaussian()));
+        });
+        result.setFinishStatus(ParticipationStatus.FINISHED);
+        result.setFinishTimeMs((int) (baseTimeMs * (1 + 0.01 * random.nextGaussian())));
+        return result;
+    }
+
+    // ── Measurement ─────────────────────────────────────────────────────
+
+    private <T> T timed(String phase, Supplier<T> call) {
+        SqlRequestStats stats = SqlRequestStats.open(0);
+        long started = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            long nanos = System.nanoTime() - started;
+            SqlRequestStats.close();
+            phases.computeIfAbsent(phase, p -> new PhaseStats()).record(nanos, stats.statements(), stats.rows());
+        }
+    }
+
+    private void report(Competition competition, int clubs, Map<UUID, Integer> entryCounts, long standings, Duration elapsed) {
+        int entries = entryCounts.values().stream().mapToInt(Integer::intValue).sum();
+        StringBuilder table = new StringBuilder(String.format("%n%-16s %6s %9s %9s %9s %9s %9s %9s",
+                "phase", "calls", "p50 ms", "p95 ms", "p99 ms", "max ms", "sql/call", "rows/call"));
+        phases.forEach((phase, stats) -> table.append(String.format("%n%-16s %6d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f",
+                phase, stats.calls(), stats.percentileMillis(50), stats.percentileMillis(95),
+                stats.percentileMillis(99), stats.percentileMillis(100),
+                stats.statements / (double) stats.calls(), stats.rows / (double) stats.calls())));
+        log.info("Regatta simulation {} (seed {}): {} clubs, {} disciplines, {} entries, {} standings in {} ms{}",
+                competition.getShortName(), seed, clubs, entryCounts.size(), entries, standings,
+                elapsed.toMillis(), table);
+    }
+
+    private static final class PhaseStats {
+        private final List<Long> nanos = new ArrayList<>();
+        private long statements;
+        private long rows;
+
+        void record(long callNanos, int callStatements, long callRows) {
+            nanos.add(callNanos);
+            statements += callStatements;
+            rows += callRows;
+        }
+
+        int calls() {
+            return nanos.size();
+        }
+
+        /** Nearest-rank percentile */
+        double percentileMillis(int percentile) {
+            List<Long> sorted = nanos.stream().sorted().toList();
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+            return sorted.get(Math.max(0, rank - 1)) / 1_000_000.0;
+        }
+    }
+
+    private record SimDiscipline(
+            UUID id,
+            UUID groupId,
+            DisciplineGender gender,
+            int crewSize,
+            boolean hasCoxswain,
+            int distanceMeters,
+            int maxBoatsPerClub,
+            Integer minAge,
+            Integer maxAge,
+            Integer coxMinAge,
+            Integer coxMaxAge,
+            int maxDisciplinesPerAthlete
+    ) {}
+
+    private record SimAthlete(UUID accreditationId, Gender gender, Integer age) {}
+}
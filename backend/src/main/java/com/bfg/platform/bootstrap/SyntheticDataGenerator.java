@@ -0,0 +1,621 @@
+package com.bfg.platform.bootstrap;
+
+import com.bfg.platform.gen.model.AccreditationStatus;
+import com.bfg.platform.gen.model.CompetitionEventStatus;
+import com.bfg.platform.gen.model.CompetitionType;
+import com.bfg.platform.gen.model.DisciplineGender;
+import com.bfg.platform.gen.model.Gender;
+import com.bfg.platform.gen.model.ParticipationStatus;
+import com.bfg.platform.gen.model.QualificationEventType;
+import com.bfg.platform.gen.model.ScopeType;
+import com.bfg.platform.gen.model.SeatPosition;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Scale-factor synthetic dataset for local load testing of queries, progression and rankings.
+ * Per scale unit: 20 clubs with 150 athletes each (current-year accreditations, part of them with
+ * an expired one from last year) and 4 competitions over the active disciplines, each with a full
+ * timetable (the heats, semi-finals and finals A/B of the matching qualification tier), crews,
+ * official results and final standings. Crews advance by time, fastest first; the tier's progression
+ * rules are not applied.
+ * <p>
+ * Card prefixes are two digits and unique per club type, so at most 3 × 99 = 297 clubs exist
+ * (fewer when clubs are already present); above scale 14 the club count stops growing.
+ * <p>
+ * Builds on the reference data of TestDataBootstrapRunner (disciplines, scoring and qualification
+ * schemes), so the first run needs bfg.test-data.enabled=true as well. All rows are written with
+ * COPY in a single transaction; ids, names and results come from a Random with a fixed seed, so the
+ * same scale and seed reproduce the same dataset. Runs once — competitions named SYN-* mark it as done.
+ */
+// Before RegattaSimulationRunner, which enters the clubs and athletes generated here
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnExpression("${bfg.synthetic-data.scale:0} > 0")
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    static final String COMPETITION_PREFIX = "SYN-";
+
+    private static final int CLUBS_PER_SCALE = 20;
+    private static final int ATHLETES_PER_CLUB = 150;
+    private static final int COMPETITIONS_PER_SCALE = 4;
+    private static final int MAX_CARD_PREFIX = 99;
+    private static final int DEFAULT_DISTANCE_METERS = 2000;
+    private static final List<Integer> LANE_SEEDING_ORDER = List.of(3, 4, 2, 5, 1, 6, 7, 8);
+    private static final List<SeatPosition> ROWING_SEATS = List.of(
+            SeatPosition.STROKE, SeatPosition.BOW, SeatPosition.TWO, SeatPosition.THREE,
+            SeatPosition.FOUR, SeatPosition.FIVE, SeatPosition.SIX, SeatPosition.SEVEN);
+
+    private static final String[] MALE_FIRST_NAMES = {
+            "Иван", "Георги", "Петър", "Димитър", "Николай", "Стоян", "Калин", "Мартин", "Борис", "Красимир",
+            "Пламен", "Васил", "Тодор", "Александър", "Радослав", "Даниел", "Кристиян", "Емил", "Виктор", "Христо"
+    };
+    private static final String[] FEMALE_FIRST_NAMES = {
+            "Мария", "Елена", "Анна", "Цветана", "Десислава", "Радка", "Катерина", "Йоана", "Силвия", "Теодора",
+            "Виктория", "Габриела", "Надежда", "Росица", "Калина", "Вяра", "Невена", "Симона", "Борислава", "Ивана"
+    };
+    private static final String[] FAMILY_NAMES = {
+            "Петров", "Иванов", "Георгиев", "Димитров", "Николов", "Стоянов", "Василев", "Тодоров", "Христов", "Маринов",
+            "Колев", "Найденов", "Добрев", "Атанасов", "Костов", "Цветков", "Благоев", "Русев", "Ангелов", "Йорданов"
+    };
+    private static final String[] LOCATIONS = {
+            "Пловдив, Гребна база", "София, Панчарево", "Варна, Езеро Белослав", "Русе, Гребен канал"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int scale;
+    private final long seed;
+
+    private Random random;
+
+    public SyntheticDataGenerator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${bfg.synthetic-data.scale:0}") int scale,
+            @Value("${bfg.synthetic-data.seed:42}") long seed
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scale = scale;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(String... args) {
+        Boolean generated = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM competitions WHERE short_name LIKE ?)", Boolean.class, COMPETITION_PREFIX + "%");
+        if (Boolean.TRUE.equals(generated)) {
+            log.info("Synthetic data already present, skipping generation");
+            return;
+        }
+
+        ReferenceData reference = loadReferenceData();
+        if (reference == null) {
+            log.warn("Synthetic data needs disciplines, a scoring scheme and a qualification scheme; "
+                    + "run once with bfg.test-data.enabled=true first");
+            return;
+        }
+
+        random = new Random(seed);
+        long started = System.nanoTime();
+        Map<String, Long> rows = transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return generate(copyManager, reference);
+            } catch (IOException e) {
+                throw new SQLException("COPY of synthetic data failed", e);
+            }
+        }));
+        log.info("Generated synthetic data (scale {}, seed {}) in {} ms: {}",
+                scale, seed, (System.nanoTime() - started) / 1_000_000, rows);
+    }
+
+    private Map<String, Long> generate(CopyManager copyManager, ReferenceData reference) throws SQLException, IOException {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        int year = LocalDate.now().getYear();
+
+        List<SyntheticClub> clubs = generateClubs(copyManager, rows);
+        generateAthletes(copyManager, clubs, year, rows);
+
+        int competitions = COMPETITIONS_PER_SCALE * scale;
+        for (int i = 0; i < competitions; i++) {
+            generateCompetition(copyManager, reference, clubs, year, i, rows);
+        }
+        return rows;
+    }
+
+    // ── Clubs, athletes, accreditations ─────────────────────────────────
+
+    private List<SyntheticClub> generateClubs(CopyManager copyManager, Map<String, Long> rows) throws SQLException, IOException {
+        int wanted = CLUBS_PER_SCALE * scale;
+
+        // Card prefixes are two digits and unique per scope type, so the club count is bounded
+        List<ScopeType> types = List.of(ScopeType.INTERNAL, ScopeType.NATIONAL, ScopeType.EXTERNAL);
+        Map<ScopeType, Set<Integer>> used = new EnumMap<>(ScopeType.class);
+        types.forEach(type -> used.put(type, new HashSet<>()));
+        jdbcTemplate.query("SELECT type, card_prefix FROM clubs", rs -> {
+            String prefix = rs.getString(2);
+            if (prefix.chars().allMatch(Character::isDigit)) {
+                used.computeIfAbsent(ScopeType.fromValue(rs.getString(1)), t -> new HashSet<>()).add(Integer.parseInt(prefix));
+            }
+        });
+
+        CopyBuffer buffer = new CopyBuffer();
+        List<SyntheticClub> clubs = new ArrayList<>(wanted);
+        Map<String, Integer> nextPrefixes = new LinkedHashMap<>();
+        for (ScopeType type : types) {
+            for (int prefix = 1; prefix <= MAX_CARD_PREFIX && clubs.size() < wanted; prefix++) {
+                if (used.get(type).contains(prefix)) continue;
+                int number = clubs.size() + 1;
+                SyntheticClub club = new SyntheticClub(nextId(), String.format("%02d", prefix), type);
+                buffer.row(club.id, "Синтетичен клуб " + number, "СК" + number, club.cardPrefix, type.name(), true,
+                        "club" + number + "@synthetic.example");
+                clubs.add(club);
+            }
+            // The sequence is created here if missing, so it must also clear the prefixes already taken
+            used.get(type).addAll(clubs.stream().filter(c -> c.type == type).map(c -> Integer.parseInt(c.cardPrefix)).toList());
+            used.get(type).stream().max(Integer::compare)
+                    .ifPresent(max -> nextPrefixes.put("club-prefix:" + type.name(), max + 1));
+        }
+        if (clubs.size() < wanted) {
+            log.warn("Only {} free card prefixes, generating {} clubs instead of {}", clubs.size(), clubs.size(), wanted);
+        }
+        copy(copyManager, "clubs", "id, name, short_name, card_prefix, type, is_active, club_email", buffer, rows);
+        raiseCardSequences(nextPrefixes);
+        return clubs;
+    }
+
+    private void generateAthletes(CopyManager copyManager, List<SyntheticClub> clubs, int year, Map<String, Long> rows)
+            throws SQLException, IOException {
+        CopyBuffer athletes = new CopyBuffer();
+        CopyBuffer accreditations = new CopyBuffer();
+
+        // uk_athletes_full_name_dob: redraw a name and date of birth until the combination is unused
+        Set<String> naturalKeys = new HashSet<>();
+        jdbcTemplate.query("SELECT first_name, middle_name, last_name, date_of_birth FROM athletes", rs -> {
+            naturalKeys.add(naturalKey(rs.getString(1), rs.getString(2), rs.getString(3), rs.getObject(4, LocalDate.class)));
+        });
+
+        for (SyntheticClub club : clubs) {
+            for (int number = 1; number <= ATHLETES_PER_CLUB; number++) {
+                UUID athleteId = nextId();
+                boolean male = random.nextBoolean();
+                String firstName;
+                String middleName;
+                String lastName;
+                LocalDate dateOfBirth;
+                do {
+                    String family = pick(FAMILY_NAMES);
+                    String middle = pick(FAMILY_NAMES);
+                    firstName = male ? pick(MALE_FIRST_NAMES) : pick(FEMALE_FIRST_NAMES);
+                    middleName = male ? middle : middle + "а";
+                    lastName = male ? family : family + "а";
+                    dateOfBirth = LocalDate.of(year - 10 - random.nextInt(26), 1, 1).plusDays(random.nextInt(365));
+                } while (!naturalKeys.add(naturalKey(firstName, middleName, lastName, dateOfBirth)));
+                LocalDate insuranceFrom = LocalDate.of(year, 1, 1).plusDays(random.nextInt(90));
+
+                athletes.row(athleteId, firstName, middleName, lastName,
+                        male ? Gender.MALE.name() : Gender.FEMALE.name(), dateOfBirth,
+                        LocalDate.of(year, 1, 1).plusDays(random.nextInt(540)), insuranceFrom, insuranceFrom.plusYears(1));
+
+                UUID accreditationId = nextId();
+                String cardNumber = club.cardPrefix + String.format("%04d", number);
+                accreditations.row(accreditationId, athleteId, club.id, cardNumber, year, AccreditationStatus.ACTIVE.name());
+                if (random.nextInt(10) < 3) {
+                    accreditations.row(nextId(), athleteId, club.id, cardNumber, year - 1, AccreditationStatus.EXPIRED.name());
+                }
+                (male ? club.men : club.women).add(accreditationId);
+            }
+        }
+
+        copy(copyManager, "athletes", "id, first_name, middle_name, last_name, gender, date_of_birth, "
+                + "medical_examination_due, insurance_from, insurance_to", athletes, rows);
+        copy(copyManager, "accreditations", "id, athlete_id, club_id, accreditation_number, year, status", accreditations, rows);
+
+        Map<String, Integer> nextNumbers = new LinkedHashMap<>();
+        clubs.forEach(club -> nextNumbers.put("athlete:" + club.id, ATHLETES_PER_CLUB + 1));
+        raiseCardSequences(nextNumbers);
+    }
+
+    /**
+     * COPY bypasses CardNumberAllocator, so its sequences are moved past the written values in the
+     * same transaction; a sequence never moves back, in case the allocator was already further.
+     */
+    private void raiseCardSequences(Map<String, Integer> nextValues) {
+        List<Object[]> args = nextValues.entrySet().stream()
+                .map(e -> new Object[]{e.getKey(), e.getValue()})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO club_card_sequences (sequence_key, next_value)
+                VALUES (?, ?)
+                ON CONFLICT (sequence_key) DO UPDATE
+                SET next_value = GREATEST(club_card_sequences.next_value, EXCLUDED.next_value)
+                """, args);
+    }
+
+    // ── Competitions with timetable, crews, results and standings ───────
+
+    private void generateCompetition(CopyManager copyManager, ReferenceData reference, List<SyntheticClub> clubs,
+                                     int year, int index, Map<String, Long> rows) throws SQLException, IOException {
+        UUID competitionId = nextId();
+        LocalDate startDate = LocalDate.of(year, 4, 1).plusWeeks(index % 26);
+        Instant dayOne = startDate.atTime(7, 30).toInstant(ZoneOffset.UTC);
+        Instant submissionsClose = dayOne.minus(7, ChronoUnit.DAYS);
+
+        CopyBuffer competition = new CopyBuffer();
+        competition.row(competitionId, COMPETITION_PREFIX + (index + 1), "Синтетична регата " + (index + 1),
+                LOCATIONS[index % LOCATIONS.length], startDate, startDate.plusDays(1),
+                submissionsClose.minus(21, ChronoUnit.DAYS), submissionsClose, submissionsClose.plus(3, ChronoUnit.DAYS),
+                dayOne.minus(1, ChronoUnit.DAYS), dayOne.plus(33, ChronoUnit.HOURS),
+                reference.scoringSchemeId, reference.qualificationSchemeId, CompetitionType.NATIONAL_WATER.name(), false);
+
+        CopyBuffer events = new CopyBuffer();
+        CopyBuffer entries = new CopyBuffer();
+        CopyBuffer crewMembers = new CopyBuffer();
+        CopyBuffer participations = new CopyBuffer();
+        CopyBuffer standings = new CopyBuffer();
+
+        int laneCount = reference.laneCount;
+        Instant heatClock = dayOne;
+        Instant finalClock = dayOne.plus(1, ChronoUnit.DAYS);
+
+        for (SyntheticDiscipline discipline : reference.disciplines) {
+            if (random.nextInt(10) < 3) continue;
+
+            // Entries: boats from random clubs, numbered per club
+            int boats = 2 + random.nextInt(laneCount * 3);
+            Map<UUID, Integer> teamNumbers = new HashMap<>();
+            List<Boat> field = new ArrayList<>(boats);
+            for (int b = 0; b < boats; b++) {
+                SyntheticClub club = clubs.get(random.nextInt(clubs.size()));
+                List<UUID> crew = pickCrew(club, discipline);
+                if (crew == null) continue;
+
+                UUID entryId = nextId();
+                entries.row(entryId, competitionId, club.id, discipline.id, teamNumbers.merge(club.id, 1, Integer::sum));
+                for (int seat = 0; seat < crew.size(); seat++) {
+                    SeatPosition position = seat < discipline.crewSize ? ROWING_SEATS.get(seat) : SeatPosition.COX;
+                    crewMembers.row(nextId(), entryId, position.name(), crew.get(seat));
+                }
+                // Boat speed around 7 min for 2000 m, scaled to the discipline distance
+                int baseTimeMs = (int) ((380_000 + random.nextInt(90_000)) * (discipline.distanceMeters / (double) DEFAULT_DISTANCE_METERS));
+                field.add(new Boat(entryId, baseTimeMs));
+            }
+            if (field.isEmpty()) continue;
+
+            // Races of the tier for this field size; without one, heats when the field does not fit one race
+            QualificationTier tier = reference.tierFor(field.size());
+            int heatCount = tier != null ? tier.heatCount : field.size() > laneCount ? (field.size() + laneCount - 1) / laneCount : 0;
+            int semiFinalCount = tier != null ? tier.semiFinalCount : 0;
+            int finalBCount = tier != null ? tier.finalBCount : 0;
+
+            List<Boat> advancing = field;
+            QualificationEventType lastRound = null;
+            if (heatCount > 0) {
+                for (List<Boat> heat : split(advancing, heatCount)) {
+                    UUID eventId = nextId();
+                    events.row(eventId, competitionId, discipline.id, QualificationEventType.H.name(), heatClock,
+                            CompetitionEventStatus.OFFICIAL_RESULTS.name());
+                    heatClock = heatClock.plus(5, ChronoUnit.MINUTES);
+                    race(eventId, heat, QualificationEventType.H, participations);
+                }
+                advancing = fastest(advancing, QualificationEventType.H);
+                lastRound = QualificationEventType.H;
+            }
+            if (semiFinalCount > 0 && lastRound != null) {
+                List<Boat> semiFinalists = advancing.subList(0, Math.min(advancing.size(), semiFinalCount * laneCount));
+                for (List<Boat> semiFinal : split(semiFinalists, semiFinalCount)) {
+                    UUID eventId = nextId();
+                    events.row(eventId, competitionId, discipline.id, QualificationEventType.SF.name(), heatClock,
+                            CompetitionEventStatus.OFFICIAL_RESULTS.name());
+                    heatClock = heatClock.plus(5, ChronoUnit.MINUTES);
+                    race(eventId, semiFinal, QualificationEventType.SF, participations);
+                }
+                advancing = fastest(semiFinalists, QualificationEventType.SF);
+                lastRound = QualificationEventType.SF;
+            }
+
+            List<Boat> finalA = advancing.subList(0, Math.min(advancing.size(), laneCount));
+            if (finalBCount > 0 && lastRound != null && advancing.size() > finalA.size()) {
+                List<Boat> finalB = advancing.subList(finalA.size(), Math.min(advancing.size(), finalA.size() + finalBCount * laneCount));
+                for (List<Boat> finalBRace : split(finalB, finalBCount)) {
+                    UUID eventId = nextId();
+                    events.row(eventId, competitionId, discipline.id, QualificationEventType.FB.name(), finalClock,
+                            CompetitionEventStatus.OFFICIAL_RESULTS.name());
+                    finalClock = finalClock.plus(6, ChronoUnit.MINUTES);
+                    race(eventId, finalBRace, QualificationEventType.FB, participations);
+                }
+            }
+            UUID finalId = nextId();
+            events.row(finalId, competitionId, discipline.id, QualificationEventType.FA.name(), finalClock,
+                    CompetitionEventStatus.OFFICIAL_RESULTS.name());
+            finalClock = finalClock.plus(6, ChronoUnit.MINUTES);
+            race(finalId, finalA, QualificationEventType.FA, participations);
+
+            // Standings: by the deepest round raced (FA, FB, SF, H), then by the latest time, so a
+            // DNS or DNF falls back to the boat's time from an earlier round
+            List<Boat> ranked = field.stream()
+                    .filter(boat -> boat.standingTimeMs() != null)
+                    .sorted(Comparator.comparingInt(Boat::deepestRound).thenComparingInt(Boat::standingTimeMs))
+                    .toList();
+            for (int rank = 1; rank <= ranked.size(); rank++) {
+                Boat boat = ranked.get(rank - 1);
+                standings.row(nextId(), competitionId, discipline.id, boat.entryId, rank, boat.standingTimeMs(),
+                        reference.pointsByPlacement.getOrDefault(rank, BigDecimal.ZERO));
+            }
+        }
+
+        copy(copyManager, "competitions", "id, short_name, name, location, start_date, end_date, "
+                + "entry_submissions_open_at, entry_submissions_closed_at, last_changes_before_tm_at, technical_meeting_at, "
+                + "awarding_ceremony_at, scoring_scheme_id, qualification_scheme_id, competition_type, is_template", competition, rows);
+        copy(copyManager, "competition_timetable_events",
+                "id, competition_id, discipline_id, qualification_event_type, scheduled_at, event_status", events, rows);
+        copy(copyManager, "entries", "id, competition_id, club_id, discipline_id, team_number", entries, rows);
+        copy(copyManager, "crew_members", "id, entry_id, seat_position, accreditation_id", crewMembers, rows);
+        copy(copyManager, "competition_participations",
+                "id, competition_event_id, entry_id, lane, participation_status, finish_time_ms, place", participations, rows);
+        copy(copyManager, "competition_final_standings",
+                "id, competition_id, discipline_id, entry_id, overall_rank, time_ms, points", standings, rows);
+    }
+
+    /** Rows one race: centre lanes for the fastest seeds, about 5% DNS/DNF, places by finish time */
+    private void race(UUID eventId, List<Boat> boats, QualificationEventType round, CopyBuffer participations) {
+        List<Boat> seeded = new ArrayList<>(boats);
+        seeded.sort(Comparator.comparingInt(boat -> boat.baseTimeMs));
+        List<Integer> lanes = new ArrayList<>(LANE_SEEDING_ORDER.stream().filter(lane -> lane <= seeded.size()).toList());
+        for (int lane = LANE_SEEDING_ORDER.size() + 1; lanes.size() < seeded.size(); lane++) lanes.add(lane);
+
+        Map<Boat, Integer> times = new HashMap<>();
+        for (Boat boat : seeded) {
+            int roll = random.nextInt(40);
+            if (roll == 0) continue;
+            times.put(boat, roll == 1 ? null : boat.baseTimeMs + random.nextInt(8_000) - 4_000);
+        }
+        List<Boat> finished = seeded.stream().filter(boat -> times.get(boat) != null)
+                .sorted(Comparator.comparingInt(times::get)).toList();
+
+        for (int i = 0; i < seeded.size(); i++) {
+            Boat boat = seeded.get(i);
+            ParticipationStatus status = !times.containsKey(boat) ? ParticipationStatus.DNS
+                    : times.get(boat) == null ? ParticipationStatus.DNF : ParticipationStatus.FINISHED;
+            Integer timeMs = times.get(boat);
+            Integer place = timeMs != null ? finished.indexOf(boat) + 1 : null;
+            participations.row(nextId(), eventId, boat.entryId, lanes.get(i), status.name(), timeMs, place);
+            boat.timesMs.put(round, timeMs);
+        }
+    }
+
+    /** Deals the boats round-robin into the given number of races */
+    private static List<List<Boat>> split(List<Boat> boats, int races) {
+        List<List<Boat>> split = new ArrayList<>(races);
+        for (int r = 0; r < races; r++) split.add(new ArrayList<>());
+        for (int i = 0; i < boats.size(); i++) split.get(i % races).add(boats.get(i));
+        split.removeIf(List::isEmpty);
+        return split;
+    }
+
+    /** Boats with a finish time in the round, fastest first */
+    private static List<Boat> fastest(List<Boat> boats, QualificationEventType round) {
+        return boats.stream()
+                .filter(boat -> boat.timesMs.get(round) != null)
+                .sorted(Comparator.comparingInt(boat -> boat.timesMs.get(round)))
+                .toList();
+    }
+
+    /**
+     * Distinct accreditations of the club for the rowing seats plus cox; mixed crews row half men and
+     * half women with a cox of either gender. Null when the club is too small or a mixed crew is odd.
+     */
+    private List<UUID> pickCrew(SyntheticClub club, SyntheticDiscipline discipline) {
+        Set<UUID> crew = new LinkedHashSet<>();
+        boolean picked = switch (discipline.gender) {
+            case MALE -> pickInto(crew, club.men, discipline.crewSize);
+            case FEMALE -> pickInto(crew, club.women, discipline.crewSize);
+            case MIXED -> discipline.crewSize % 2 == 0
+                    && pickInto(crew, club.men, discipline.crewSize / 2)
+                    && pickInto(crew, club.women, discipline.crewSize / 2);
+        };
+        if (!picked) return null;
+
+        if (discipline.hasCoxswain) {
+            List<UUID> coxPool = switch (discipline.gender) {
+                case MALE -> club.men;
+                case FEMALE -> club.women;
+                case MIXED -> random.nextBoolean() ? club.men : club.women;
+            };
+            if (!pickInto(crew, coxPool, 1)) return null;
+        }
+        return new ArrayList<>(crew);
+    }
+
+    /** Adds count accreditations from the pool that are not in the crew yet; false when the pool runs short */
+    private boolean pickInto(Set<UUID> crew, List<UUID> pool, int count) {
+        long available = pool.stream().filter(id -> !crew.contains(id)).count();
+        if (available < count) return false;
+        int target = crew.size() + count;
+        while (crew.size() < target) {
+            crew.add(pool.get(random.nextInt(pool.size())));
+        }
+        return true;
+    }
+
+    // ── Reference data and helpers ──────────────────────────────────────
+
+    private ReferenceData loadReferenceData() {
+        List<SyntheticDiscipline> disciplines = jdbcTemplate.query(
+                "SELECT id, gender, crew_size, has_coxswain, distance_meters FROM discipline_definitions "
+                        + "WHERE is_active ORDER BY short_name",
+                (rs, i) -> new SyntheticDiscipline(
+                        rs.getObject(1, UUID.class),
+                        DisciplineGender.fromValue(rs.getString(2)),
+                        Math.max(1, rs.getInt(3)),
+                        rs.getBoolean(4),
+                        rs.getObject(5) != null ? rs.getInt(5) : DEFAULT_DISTANCE_METERS));
+        List<UUID> scoringSchemes = jdbcTemplate.queryForList(
+                "SELECT id FROM scoring_schemes WHERE is_active ORDER BY name LIMIT 1", UUID.class);
+        List<Map<String, Object>> qualificationSchemes = jdbcTemplate.queryForList(
+                "SELECT id, lane_count FROM qualification_schemes WHERE is_active ORDER BY name LIMIT 1");
+        if (disciplines.isEmpty() || scoringSchemes.isEmpty() || qualificationSchemes.isEmpty()) {
+            return null;
+        }
+
+        Map<Integer, BigDecimal> points = new HashMap<>();
+        jdbcTemplate.query("SELECT placement, base_points FROM scoring_rules WHERE scoring_scheme_id = ?",
+                rs -> { points.put(rs.getInt(1), rs.getBigDecimal(2)); }, scoringSchemes.get(0));
+
+        UUID qualificationSchemeId = (UUID) qualificationSchemes.get(0).get("id");
+        List<QualificationTier> tiers = jdbcTemplate.query(
+                "SELECT boat_count_min, boat_count_max, heat_count, semi_final_count, final_b_count "
+                        + "FROM qualification_tiers WHERE qualification_scheme_id = ? ORDER BY boat_count_min",
+                (rs, i) -> new QualificationTier(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4), rs.getInt(5)),
+                qualificationSchemeId);
+
+        Number laneCount = (Number) qualificationSchemes.get(0).get("lane_count");
+        return new ReferenceData(disciplines, scoringSchemes.get(0), points,
+                qualificationSchemeId, laneCount != null ? laneCount.intValue() : 6, tiers);
+    }
+
+    private void copy(CopyManager copyManager, String table, String columns, CopyBuffer buffer, Map<String, Long> rows)
+            throws SQLException, IOException {
+        if (buffer.rows == 0) return;
+        byte[] csv = buffer.text.toString().getBytes(StandardCharsets.UTF_8);
+        copyManager.copyIn("COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)", new ByteArrayInputStream(csv));
+        rows.merge(table, buffer.rows, Long::sum);
+    }
+
+    /** Random-based (version 4) UUID drawn from the seeded generator, so ids are reproducible */
+    private UUID nextId() {
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String naturalKey(String firstName, String middleName, String lastName, LocalDate dateOfBirth) {
+        return firstName + '|' + middleName + '|' + lastName + '|' + dateOfBirth;
+    }
+
+    /** CSV rows for one COPY; null becomes an unquoted empty field, which COPY reads as NULL */
+    private static final class CopyBuffer {
+        private final StringBuilder text = new StringBuilder();
+        private long rows;
+
+        void row(Object... values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) text.append(',');
+                if (values[i] == null) continue;
+                String value = values[i].toString();
+                if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+                    text.append('"').append(value.replace("\"", "\"\"")).append('"');
+                } else {
+                    text.append(value);
+                }
+            }
+            text.append('\n');
+            rows++;
+        }
+    }
+
+    private record ReferenceData(
+            List<SyntheticDiscipline> disciplines,
+            UUID scoringSchemeId,
+            Map<Integer, BigDecimal> pointsByPlacement,
+            UUID qualificationSchemeId,
+            int laneCount,
+            List<QualificationTier> tiers
+    ) {
+        QualificationTier tierFor(int boats) {
+            return tiers.stream()
+                    .filter(tier -> boats >= tier.boatCountMin && boats <= tier.boatCountMax)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private record QualificationTier(int boatCountMin, int boatCountMax, int heatCount, int semiFinalCount, int finalBCount) {}
+
+    private record SyntheticDiscipline(UUID id, DisciplineGender gender, int crewSize, boolean hasCoxswain, int distanceMeters) {}
+
+    private static final class SyntheticClub {
+        private final UUID id;
+        private final String cardPrefix;
+        private final ScopeType type;
+        private final List<UUID> men = new ArrayList<>();
+        private final List<UUID> women = new ArrayList<>();
+
+        SyntheticClub(UUID id, String cardPrefix, ScopeType type) {
+            this.id = id;
+            this.cardPrefix = cardPrefix;
+            this.type = type;
+        }
+    }
+
+    private static final class Boat {
+        /** Rounds from the deepest to the first, the order of the standings groups */
+        private static final List<QualificationEventType> ROUNDS = List.of(
+                QualificationEventType.FA, QualificationEventType.FB, QualificationEventType.SF, QualificationEventType.H);
+
+        private final UUID entryId;
+        private final int baseTimeMs;
+        /** Finish time per round raced; null for DNS and DNF */
+        private final Map<QualificationEventType, Integer> timesMs = new EnumMap<>(QualificationEventType.class);
+
+        Boat(UUID entryId, int baseTimeMs) {
+            this.entryId = entryId;
+            this.baseTimeMs = baseTimeMs;
+        }
+
+        int deepestRound() {
+            for (int i = 0; i < ROUNDS.size(); i++) {
+                if (timesMs.containsKey(ROUNDS.get(i))) return i;
+            }
+            return ROUNDS.size();
+        }
+
+        Integer standingTimeMs() {
+            for (int i = deepestRound(); i < ROUNDS.size(); i++) {
+                Integer timeMs = timesMs.get(ROUNDS.get(i));
+                if (timeMs != null) return timeMs;
+            }
+            return null;
+        }
+    }
+}
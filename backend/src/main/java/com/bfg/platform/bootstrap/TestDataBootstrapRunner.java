@@ -60,6 +60,8 @@ import com.bfg.platform.user.service.UserService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -84,7 +86,9 @@ import static com.bfg.platform.gen.model.QualificationEventType.FB;
 import static com.bfg.platform.gen.model.QualificationEventType.H;
 import static com.bfg.platform.gen.model.QualificationEventType.SF;
 
+// Before SyntheticDataGenerator, which builds on the reference data created here
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
 @AllArgsConstructor
 @Slf4j
 public class TestDataBootstrapRunner implements CommandLineRunner {
@@ -0,0 +1,39 @@
+package com.bfg.platform.club.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Counter behind CardNumberAllocator. Rows are written only through the native statements
+ * in ClubCardSequenceRepository, under a row lock.
+ */
+@Entity
+@Immutable
+@Table(name = "club_card_sequences")
+@Data
+@NoArgsConstructor
+@Setter(AccessLevel.NONE)
+public class ClubCardSequence {
+
+    @Id
+    @Column(name = "sequence_key", updatable = false)
+    private String sequenceKey;
+
+    @Column(name = "next_value", nullable = false)
+    private Integer nextValue;
+
+    @Column(name = "created_at", insertable = false, updatable = false, nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "modified_at", insertable = false, updatable = false, nullable = false)
+    private Instant modifiedAt;
+}
@@ -0,0 +1,45 @@
+package com.bfg.platform.club.repository;
+
+import com.bfg.platform.club.entity.ClubCardSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ClubCardSequenceRepository extends JpaRepository<ClubCardSequence, String> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO club_card_sequences (sequence_key, next_value)
+        VALUES (:sequenceKey, :initialValue)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    void seed(@Param("sequenceKey") String sequenceKey, @Param("initialValue") int initialValue);
+
+    @Query(value = """
+        SELECT next_value
+        FROM club_card_sequences
+        WHERE sequence_key = :sequenceKey
+        FOR UPDATE
+        """, nativeQuery = true)
+    Integer lockNextValue(@Param("sequenceKey") String sequenceKey);
+
+    @Modifying
+    @Query(value = """
+        UPDATE club_card_sequences
+        SET next_value = :nextValue
+        WHERE sequence_key = :sequenceKey
+        """, nativeQuery = true)
+    void advance(@Param("sequenceKey") String sequenceKey, @Param("nextValue") int nextValue);
+
+    /** Moves the sequence past a value written without it; never moves it back */
+    @Modifying
+    @Query(value = """
+        UPDATE club_card_sequences
+        SET next_value = :nextValue
+        WHERE sequence_key = :sequenceKey AND next_value < :nextValue
+        """, nativeQuery = true)
+    void raise(@Param("sequenceKey") String sequenceKey, @Param("nextValue") int nextValue);
+}
@@ -7,11 +7,15 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -29,8 +33,8 @@ public interface ClubCoachRepository extends JpaRepository<ClubCoach, UUID>, Jpa
 
     Optional<ClubCoach> findByClubIdAndCoachId(@NonNull UUID clubId, @NonNull UUID coachId);
 
-    @org.springframework.data.jpa.repository.Query("SELECT cc.coachId FROM ClubCoach cc")
-    List<UUID> findAllAssignedCoachIds();
+    @Query("SELECT DISTINCT cc.coachId FROM ClubCoach cc WHERE cc.coachId IN :coachIds")
+    Set<UUID> findAssignedCoachIds(@Param("coachIds") Collection<UUID> coachIds);
 
     void deleteByClubId(@NonNull UUID clubId);
 }
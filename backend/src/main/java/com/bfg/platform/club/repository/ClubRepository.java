@@ -11,8 +11,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import com.bfg.platform.gen.model.ScopeType;
@@ -28,8 +30,8 @@ public interface ClubRepository extends JpaRepository<Club, UUID>, JpaSpecificat
 
     Optional<Club> findByClubAdmin(@NonNull UUID clubAdmin);
 
-    @Query("SELECT c.clubAdmin FROM Club c WHERE c.clubAdmin IS NOT NULL")
-    List<UUID> findAllAssignedClubAdminIds();
+    @Query("SELECT DISTINCT c.clubAdmin FROM Club c WHERE c.clubAdmin IN :userIds")
+    Set<UUID> findAssignedClubAdminIds(@Param("userIds") Collection<UUID> userIds);
 
     @Query(value = """
         SELECT LPAD(CAST(COALESCE(MAX(CAST(card_prefix AS INTEGER)), 0) + 1 AS TEXT), 2, '0')
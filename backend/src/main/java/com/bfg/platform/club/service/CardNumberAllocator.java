@@ -0,0 +1,30 @@
+package com.bfg.platform.club.service;
+
+import com.bfg.platform.gen.model.ScopeType;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hands out athlete card numbers and club card prefixes from club_card_sequences under a row lock,
+ * so concurrent callers never receive the same value. Athlete numbers are reserved in blocks and
+ * served from memory; unused numbers of a block are lost on restart (gaps are expected).
+ * A sequence starts after the highest value in use when it is first needed; values written
+ * without the allocator afterwards must be reported through the *Used methods; athlete numbers
+ * already on an accreditation are skipped in case a block was reserved before such a report.
+ * Range limits (9999 athletes, 99 prefixes) are enforced by the callers.
+ */
+public interface CardNumberAllocator {
+
+    int nextAthleteNumber(UUID clubId, String cardPrefix);
+
+    List<Integer> nextAthleteNumbers(UUID clubId, String cardPrefix, int count);
+
+    int nextClubPrefix(ScopeType type);
+
+    /** Records an athlete number written without the allocator (legacy migration) so it is not handed out */
+    void athleteNumberUsed(UUID clubId, int number);
+
+    /** Records a club prefix chosen by the caller (club migration) so it is not handed out */
+    void clubPrefixUsed(ScopeType type, int prefix);
+}
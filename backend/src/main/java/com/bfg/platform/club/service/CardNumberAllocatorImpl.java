@@ -0,0 +1,144 @@
+package com.bfg.platform.club.service;
+
+import com.bfg.platform.athlete.repository.AccreditationRepository;
+import com.bfg.platform.club.repository.ClubCardSequenceRepository;
+import com.bfg.platform.club.repository.ClubRepository;
+import com.bfg.platform.gen.model.ScopeType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+@Service
+public class CardNumberAllocatorImpl implements CardNumberAllocator {
+
+    private final ClubCardSequenceRepository sequenceRepository;
+    private final AccreditationRepository accreditationRepository;
+    private final ClubRepository clubRepository;
+    private final TransactionTemplate reserveTransaction;
+    private final int athleteBlockSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public CardNumberAllocatorImpl(
+            ClubCardSequenceRepository sequenceRepository,
+            AccreditationRepository accreditationRepository,
+            ClubRepository clubRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${bfg.card-numbers.athlete-block-size:20}") int athleteBlockSize
+    ) {
+        this.sequenceRepository = sequenceRepository;
+        this.accreditationRepository = accreditationRepository;
+        this.clubRepository = clubRepository;
+        this.athleteBlockSize = Math.max(1, athleteBlockSize);
+
+        // Reservations commit on their own so the row lock is held only for the reservation itself
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public int nextAthleteNumber(UUID clubId, String cardPrefix) {
+        return nextAthleteNumbers(clubId, cardPrefix, 1).get(0);
+    }
+
+    @Override
+    public List<Integer> nextAthleteNumbers(UUID clubId, String cardPrefix, int count) {
+        List<Integer> values = new ArrayList<>(count);
+        if (count <= 0) return values;
+
+        String key = "athlete:" + clubId;
+        Block block = blocks.computeIfAbsent(key, k -> new Block());
+        synchronized (block) {
+            while (values.size() < count) {
+                List<Integer> drawn = new ArrayList<>(count - values.size());
+                while (drawn.size() < count - values.size()) {
+                    if (block.next >= block.limit) {
+                        int size = Math.max(athleteBlockSize, count - values.size() - drawn.size());
+                        block.next = reserveTransaction.execute(status ->
+                                reserveRange(key, size, () -> Integer.parseInt(
+                                        accreditationRepository.findNextAthleteNumberForClub(clubId, cardPrefix + "%"))));
+                        block.limit = block.next + size;
+                    }
+                    drawn.add(block.next++);
+                }
+                // A block reserved before another node reported a migrated number may still cover it
+                Set<String> inUse = accreditationRepository.findAccreditationNumbersIn(clubId,
+                        drawn.stream().map(number -> cardNumber(cardPrefix, number)).toList());
+                drawn.stream()
+                        .filter(number -> !inUse.contains(cardNumber(cardPrefix, number)))
+                        .forEach(values::add);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Prefixes are scarce (99 per scope type), so they are reserved in the caller's transaction:
+     * a club creation that rolls back gives its prefix back instead of leaving a gap.
+     */
+    @Override
+    @Transactional
+    public int nextClubPrefix(ScopeType type) {
+        return reserveRange("club-prefix:" + type.name(), 1, () -> {
+            String next = clubRepository.findNextCardPrefix(type.name());
+            return next != null ? Integer.parseInt(next) : 1;
+        });
+    }
+
+    @Override
+    @Transactional
+    public void athleteNumberUsed(UUID clubId, int number) {
+        String key = "athlete:" + clubId;
+        sequenceRepository.raise(key, number + 1);
+        Block block = blocks.get(key);
+        if (block != null) {
+            // The rest of the local block may overlap the reported numbers; the next draw reserves past them
+            synchronized (block) {
+                if (number >= block.next) {
+                    block.limit = block.next;
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void clubPrefixUsed(ScopeType type, int prefix) {
+        sequenceRepository.raise("club-prefix:" + type.name(), prefix + 1);
+    }
+
+    /**
+     * Reserves [start, start + size) under the sequence row lock. The highest value in use is
+     * scanned only to seed a row that does not exist yet; after that the row alone decides.
+     * Concurrent first callers both try to seed: ON CONFLICT keeps one row and the lock orders them.
+     */
+    private int reserveRange(String key, int size, IntSupplier initialValue) {
+        Integer start = sequenceRepository.lockNextValue(key);
+        if (start == null) {
+            sequenceRepository.seed(key, initialValue.getAsInt());
+            start = sequenceRepository.lockNextValue(key);
+        }
+        sequenceRepository.advance(key, start + size);
+        return start;
+    }
+
+    private static String cardNumber(String cardPrefix, int number) {
+        return cardPrefix + String.format("%04d", number);
+    }
+
+    private static final class Block {
+        private int next;
+        private int limit;
+    }
+}
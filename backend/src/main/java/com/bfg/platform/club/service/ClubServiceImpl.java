@@ -72,6 +72,7 @@ public class ClubServiceImpl implements ClubService {
     private final ScopeAccessValidator scopeAccessValidator;
     private final com.bfg.platform.common.security.SecurityContextHelper securityContextHelper;
     private final MessageResolver messageResolver;
+    private final CardNumberAllocator cardNumberAllocator;
 
     @Override
     @Transactional(readOnly = true)
@@ -368,6 +369,7 @@ public class ClubServiceImpl implements ClubService {
         try {
             Club saved = clubRepository.save(club);
             entityManager.flush();
+            cardNumberAllocator.clubPrefixUsed(saved.getType(), Integer.parseInt(saved.getCardPrefix()));
             transactionManager.commit(status);
             
             final int presignedExpirySeconds = 3600;
@@ -439,17 +441,12 @@ public class ClubServiceImpl implements ClubService {
         throw new com.bfg.platform.common.exception.ForbiddenException(messageResolver.resolve("club.modifyForbidden"));
     }
 
-    @Transactional
     private String findNextCardPrefix(ScopeType type) {
-        String prefix = clubRepository.findNextCardPrefix(type.name());
-        if (prefix == null) {
-            return "01";
-        }
-        int prefixNum = Integer.parseInt(prefix);
+        int prefixNum = cardNumberAllocator.nextClubPrefix(type);
         if (prefixNum > 99) {
             throw new ValidationException(messageResolver.resolve("club.allPrefixesUsed", type));
         }
-        return prefix;
+        return String.format("%02d", prefixNum);
     }
 
 
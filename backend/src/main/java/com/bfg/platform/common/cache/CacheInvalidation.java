@@ -0,0 +1,20 @@
+package com.bfg.platform.common.cache;
+
+/**
+ * One invalidation message on the bus: the logical cache it targets and the key to drop.
+ * A null key means the whole cache, which is also what subscribers receive after a reconnect.
+ */
+public record CacheInvalidation(String cache, String key) {
+
+    public static CacheInvalidation of(String cache, String key) {
+        return new CacheInvalidation(cache, key);
+    }
+
+    public static CacheInvalidation flush(String cache) {
+        return new CacheInvalidation(cache, null);
+    }
+
+    public boolean isFlush() {
+        return key == null;
+    }
+}
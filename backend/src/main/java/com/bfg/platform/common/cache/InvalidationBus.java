@@ -0,0 +1,337 @@
+package com.bfg.platform.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Cross-node cache invalidation over Postgres LISTEN/NOTIFY.
+ * Publishing inside a transaction is deferred until after commit, so a rolled-back change never
+ * evicts anything. One background thread owns a dedicated connection (outside the pool): it sends
+ * queued messages with pg_notify and delivers notifications from other nodes to the subscribers
+ * of their cache. NOTIFY is fire-and-forget, so after any failed connection attempt the next
+ * successful connect gives every subscriber a full flush for whatever was missed while it was down.
+ * A failing notification or handler is counted and logged; it never stops the listener thread.
+ * A message Postgres keeps refusing on a healthy connection (e.g. a payload over the 8000 byte
+ * NOTIFY limit) is dropped after max-send-attempts and replaced by a flush of its cache.
+ * Metrics: bfg.cache.invalidation.published, .received, .failed, .dropped, .rejected,
+ * .reconnects, .pending and .lag.
+ */
+@Component
+@Slf4j
+public class InvalidationBus {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String channel;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+    private final long keepaliveIntervalMs;
+    private final int maxSendAttempts;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final BlockingQueue<CacheInvalidation> outbound;
+    private final Map<String, List<Consumer<CacheInvalidation>>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor listenerExecutor;
+    private volatile boolean running;
+    /** Failed sends of the message at the head of the queue; touched only by the listener thread */
+    private int headAttempts;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Counter rejected;
+    private final Counter reconnects;
+    private final Timer lag;
+
+    public InvalidationBus(
+            DataSourceProperties dataSourceProperties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${bfg.cache-invalidation.enabled:true}") boolean enabled,
+            @Value("${bfg.cache-invalidation.channel:bfg_cache_invalidation}") String channel,
+            @Value("${bfg.cache-invalidation.queue-capacity:10000}") int queueCapacity,
+            @Value("${bfg.cache-invalidation.poll-timeout-ms:500}") int pollTimeoutMs,
+            @Value("${bfg.cache-invalidation.reconnect-delay-ms:5000}") long reconnectDelayMs,
+            @Value("${bfg.cache-invalidation.keepalive-interval-ms:30000}") long keepaliveIntervalMs,
+            @Value("${bfg.cache-invalidation.max-send-attempts:3}") int maxSendAttempts
+    ) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled && dataSourceProperties.determineUrl() != null
+                && dataSourceProperties.determineUrl().startsWith("jdbc:postgresql:");
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            // Used verbatim in LISTEN, which takes an identifier rather than a bind parameter
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        this.channel = channel;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.keepaliveIntervalMs = keepaliveIntervalMs;
+        this.maxSendAttempts = Math.max(1, maxSendAttempts);
+        this.outbound = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.listenerExecutor = new ThreadPoolTaskExecutor();
+        this.listenerExecutor.setCorePoolSize(1);
+        this.listenerExecutor.setMaxPoolSize(1);
+        this.listenerExecutor.setQueueCapacity(0);
+        this.listenerExecutor.setThreadNamePrefix("cache-invalidation-");
+        this.listenerExecutor.setDaemon(true);
+        this.listenerExecutor.initialize();
+
+        Gauge.builder("bfg.cache.invalidation.pending", outbound, BlockingQueue::size)
+                .description("Invalidations waiting to be sent")
+                .register(meterRegistry);
+        this.failed = Counter.builder("bfg.cache.invalidation.failed")
+                .description("Invalidations that could not be sent or handled")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("bfg.cache.invalidation.dropped")
+                .description("Invalidations dropped because the send queue was full")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("bfg.cache.invalidation.rejected")
+                .description("Invalidations dropped after Postgres refused them max-send-attempts times")
+                .register(meterRegistry);
+        this.reconnects = Counter.builder("bfg.cache.invalidation.reconnects")
+                .description("Listener reconnects, each followed by a full flush")
+                .register(meterRegistry);
+        this.lag = Timer.builder("bfg.cache.invalidation.lag")
+                .description("Time from publishing on one node to delivery on another")
+                .register(meterRegistry);
+    }
+
+    /** Registers a handler for invalidations of a cache; it runs on the listener thread and must be quick */
+    public void subscribe(String cache, Consumer<CacheInvalidation> handler) {
+        subscribers.computeIfAbsent(cache, c -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /** Announces an invalidation to the other nodes, after commit when called inside a transaction */
+    public void publish(CacheInvalidation invalidation) {
+        if (!enabled) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(invalidation);
+                }
+            });
+        } else {
+            enqueue(invalidation);
+        }
+    }
+
+    /** For callers that already run after commit (e.g. Hibernate post-commit listeners) */
+    public void publishCommitted(CacheInvalidation invalidation) {
+        if (!enabled) return;
+        enqueue(invalidation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Cache invalidation bus disabled; in-process caches are not synchronized across nodes");
+            return;
+        }
+        running = true;
+        listenerExecutor.execute(this::listen);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        listenerExecutor.shutdown();
+    }
+
+    private void enqueue(CacheInvalidation invalidation) {
+        if (!outbound.offer(invalidation)) {
+            // Losing a message is unsafe; the TTL of the affected cache is the only remaining bound
+            dropped.increment();
+            log.warn("Cache invalidation queue is full, dropping {}", invalidation);
+        }
+    }
+
+    private void listen() {
+        // Anything published while no connection was listening is lost, including before the first
+        // successful connect, so every connect that follows a failed attempt starts with a full flush
+        boolean missed = false;
+        while (running) {
+            try (Connection connection = connect()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                if (missed) {
+                    reconnects.increment();
+                    flushAll();
+                    missed = false;
+                }
+                log.info("Listening for cache invalidations on channel {}", channel);
+
+                long lastCheck = System.currentTimeMillis();
+                while (running) {
+                    try {
+                        sendPending(connection);
+                    } catch (RuntimeException e) {
+                        failed.increment();
+                        log.warn("Sending cache invalidations failed", e);
+                    }
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            try {
+                                receive(notification.getParameter());
+                            } catch (RuntimeException e) {
+                                failed.increment();
+                                log.warn("Handling cache invalidation {} failed", notification.getParameter(), e);
+                            }
+                        }
+                    }
+                    if (System.currentTimeMillis() - lastCheck > keepaliveIntervalMs) {
+                        if (!connection.isValid(5)) {
+                            throw new SQLException("Invalidation listener connection is no longer valid");
+                        }
+                        lastCheck = System.currentTimeMillis();
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) return;
+                missed = true;
+                log.warn("Cache invalidation listener lost its connection, retrying in {} ms: {}", reconnectDelayMs, e.getMessage());
+                sleep(reconnectDelayMs);
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        }
+        return connection;
+    }
+
+    private void sendPending(Connection connection) throws SQLException {
+        CacheInvalidation next;
+        while ((next = outbound.peek()) != null) {
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(
+                        new Message(nodeId, next.cache(), next.key(), System.currentTimeMillis()));
+            } catch (JsonProcessingException e) {
+                outbound.poll();
+                failed.increment();
+                continue;
+            }
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            } catch (SQLException e) {
+                if (isConnectionFailure(connection, e)) throw e;
+                rejectHead(next, e);
+                // Retried on the next poll round instead of spinning on the same error
+                return;
+            }
+            // Removed only once sent, so a connection failure keeps it queued for the next connection
+            outbound.poll();
+            headAttempts = 0;
+            meterRegistry.counter("bfg.cache.invalidation.published", "cache", next.cache()).increment();
+        }
+    }
+
+    private static boolean isConnectionFailure(Connection connection, SQLException e) throws SQLException {
+        // SQLState class 08 is a connection exception; anything else on a live connection is about the message
+        return (e.getSQLState() != null && e.getSQLState().startsWith("08")) || !connection.isValid(5);
+    }
+
+    private void rejectHead(CacheInvalidation next, SQLException e) {
+        failed.increment();
+        if (++headAttempts < maxSendAttempts) {
+            log.warn("Sending cache invalidation {} failed (attempt {} of {}): {}", next, headAttempts, maxSendAttempts, e.getMessage());
+            return;
+        }
+        outbound.poll();
+        headAttempts = 0;
+        rejected.increment();
+        log.error("Dropping cache invalidation {} after {} failed attempts", next, maxSendAttempts, e);
+        if (!next.isFlush()) {
+            // Other nodes still have to forget the key, so fall back to a flush of the whole cache
+            enqueue(CacheInvalidation.flush(next.cache()));
+        }
+    }
+
+    private void receive(String payload) {
+        Message message;
+        try {
+            message = objectMapper.readValue(payload, Message.class);
+        } catch (JsonProcessingException e) {
+            failed.increment();
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (nodeId.equals(message.node())) return;
+
+        lag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - message.sentAt())));
+        meterRegistry.counter("bfg.cache.invalidation.received", "cache", message.cache()).increment();
+        dispatch(new CacheInvalidation(message.cache(), message.key()));
+    }
+
+    private void flushAll() {
+        log.info("Flushing {} cache(s) after the invalidation listener (re)connected", subscribers.size());
+        subscribers.keySet().forEach(cache -> dispatch(CacheInvalidation.flush(cache)));
+    }
+
+    private void dispatch(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> handler : subscribers.getOrDefault(invalidation.cache(), List.of())) {
+            try {
+                handler.accept(invalidation);
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Cache invalidation handler for {} failed", invalidation.cache(), e);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Message(String node, String cache, String key, long sentAt) {
+    }
+}
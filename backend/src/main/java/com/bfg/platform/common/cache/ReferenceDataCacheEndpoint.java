@@ -0,0 +1,73 @@
+package com.bfg.platform.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * /actuator/referencecache — configured size and Hibernate hit/miss statistics per
+ * second-level cache region; DELETE drops every region on this node.
+ */
+@Component
+@Endpoint(id = "referencecache")
+public class ReferenceDataCacheEndpoint {
+
+    private final CacheManager cacheManager;
+    private final Statistics statistics;
+    private final ReferenceDataCacheInvalidator invalidator;
+
+    public ReferenceDataCacheEndpoint(
+            CacheManager referenceDataCacheManager,
+            EntityManagerFactory entityManagerFactory,
+            ReferenceDataCacheInvalidator invalidator
+    ) {
+        this.cacheManager = referenceDataCacheManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.invalidator = invalidator;
+    }
+
+    @ReadOperation
+    public Map<String, RegionDescriptor> regions() {
+        Map<String, RegionDescriptor> regions = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CacheRegionStatistics stats = statistics.isStatisticsEnabled() ? statistics.getCacheRegionStatistics(name) : null;
+            regions.put(name, new RegionDescriptor(
+                    heapEntries(cacheManager.getCache(name)),
+                    stats != null ? stats.getHitCount() : null,
+                    stats != null ? stats.getMissCount() : null,
+                    stats != null ? stats.getPutCount() : null
+            ));
+        }
+        return regions;
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        invalidator.evictAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long heapEntries(Cache<Object, Object> cache) {
+        Eh107Configuration<Object, Object> configuration = cache.getConfiguration(Eh107Configuration.class);
+        CacheRuntimeConfiguration<?, ?> runtime = configuration.unwrap(CacheRuntimeConfiguration.class);
+        SizedResourcePool heap = runtime.getResourcePools().getPoolForResource(ResourceType.Core.HEAP);
+        return heap != null ? heap.getSize() : null;
+    }
+
+    public record RegionDescriptor(Long heapEntries, Long hitCount, Long missCount, Long putCount) {
+    }
+}
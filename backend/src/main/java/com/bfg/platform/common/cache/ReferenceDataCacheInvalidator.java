@@ -0,0 +1,118 @@
+package com.bfg.platform.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Hooks into Hibernate after commit and announces every change to a second-level cached
+ * entity on the InvalidationBus. Hibernate already keeps the local regions consistent;
+ * other nodes receive the change and drop their copies through evict().
+ */
+@Component
+@Slf4j
+public class ReferenceDataCacheInvalidator implements
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    public static final String CACHE_NAME = "reference-data";
+
+    private static final char KEY_SEPARATOR = '#';
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final InvalidationBus invalidationBus;
+
+    public ReferenceDataCacheInvalidator(EntityManagerFactory entityManagerFactory, InvalidationBus invalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.invalidationBus = invalidationBus;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        invalidationBus.subscribe(CACHE_NAME, this::onInvalidation);
+    }
+
+    /** Drops a change made on another node: the entity (or its whole region) and all cached query results */
+    public void evict(ReferenceDataChangedEvent change) {
+        Cache cache = sessionFactory.getCache();
+        if (change.id() != null) {
+            cache.evictEntityData(change.entityName(), change.id());
+        } else {
+            cache.evictEntityData(change.entityName());
+        }
+        cache.evictQueryRegions();
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.isFlush()) {
+            evictAll();
+            return;
+        }
+        String key = invalidation.key();
+        int separator = key.indexOf(KEY_SEPARATOR);
+        evict(separator < 0
+                ? new ReferenceDataChangedEvent(key, null)
+                : new ReferenceDataChangedEvent(key.substring(0, separator), UUID.fromString(key.substring(separator + 1))));
+    }
+
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache()) return;
+        UUID uuid = id instanceof UUID value ? value : null;
+        log.debug("Reference data changed: {} {}", persister.getEntityName(), uuid);
+        String key = uuid != null ? persister.getEntityName() + KEY_SEPARATOR + uuid : persister.getEntityName();
+        invalidationBus.publishCommitted(CacheInvalidation.of(CACHE_NAME, key));
+    }
+}
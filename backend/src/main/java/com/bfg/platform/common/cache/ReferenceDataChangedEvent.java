@@ -0,0 +1,10 @@
+package com.bfg.platform.common.cache;
+
+import java.util.UUID;
+
+/**
+ * A committed insert, update or delete of a second-level cached entity.
+ * id is null when the whole entity region should be dropped.
+ */
+public record ReferenceDataChangedEvent(String entityName, UUID id) {
+}
@@ -0,0 +1,58 @@
+package com.bfg.platform.common.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pins a user's read-only transactions to the primary for a short window after they committed
+ * a write, so they see their own changes even while the replica is catching up.
+ * Disabled when windowMs is 0. The window is kept per node.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowMs;
+    private final Map<UUID, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    /** Called when a read-write transaction takes its connection; the window starts once it commits */
+    public void recordWriteOnCommit() {
+        if (windowMs <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        UUID userId = currentUserId();
+        if (userId == null) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteAt.put(userId, System.currentTimeMillis());
+            }
+        });
+    }
+
+    public boolean isInWindow() {
+        if (windowMs <= 0 || lastWriteAt.isEmpty()) return false;
+        UUID userId = currentUserId();
+        if (userId == null) return false;
+        Long writtenAt = lastWriteAt.get(userId);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < windowMs;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - windowMs;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UUID userId ? userId : null;
+    }
+}
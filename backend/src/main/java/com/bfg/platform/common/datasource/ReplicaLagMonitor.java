@@ -0,0 +1,69 @@
+package com.bfg.platform.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Samples replication lag on the replica in the background so routing never waits on it.
+ * The replica is usable only while the latest sample is fresh, succeeded and is within maxLagMs;
+ * anything else (replica down, lag spike, stalled sampler) sends read-only traffic to the primary.
+ * Metrics: bfg.datasource.replica.lag and bfg.datasource.replica.usable.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final long staleAfterMs;
+
+    private volatile double lagMs = Double.NaN;
+    private volatile long sampledAt;
+
+    public ReplicaLagMonitor(
+            DataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            String lagQuery,
+            long maxLagMs,
+            long checkIntervalMs
+    ) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout((int) Math.max(1, checkIntervalMs / 1000));
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+        this.staleAfterMs = checkIntervalMs * 3;
+
+        Gauge.builder("bfg.datasource.replica.lag", this, m -> m.lagMs)
+                .description("Replication lag of the read replica in milliseconds (NaN when unreachable)")
+                .register(meterRegistry);
+        Gauge.builder("bfg.datasource.replica.usable", this, m -> m.isReplicaUsable() ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${bfg.datasource.replica.lag-check-interval-ms:1000}")
+    public void sample() {
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            lagMs = lag != null ? lag : 0;
+            sampledAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            if (!Double.isNaN(lagMs)) {
+                log.warn("Read replica is unreachable, routing reads to the primary: {}", e.getMessage());
+            }
+            lagMs = Double.NaN;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        double lag = lagMs;
+        return !Double.isNaN(lag)
+                && lag <= maxLagMs
+                && System.currentTimeMillis() - sampledAt <= staleAfterMs;
+    }
+}
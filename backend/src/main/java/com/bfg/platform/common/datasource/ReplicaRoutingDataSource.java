@@ -0,0 +1,73 @@
+package com.bfg.platform.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections for @Transactional(readOnly = true) work to the read replica and
+ * everything else to the primary. Must sit behind a LazyConnectionDataSourceProxy so the
+ * connection is chosen after the transaction's read-only flag has been set.
+ * Falls back to the primary while the replica is lagging or unreachable, and inside a
+ * user's read-your-writes window. Metric: bfg.datasource.routing{target, reason}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Counter writes;
+    private final Counter reads;
+    private final Counter lagFallbacks;
+    private final Counter readYourWritesFallbacks;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            ReadYourWritesTracker readYourWrites,
+            MeterRegistry meterRegistry
+    ) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.writes = routingCounter(meterRegistry, Target.PRIMARY, "read-write");
+        this.reads = routingCounter(meterRegistry, Target.REPLICA, "read-only");
+        this.lagFallbacks = routingCounter(meterRegistry, Target.PRIMARY, "replica-unavailable");
+        this.readYourWritesFallbacks = routingCounter(meterRegistry, Target.PRIMARY, "read-your-writes");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.recordWriteOnCommit();
+            writes.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            lagFallbacks.increment();
+            return Target.PRIMARY;
+        }
+        if (readYourWrites.isInWindow()) {
+            readYourWritesFallbacks.increment();
+            return Target.PRIMARY;
+        }
+        reads.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("bfg.datasource.routing")
+                .description("Connections handed out by the routing data source")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,65 @@
+package com.bfg.platform.common.email;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "bfg.email.provider", havingValue = "brevo", matchIfMissing = true)
+public class BrevoEmailSender implements EmailSender {
+
+    private static final String BREVO_API_URL = "https://api.brevo.com/v3/smtp/email";
+
+    private final RestTemplate restTemplate;
+    private final String apiKey;
+    private final String fromEmail;
+    private final String fromName;
+
+    public BrevoEmailSender(
+            RestTemplate restTemplate,
+            @Value("${bfg.brevo.api-key}") String apiKey,
+            @Value("${bfg.password-reset.from-email}") String fromEmail,
+            @Value("${bfg.password-reset.from-name}") String fromName
+    ) {
+        this.restTemplate = restTemplate;
+        this.apiKey = apiKey;
+        this.fromEmail = fromEmail;
+        this.fromName = fromName;
+    }
+
+    @Override
+    public void send(String recipient, String subject, String htmlContent) {
+        Map<String, Object> body = Map.of(
+                "sender", Map.of("name", fromName, "email", fromEmail),
+                "to", List.of(Map.of("email", recipient)),
+                "subject", subject,
+                "htmlContent", htmlContent
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("api-key", apiKey);
+
+        try {
+            restTemplate.postForEntity(BREVO_API_URL, new HttpEntity<>(body, headers), String.class);
+        } catch (HttpStatusCodeException e) {
+            // 4xx other than rate limiting means the request itself is wrong; resending will not help
+            boolean retryable = e.getStatusCode().is5xxServerError()
+                    || e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+            throw new EmailDeliveryException("Brevo responded " + e.getStatusCode().value() + ": "
+                    + e.getResponseBodyAsString(), retryable, e);
+        } catch (ResourceAccessException e) {
+            throw new EmailDeliveryException("Brevo unreachable: " + e.getMessage(), true, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bfg.platform.common.email;
+
+import lombok.Getter;
+
+/** Delivery failure reported by an EmailSender; non-retryable failures are not attempted again */
+@Getter
+public class EmailDeliveryException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public EmailDeliveryException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+}
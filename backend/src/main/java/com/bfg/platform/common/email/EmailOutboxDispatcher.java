@@ -0,0 +1,154 @@
+package com.bfg.platform.common.email;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains email_outbox in batches on a background thread. Runs right after a message is committed
+ * and on a fixed delay to pick up retries. Failed deliveries are retried with exponential backoff
+ * (base delay doubled per attempt, capped) until max-attempts, then marked FAILED. A message's
+ * body is cleared once it is SENT or FAILED, and finished rows are purged after retention-days.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailSender emailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int leaseSeconds;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration retention;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository outboxRepository,
+            EmailSender emailSender,
+            PlatformTransactionManager transactionManager,
+            @Value("${bfg.email.outbox.batch-size:20}") int batchSize,
+            @Value("${bfg.email.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${bfg.email.outbox.lease-seconds:120}") int leaseSeconds,
+            @Value("${bfg.email.outbox.backoff-base-ms:5000}") long backoffBaseMs,
+            @Value("${bfg.email.outbox.backoff-max-ms:3600000}") long backoffMaxMs,
+            @Value("${bfg.email.outbox.retention-days:30}") int retentionDays
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.emailSender = emailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        this.backoffBase = Duration.ofMillis(backoffBaseMs);
+        this.backoffMax = Duration.ofMillis(backoffMaxMs);
+        this.retention = Duration.ofDays(retentionDays);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setQueueCapacity(1);
+        this.executor.setThreadNamePrefix("email-outbox-");
+        this.executor.setDaemon(true);
+        this.executor.initialize();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmailQueued(EmailQueuedEvent event) {
+        trigger();
+    }
+
+    @Scheduled(fixedDelayString = "${bfg.email.outbox.poll-interval-ms:10000}")
+    public void poll() {
+        trigger();
+    }
+
+    @Scheduled(cron = "${bfg.email.outbox.purge-cron:0 15 4 * * *}")
+    public void purge() {
+        Integer removed = transactionTemplate.execute(status ->
+                outboxRepository.deleteFinishedBefore(Instant.now().minus(retention)));
+        if (removed != null && removed > 0) {
+            log.info("Purged {} finished outbox email(s)", removed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /** Starts a drain unless one is already queued; a running drain keeps claiming until the outbox is empty */
+    private void trigger() {
+        if (!scheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+        }
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        try {
+            List<EmailOutboxMessage> batch;
+            do {
+                batch = transactionTemplate.execute(status -> outboxRepository.claimDue(batchSize, leaseSeconds));
+                if (batch == null) return;
+                batch.forEach(this::deliver);
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Email outbox dispatch failed", e);
+        }
+    }
+
+    private void deliver(EmailOutboxMessage message) {
+        try {
+            emailSender.send(message.getRecipient(), message.getSubject(), message.getHtmlContent());
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markSent(message.getId(), Instant.now()));
+            log.info("Email {} sent to {}", message.getId(), message.getRecipient());
+        } catch (EmailDeliveryException e) {
+            handleFailure(message, e.getMessage(), e.isRetryable());
+        } catch (RuntimeException e) {
+            handleFailure(message, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName(), true);
+        }
+    }
+
+    private void handleFailure(EmailOutboxMessage message, String error, boolean retryable) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        // attempts was already incremented when the message was claimed
+        if (!retryable || message.getAttempts() >= maxAttempts) {
+            log.error("Email {} to {} failed permanently after {} attempt(s): {}",
+                    message.getId(), message.getRecipient(), message.getAttempts(), error);
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markFailed(message.getId(), truncated));
+            return;
+        }
+        Instant nextAttemptAt = Instant.now().plus(backoff(message.getAttempts()));
+        log.warn("Email {} to {} failed (attempt {}), retrying at {}: {}",
+                message.getId(), message.getRecipient(), message.getAttempts(), nextAttemptAt, error);
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.scheduleRetry(message.getId(), nextAttemptAt, truncated));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+}
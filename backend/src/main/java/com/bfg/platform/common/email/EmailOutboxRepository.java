@@ -0,0 +1,53 @@
+package com.bfg.platform.common.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+    /**
+     * Claims due messages for delivery: counts the attempt and pushes next_attempt_at out by the lease,
+     * so a dispatcher that dies mid-send only delays the message. SKIP LOCKED lets several
+     * instances drain the outbox without handing out the same row twice.
+     */
+    @Query(value = """
+        UPDATE email_outbox
+        SET attempts = attempts + 1,
+            next_attempt_at = now() + make_interval(secs => :leaseSeconds)
+        WHERE id IN (
+            SELECT id
+            FROM email_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= now()
+            ORDER BY next_attempt_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING *
+        """, nativeQuery = true)
+    List<EmailOutboxMessage> claimDue(@Param("batchSize") int batchSize, @Param("leaseSeconds") int leaseSeconds);
+
+    /** Finished messages keep no body: password reset emails carry a live token */
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.bfg.platform.common.email.EmailOutboxStatus.SENT, m.sentAt = :sentAt, m.lastError = null, m.htmlContent = '' WHERE m.id = :id")
+    void markSent(@Param("id") UUID id, @Param("sentAt") Instant sentAt);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.id = :id")
+    void scheduleRetry(@Param("id") UUID id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.bfg.platform.common.email.EmailOutboxStatus.FAILED, m.lastError = :error, m.htmlContent = '' WHERE m.id = :id")
+    void markFailed(@Param("id") UUID id, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status <> com.bfg.platform.common.email.EmailOutboxStatus.PENDING AND m.createdAt < :before")
+    int deleteFinishedBefore(@Param("before") Instant before);
+}
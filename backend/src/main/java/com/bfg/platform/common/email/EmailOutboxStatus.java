@@ -0,0 +1,7 @@
+package com.bfg.platform.common.email;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,5 @@
+package com.bfg.platform.common.email;
+
+/** Published when a message is written to the outbox, so the dispatcher can deliver it right after commit */
+public record EmailQueuedEvent() {
+}
@@ -0,0 +1,11 @@
+package com.bfg.platform.common.email;
+
+/**
+ * Transport used by EmailOutboxDispatcher, selected with bfg.email.provider
+ * (brevo for the Brevo HTTP API, log to only write messages to the application log).
+ */
+public interface EmailSender {
+
+    /** @throws EmailDeliveryException when the provider did not accept the message */
+    void send(String recipient, String subject, String htmlContent);
+}
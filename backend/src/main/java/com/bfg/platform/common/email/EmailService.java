@@ -1,5 +1,13 @@
 package com.bfg.platform.common.email;
 
+import com.bfg.platform.gen.model.ExpiryAlertType;
+
+import java.time.LocalDate;
+import java.util.List;
+
 public interface EmailService {
     void sendPasswordResetEmail(String toEmail, String username, String resetToken);
+    void sendExpiryAlertDigest(String toEmail, String clubName, List<ExpiryDigestLine> lines);
+
+    record ExpiryDigestLine(String athleteName, ExpiryAlertType type, LocalDate expiresOn) {}
 }
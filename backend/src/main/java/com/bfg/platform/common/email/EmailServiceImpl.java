@@ -1,45 +1,41 @@
 package com.bfg.platform.common.email;
 
-import lombok.extern.slf4j.Slf4j;
+import com.bfg.platform.gen.model.ExpiryAlertType;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
+import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * Renders emails and writes them to the outbox in the caller's transaction;
+ * EmailOutboxDispatcher delivers them once that transaction has committed.
+ */
 @Service
-@Slf4j
 public class EmailServiceImpl implements EmailService {
 
-    private final RestTemplate restTemplate;
-    private final String apiKey;
-    private final String frontendUrl;
-    private final String fromEmail;
-    private final String fromName;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
 
-    private static final String BREVO_API_URL = "https://api.brevo.com/v3/smtp/email";
+    private final EmailOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String frontendUrl;
 
     public EmailServiceImpl(
-            RestTemplate restTemplate,
-            @Value("${bfg.brevo.api-key}") String apiKey,
-            @Value("${bfg.password-reset.frontend-url}") String frontendUrl,
-            @Value("${bfg.password-reset.from-email}") String fromEmail,
-            @Value("${bfg.password-reset.from-name}") String fromName
+            EmailOutboxRepository outboxRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${bfg.password-reset.frontend-url}") String frontendUrl
     ) {
-        this.restTemplate = restTemplate;
-        this.apiKey = apiKey;
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
         this.frontendUrl = frontendUrl;
-        this.fromEmail = fromEmail;
-        this.fromName = fromName;
     }
 
-    @Async
     @Override
+    @Transactional
     public void sendPasswordResetEmail(String toEmail, String username, String resetToken) {
         String resetUrl = frontendUrl + "/login?resetToken=" + resetToken;
 
@@ -58,25 +54,46 @@ public class EmailServiceImpl implements EmailService {
                 </div>
                 """.formatted(username, resetUrl);
 
-        Map<String, Object> body = Map.of(
-                "sender", Map.of("name", fromName, "email", fromEmail),
-                "to", List.of(Map.of("email", toEmail)),
-                "subject", "Нулиране на парола – БФГ Платформа",
-                "htmlContent", html
-        );
+        enqueue(toEmail, "Нулиране на парола – БФГ Платформа", html);
+    }
+
+    @Override
+    @Transactional
+    public void sendExpiryAlertDigest(String toEmail, String clubName, List<ExpiryDigestLine> lines) {
+        String rows = lines.stream()
+                .map(line -> "<tr><td style=\"padding: 4px 12px 4px 0;\">%s</td><td style=\"padding: 4px 12px 4px 0;\">%s</td><td>%s</td></tr>"
+                        .formatted(HtmlUtils.htmlEscape(line.athleteName() != null ? line.athleteName() : ""),
+                                expiryLabel(line.type()),
+                                line.expiresOn().format(DATE_FORMAT)))
+                .collect(Collectors.joining());
+
+        String html = """
+                <div style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;">
+                    <h2>Изтичащи документи</h2>
+                    <p>Здравейте,</p>
+                    <p>Следните документи на състезатели от клуб <strong>%s</strong> изтичат скоро:</p>
+                    <table style="border-collapse: collapse; font-size: 14px;">%s</table>
+                    <p style="color: #6b7280; font-size: 14px;">Пълният списък е наличен в БФГ Платформа.</p>
+                </div>
+                """.formatted(HtmlUtils.htmlEscape(clubName), rows);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("api-key", apiKey);
+        enqueue(toEmail, "Изтичащи документи – БФГ Платформа", html);
+    }
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+    private static String expiryLabel(ExpiryAlertType type) {
+        return switch (type) {
+            case MEDICAL_EXAMINATION -> "Медицински преглед";
+            case INSURANCE -> "Застраховка";
+            case ACCREDITATION -> "Картотекиране";
+        };
+    }
 
-        try {
-            log.info("Sending password reset email to {} for user {} via Brevo API", toEmail, username);
-            restTemplate.postForEntity(BREVO_API_URL, request, String.class);
-            log.info("Password reset email sent successfully to {}", toEmail);
-        } catch (Exception e) {
-            log.error("Failed to send password reset email to {}: {}", toEmail, e.getMessage(), e);
-        }
+    private void enqueue(String recipient, String subject, String htmlContent) {
+        outboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .htmlContent(htmlContent)
+                .build());
+        eventPublisher.publishEvent(new EmailQueuedEvent());
     }
 }
@@ -0,0 +1,18 @@
+package com.bfg.platform.common.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Offline stand-in for BrevoEmailSender (bfg.email.provider=log): every message is accepted and logged */
+@Component
+@ConditionalOnProperty(name = "bfg.email.provider", havingValue = "log")
+@Slf4j
+public class LoggingEmailSender implements EmailSender {
+
+    @Override
+    public void send(String recipient, String subject, String htmlContent) {
+        log.info("Email to {} with subject '{}' ({} chars) - not sent, bfg.email.provider=log",
+                recipient, subject, htmlContent.length());
+    }
+}
@@ -0,0 +1,105 @@
+package com.bfg.platform.common.health;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the remote checks of SampledHealthIndicator beans in the background. Every indicator is
+ * sampled once at startup and then every interval plus a random jitter, so pods do not hit
+ * the same dependency in lockstep. A check that exceeds the timeout is recorded as DOWN.
+ */
+@Component
+@Slf4j
+public class HealthSampler {
+
+    private final ThreadPoolTaskScheduler scheduler;
+    private final ThreadPoolTaskExecutor workers;
+    private final long intervalMs;
+    private final long jitterMs;
+    private final long timeoutMs;
+    private final long staleAfterMs;
+
+    public HealthSampler(
+            @Value("${bfg.health.sample-interval-ms:30000}") long intervalMs,
+            @Value("${bfg.health.sample-jitter-ms:5000}") long jitterMs,
+            @Value("${bfg.health.check-timeout-ms:3000}") long timeoutMs
+    ) {
+        this.intervalMs = intervalMs;
+        this.jitterMs = jitterMs;
+        this.timeoutMs = timeoutMs;
+        // Missing three samples in a row means the sampler itself is stuck
+        this.staleAfterMs = 3 * (intervalMs + jitterMs + timeoutMs);
+
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(1);
+        this.scheduler.setThreadNamePrefix("health-sampler-");
+        this.scheduler.setDaemon(true);
+        this.scheduler.initialize();
+
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(2);
+        this.workers.setMaxPoolSize(4);
+        this.workers.setQueueCapacity(0);
+        this.workers.setThreadNamePrefix("health-check-");
+        this.workers.setDaemon(true);
+        this.workers.initialize();
+    }
+
+    long staleAfterMs() {
+        return staleAfterMs;
+    }
+
+    void register(SampledHealthIndicator indicator) {
+        scheduler.schedule(() -> sample(indicator), Instant.now());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        workers.shutdown();
+    }
+
+    private void sample(SampledHealthIndicator indicator) {
+        try {
+            indicator.record(runCheck(indicator));
+        } finally {
+            long delay = intervalMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+            scheduler.schedule(() -> sample(indicator), Instant.now().plus(Duration.ofMillis(delay)));
+        }
+    }
+
+    private Health runCheck(SampledHealthIndicator indicator) {
+        Future<Health> check;
+        try {
+            check = workers.submit(indicator::check);
+        } catch (RejectedExecutionException e) {
+            return indicator.down("Previous checks are still running");
+        }
+        try {
+            return check.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            check.cancel(true);
+            log.warn("Health check {} timed out after {} ms", indicator.getClass().getSimpleName(), timeoutMs);
+            return indicator.down("Timed out after " + timeoutMs + " ms");
+        } catch (ExecutionException e) {
+            return indicator.down(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return indicator.down("Interrupted");
+        }
+    }
+}
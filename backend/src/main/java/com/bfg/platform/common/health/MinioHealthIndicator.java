@@ -4,40 +4,38 @@ import io.minio.BucketExistsArgs;
 import io.minio.MinioClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
-import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 
 @Component
-public class MinioHealthIndicator implements HealthIndicator {
+public class MinioHealthIndicator extends SampledHealthIndicator {
 
     private final MinioClient minioClient;
     private final String bucketName;
 
-    public MinioHealthIndicator(MinioClient minioClient, @Value("${s3.bucket-name}") String bucketName) {
+    public MinioHealthIndicator(HealthSampler sampler, MinioClient minioClient, @Value("${s3.bucket-name}") String bucketName) {
+        super(sampler);
         this.minioClient = minioClient;
         this.bucketName = bucketName;
     }
 
     @Override
-    public Health health() {
-        try {
-            boolean exists = minioClient.bucketExists(
-                BucketExistsArgs.builder().bucket(bucketName).build());
-            if (exists) {
-                return Health.up()
-                    .withDetail("service", "MinIO/S3")
-                    .withDetail("bucket", bucketName)
-                    .build();
-            }
-            return Health.down()
-                .withDetail("service", "MinIO/S3")
-                .withDetail("error", "Bucket '" + bucketName + "' does not exist")
-                .build();
-        } catch (Exception e) {
-            return Health.down()
-                .withDetail("service", "MinIO/S3")
-                .withDetail("error", e.getMessage())
+    protected String serviceName() {
+        return "MinIO/S3";
+    }
+
+    @Override
+    protected Health check() throws Exception {
+        boolean exists = minioClient.bucketExists(
+            BucketExistsArgs.builder().bucket(bucketName).build());
+        if (exists) {
+            return Health.up()
+                .withDetail("service", serviceName())
+                .withDetail("bucket", bucketName)
                 .build();
         }
+        return Health.down()
+            .withDetail("service", serviceName())
+            .withDetail("error", "Bucket '" + bucketName + "' does not exist")
+            .build();
     }
 }
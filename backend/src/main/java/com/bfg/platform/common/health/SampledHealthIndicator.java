@@ -0,0 +1,66 @@
+package com.bfg.platform.common.health;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Base for health indicators that call a remote dependency. The check runs on HealthSampler's
+ * schedule; health() only returns the last sample from memory, with sampledAt and ageMs
+ * details, so probe latency does not depend on the dependency.
+ */
+public abstract class SampledHealthIndicator implements HealthIndicator {
+
+    private final HealthSampler sampler;
+    private volatile Sample last;
+
+    protected SampledHealthIndicator(HealthSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    /** Name reported in the "service" detail */
+    protected abstract String serviceName();
+
+    /** Performs the remote check; exceptions are reported as DOWN */
+    protected abstract Health check() throws Exception;
+
+    @PostConstruct
+    void startSampling() {
+        sampler.register(this);
+    }
+
+    @Override
+    public Health health() {
+        Sample sample = last;
+        if (sample == null) {
+            return Health.unknown()
+                    .withDetail("service", serviceName())
+                    .withDetail("reason", "Not sampled yet")
+                    .build();
+        }
+        long ageMs = Duration.between(sample.sampledAt(), Instant.now()).toMillis();
+        Health.Builder builder = ageMs > sampler.staleAfterMs()
+                ? Health.down().withDetails(sample.health().getDetails()).withDetail("error", "Health sample is stale")
+                : Health.status(sample.health().getStatus()).withDetails(sample.health().getDetails());
+        return builder
+                .withDetail("sampledAt", sample.sampledAt().toString())
+                .withDetail("ageMs", ageMs)
+                .build();
+    }
+
+    void record(Health health) {
+        last = new Sample(health, Instant.now());
+    }
+
+    Health down(String error) {
+        return Health.down()
+                .withDetail("service", serviceName())
+                .withDetail("error", error != null ? error : "Unknown error")
+                .build();
+    }
+
+    private record Sample(Health health, Instant sampledAt) {}
+}
@@ -0,0 +1,70 @@
+package com.bfg.platform.common.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the SQL sequence of requests that were slow or issued too many statements.
+ * Outliers are logged once and the latest ones are kept for /actuator/sqlsamples.
+ */
+@Slf4j
+@Endpoint(id = "sqlsamples")
+public class SlowRequestSampler {
+
+    private final long slowRequestMs;
+    private final int statementThreshold;
+    private final int retained;
+    private final Deque<Sample> samples = new ArrayDeque<>();
+
+    public SlowRequestSampler(long slowRequestMs, int statementThreshold, int retained) {
+        this.slowRequestMs = slowRequestMs;
+        this.statementThreshold = statementThreshold;
+        this.retained = retained;
+    }
+
+    boolean isOutlier(long requestMs, SqlRequestStats stats) {
+        return (slowRequestMs > 0 && requestMs >= slowRequestMs)
+                || (statementThreshold > 0 && stats.statements() >= statementThreshold);
+    }
+
+    void record(String endpoint, String filterShape, long requestMs, SqlRequestStats stats) {
+        Sample sample = new Sample(Instant.now(), endpoint, filterShape, requestMs,
+                stats.statements(), stats.rows(), stats.jdbcNanos() / 1_000_000.0, stats.captured());
+        log.warn("Slow request {} [filter: {}]: {} ms, {} statement(s), {} row(s), {} ms in JDBC",
+                endpoint, filterShape, requestMs, sample.statements(), sample.rows(), Math.round(sample.jdbcMillis()));
+        if (log.isDebugEnabled()) {
+            sample.sql().forEach(s -> log.debug("  {} ms, {} row(s): {}", s.millis(), s.rows(), s.sql()));
+        }
+        synchronized (samples) {
+            samples.addFirst(sample);
+            while (samples.size() > retained) {
+                samples.removeLast();
+            }
+        }
+    }
+
+    @ReadOperation
+    public List<Sample> samples() {
+        synchronized (samples) {
+            return List.copyOf(samples);
+        }
+    }
+
+    public record Sample(
+            Instant at,
+            String endpoint,
+            String filter,
+            long requestMs,
+            int statements,
+            long rows,
+            double jdbcMillis,
+            List<SqlRequestStats.Statement> sql
+    ) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.bfg.platform.common.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Thin JDBC proxy in the style of datasource-proxy: times every execute* call and counts
+ * affected and fetched rows into the current request's SqlRequestStats. Outside a request
+ * the proxies only pass calls through; when SQL metrics are disabled nothing is wrapped at all.
+ */
+public class SqlMetricsDataSource extends DelegatingDataSource {
+
+    public SqlMetricsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlMetricsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) return identity;
+
+            Object result = SqlMetricsDataSource.invoke(target, method, args);
+            if (!(result instanceof Statement statement)) {
+                return result;
+            }
+            // prepareStatement / prepareCall carry the SQL as first argument
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            if (statement instanceof CallableStatement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, sql));
+            }
+            if (statement instanceof PreparedStatement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, sql));
+            }
+            return proxy(Statement.class, new StatementHandler(statement, sql));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private SqlRequestStats.Execution lastExecution;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) return identity;
+
+            SqlRequestStats stats = SqlRequestStats.current();
+            String name = method.getName();
+            if (stats == null) {
+                return SqlMetricsDataSource.invoke(target, method, args);
+            }
+
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                long start = System.nanoTime();
+                Object result = SqlMetricsDataSource.invoke(target, method, args);
+                lastExecution = stats.recordStatement(sql, System.nanoTime() - start, affectedRows(result));
+                return result instanceof ResultSet resultSet ? wrap(resultSet, stats, lastExecution) : result;
+            }
+
+            Object result = SqlMetricsDataSource.invoke(target, method, args);
+            if ("getResultSet".equals(name) && result instanceof ResultSet resultSet) {
+                return wrap(resultSet, stats, lastExecution);
+            }
+            return result;
+        }
+
+        private static long affectedRows(Object result) {
+            if (result instanceof Integer count) return Math.max(0, count);
+            if (result instanceof Long count) return Math.max(0, count);
+            long total = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) total += Math.max(0, count);
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) total += Math.max(0, count);
+            }
+            return total;
+        }
+
+        private static ResultSet wrap(ResultSet resultSet, SqlRequestStats stats, SqlRequestStats.Execution execution) {
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                Object identity = identity(proxy, method, args);
+                if (identity != null) return identity;
+                Object result = SqlMetricsDataSource.invoke(resultSet, method, args);
+                if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                    stats.recordRowRead(execution);
+                }
+                return result;
+            });
+        }
+    }
+}
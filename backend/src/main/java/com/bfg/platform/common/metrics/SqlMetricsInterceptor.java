@@ -0,0 +1,127 @@
+package com.bfg.platform.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Binds SqlRequestStats around each controller call and publishes per-request SQL metrics
+ * tagged by controller method and the shape of the filter parameter (literals stripped):
+ * bfg.sql.request.statements, bfg.sql.request.rows and bfg.sql.request.jdbc. Each series gets a
+ * handful of fixed buckets rather than a percentile histogram, since the tag combinations multiply.
+ * Outliers are handed to the SlowRequestSampler with their captured SQL sequence.
+ */
+public class SqlMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String STARTED_AT = SqlMetricsInterceptor.class.getName() + ".startedAt";
+    private static final String NO_FILTER = "none";
+    private static final String OTHER_FILTER = "other";
+    private static final int MAX_SHAPE_LENGTH = 120;
+
+    private static final Pattern QUOTED = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'");
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w.])-?\\d[\\w:.+-]*");
+    private static final Pattern VALUE_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 5, 10, 20, 50, 100, 200};
+    private static final double[] ROW_BUCKETS = {10, 100, 1_000, 10_000, 100_000};
+    private static final Duration[] JDBC_BUCKETS = {
+            Duration.ofMillis(5), Duration.ofMillis(20), Duration.ofMillis(50), Duration.ofMillis(100),
+            Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(5)};
+
+    private final MeterRegistry meterRegistry;
+    private final SlowRequestSampler sampler;
+    private final int captureLimit;
+    private final int maxFilterShapes;
+    private final Set<String> filterShapes = ConcurrentHashMap.newKeySet();
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry, SlowRequestSampler sampler, int captureLimit, int maxFilterShapes) {
+        this.meterRegistry = meterRegistry;
+        this.sampler = sampler;
+        this.captureLimit = captureLimit;
+        this.maxFilterShapes = maxFilterShapes;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(STARTED_AT, System.nanoTime());
+            SqlRequestStats.begin(captureLimit);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Streaming responses (SSE) continue on other threads; only the synchronous part is measured
+        SqlRequestStats.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlRequestStats stats = SqlRequestStats.end();
+        if (stats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Long startedAt = (Long) request.getAttribute(STARTED_AT);
+        long requestMs = startedAt != null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) : 0;
+
+        String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        String filter = filterShape(request.getParameter("filter"));
+
+        DistributionSummary.builder("bfg.sql.request.statements")
+                .description("SQL statements executed per request")
+                .tags("endpoint", endpoint, "filter", filter)
+                .serviceLevelObjectives(STATEMENT_BUCKETS)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("bfg.sql.request.rows")
+                .description("Rows read or written per request")
+                .tags("endpoint", endpoint, "filter", filter)
+                .serviceLevelObjectives(ROW_BUCKETS)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("bfg.sql.request.jdbc")
+                .description("Time spent in JDBC statement execution per request")
+                .tags("endpoint", endpoint, "filter", filter)
+                .serviceLevelObjectives(JDBC_BUCKETS)
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (sampler.isOutlier(requestMs, stats)) {
+            sampler.record(endpoint, filter, requestMs, stats);
+        }
+    }
+
+    /** "clubId eq 'x' and year in (2024, 2025)" → "clubId eq ? and year in (?)"; bounded to keep tag cardinality low */
+    String filterShape(String filter) {
+        if (filter == null || filter.isBlank()) {
+            return NO_FILTER;
+        }
+        String shape = QUOTED.matcher(filter).replaceAll("?");
+        shape = NUMBER.matcher(shape).replaceAll("?");
+        shape = VALUE_LIST.matcher(shape).replaceAll("(?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        if (shape.length() > MAX_SHAPE_LENGTH) {
+            shape = shape.substring(0, MAX_SHAPE_LENGTH);
+        }
+        if (filterShapes.contains(shape)) {
+            return shape;
+        }
+        if (filterShapes.size() >= maxFilterShapes) {
+            return OTHER_FILTER;
+        }
+        filterShapes.add(shape);
+        return shape;
+    }
+}
@@ -0,0 +1,104 @@
+package com.bfg.platform.common.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC activity of the request running on the current thread. Bound by SqlMetricsInterceptor
+ * for the duration of a controller call and fed by SqlMetricsDataSource; work on other threads
+ * (executors, schedulers) is not attributed to any request.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final int captureLimit;
+    private final List<Execution> captured = new ArrayList<>();
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+
+    private SqlRequestStats(int captureLimit) {
+        this.captureLimit = captureLimit;
+    }
+
+    static SqlRequestStats begin(int captureLimit) {
+        SqlRequestStats stats = new SqlRequestStats(captureLimit);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static SqlRequestStats end() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * Binds stats for work that does not go through a controller (runners, simulations, tests) until
+     * close(), keeping the first captureLimit statements; statements are only counted while
+     * SqlMetricsDataSource wraps the data source.
+     */
+    public static SqlRequestStats open(int captureLimit) {
+        return begin(captureLimit);
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    /** Returns the captured execution (to attribute result set rows to) or null beyond the capture limit */
+    Execution recordStatement(String sql, long nanos, long affectedRows) {
+        statements++;
+        jdbcNanos += nanos;
+        rows += affectedRows;
+        if (captured.size() >= captureLimit) {
+            return null;
+        }
+        Execution execution = new Execution(sql, nanos, affectedRows);
+        captured.add(execution);
+        return execution;
+    }
+
+    void recordRowRead(Execution execution) {
+        rows++;
+        if (execution != null) {
+            execution.rows++;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public List<Statement> captured() {
+        return captured.stream().map(e -> new Statement(e.sql, e.nanos / 1_000_000.0, e.rows)).toList();
+    }
+
+    static final class Execution {
+        private final String sql;
+        private final long nanos;
+        private long rows;
+
+        private Execution(String sql, long nanos, long rows) {
+            this.sql = sql;
+            this.nanos = nanos;
+            this.rows = rows;
+        }
+    }
+
+    public record Statement(String sql, double millis, long rows) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.bfg.platform.common.query;
+
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Fills in derived fields for the items of one page with batch lookups sized to the page,
+ * instead of per-item queries or loading lookup data for the whole table.
+ *
+ * <pre>
+ * PageEnricher.apply(page, PageEnricher.batch(
+ *         users -> findAssignedUserIds(users),
+ *         (dto, assigned) -> dto.setAssignedToClub(assigned.contains(dto.getUuid()))));
+ * </pre>
+ */
+@FunctionalInterface
+public interface PageEnricher<T> {
+
+    void enrich(List<T> items);
+
+    default PageEnricher<T> andThen(PageEnricher<T> next) {
+        return items -> {
+            enrich(items);
+            next.enrich(items);
+        };
+    }
+
+    /** Runs the enricher on the page content (skipped for empty pages) and returns the same page */
+    static <T> Page<T> apply(Page<T> page, PageEnricher<T> enricher) {
+        if (page.hasContent()) {
+            enricher.enrich(page.getContent());
+        }
+        return page;
+    }
+
+    /** One lookup computed from the whole page, then applied to each item */
+    static <T, R> PageEnricher<T> batch(Function<Collection<T>, R> load, BiConsumer<T, R> apply) {
+        return items -> {
+            R loaded = load.apply(items);
+            items.forEach(item -> apply.accept(item, loaded));
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.bfg.platform.common.query;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Whitelist of $select fields per entity. Each response field maps to the entity attribute
+ * path it is read from; dotted fields live on an expandable relation (see ExpandConfig), whose
+ * foreign key field is always projected with them so the nested object keeps its uuid.
+ */
+public final class SelectConfig {
+
+    public static final String ID_FIELD = "uuid";
+
+    private static final Map<Class<?>, EntitySelectConfig> CONFIGS = new HashMap<>();
+
+    static {
+        register(com.bfg.platform.athlete.entity.Athlete.class, EntitySelectConfig.builder()
+                .addField(ID_FIELD, "id")
+                .addField("firstName")
+                .addField("middleName")
+                .addField("lastName")
+                .addField("dateOfBirth")
+                .addField("gender")
+                .addField("medicalExaminationDue")
+                .addField("insuranceFrom")
+                .addField("insuranceTo")
+                .addField("registeredOn")
+                .addField("modifiedAt")
+                .build());
+
+        register(com.bfg.platform.athlete.entity.Accreditation.class, EntitySelectConfig.builder()
+                .addField(ID_FIELD, "id")
+                .addField("athleteId")
+                .addField("clubId")
+                .addField("accreditationNumber")
+                .addField("year")
+                .addField("status")
+                .addField("createdAt")
+                .addField("updatedAt", "modifiedAt")
+                .addField("athlete.firstName")
+                .addField("athlete.middleName")
+                .addField("athlete.lastName")
+                .addField("athlete.dateOfBirth")
+                .addField("athlete.gender")
+                .addField("athlete.medicalExaminationDue")
+                .addField("athlete.insuranceFrom")
+                .addField("athlete.insuranceTo")
+                .addField("club.name")
+                .addField("club.shortName")
+                .addRelation("athlete", "athleteId")
+                .addRelation("club", "clubId")
+                .build());
+    }
+
+    private SelectConfig() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static void register(Class<?> entityClass, EntitySelectConfig config) {
+        CONFIGS.put(entityClass, config);
+    }
+
+    public static Set<String> getSelectableFields(Class<?> entityClass) {
+        EntitySelectConfig config = CONFIGS.get(entityClass);
+        if (config == null) {
+            return Collections.emptySet();
+        }
+        return config.fields.keySet();
+    }
+
+    public static boolean isSelectable(Class<?> entityClass, String fieldName) {
+        EntitySelectConfig config = CONFIGS.get(entityClass);
+        return config != null && config.fields.containsKey(fieldName);
+    }
+
+    public static String getAttributePath(Class<?> entityClass, String fieldName) {
+        EntitySelectConfig config = CONFIGS.get(entityClass);
+        if (config == null) {
+            return null;
+        }
+        return config.fields.get(fieldName);
+    }
+
+    /** Select field holding the id of a relation's nested object (e.g. athlete → athleteId), or null */
+    public static String getRelationIdField(Class<?> entityClass, String relation) {
+        EntitySelectConfig config = CONFIGS.get(entityClass);
+        if (config == null) {
+            return null;
+        }
+        return config.relationIdFields.get(relation);
+    }
+
+    private static class EntitySelectConfig {
+        private final Map<String, String> fields;
+        private final Map<String, String> relationIdFields;
+
+        private EntitySelectConfig(Map<String, String> fields, Map<String, String> relationIdFields) {
+            this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+            this.relationIdFields = Map.copyOf(relationIdFields);
+        }
+
+        static Builder builder() {
+            return new Builder();
+        }
+
+        static class Builder {
+            private final Map<String, String> fields = new LinkedHashMap<>();
+            private final Map<String, String> relationIdFields = new HashMap<>();
+
+            Builder addField(String fieldName) {
+                return addField(fieldName, fieldName);
+            }
+
+            Builder addField(String fieldName, String attributePath) {
+                fields.put(fieldName, attributePath);
+                return this;
+            }
+
+            Builder addRelation(String relation, String idField) {
+                relationIdFields.put(relation, idField);
+                return this;
+            }
+
+            EntitySelectConfig build() {
+                return new EntitySelectConfig(fields, relationIdFields);
+            }
+        }
+    }
+}
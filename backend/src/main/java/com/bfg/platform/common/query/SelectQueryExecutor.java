@@ -0,0 +1,122 @@
+package com.bfg.platform.common.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs a list query as a tuple projection of the $select fields instead of loading entities,
+ * so Postgres returns only the requested columns and nothing enters the persistence context.
+ * Rows come back keyed by select field name, ready for the mapper's sparse toDto.
+ */
+public final class SelectQueryExecutor {
+
+    private SelectQueryExecutor() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static <T> Page<Map<String, Object>> findAll(
+            EntityManager entityManager,
+            Class<T> entityClass,
+            Specification<T> spec,
+            Pageable pageable,
+            Set<String> select
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Map<String, From<?, ?>> joins = new HashMap<>();
+
+        List<String> fields = new ArrayList<>(select);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        Set<String> projectedPaths = new HashSet<>();
+        for (String field : fields) {
+            String attributePath = SelectConfig.getAttributePath(entityClass, field);
+            projectedPaths.add(attributePath);
+            selections.add(resolvePath(root, joins, attributePath));
+        }
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (pageable.getSort().isSorted()) {
+            List<Order> orders = new ArrayList<>();
+            pageable.getSort().forEach(order -> {
+                Path<?> path = resolvePath(root, joins, order.getProperty());
+                if (projectedPaths.add(order.getProperty())) {
+                    selections.add(path);
+                }
+                orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+            });
+            query.orderBy(orders);
+        }
+        // Sort paths are projected too (after the select fields, not read back) so the ORDER BY stays
+        // valid if a specification turns the query into SELECT DISTINCT
+        query.multiselect(selections);
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize());
+
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+                .map(tuple -> toRow(tuple, fields))
+                .toList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<T> countRoot = countQuery.from(entityClass);
+        Predicate countPredicate = spec != null ? spec.toPredicate(countRoot, countQuery, cb) : null;
+        if (countPredicate != null) {
+            countQuery.where(countPredicate);
+        }
+        countQuery.select(cb.count(countRoot));
+        Long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+        for (int i = 0; i < fields.size(); i++) {
+            row.put(fields.get(i), tuple.get(i));
+        }
+        return row;
+    }
+
+    /** Dotted paths go through one shared LEFT join per relation, so selection and sort reuse it */
+    private static Path<?> resolvePath(Root<?> root, Map<String, From<?, ?>> joins, String attributePath) {
+        String[] parts = attributePath.split("\\.");
+        From<?, ?> from = root;
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < parts.length - 1; i++) {
+            if (!key.isEmpty()) key.append('.');
+            key.append(parts[i]);
+            From<?, ?> parent = from;
+            String relation = parts[i];
+            from = joins.computeIfAbsent(key.toString(), k -> parent.join(relation, JoinType.LEFT));
+        }
+        return from.get(parts[parts.length - 1]);
+    }
+}
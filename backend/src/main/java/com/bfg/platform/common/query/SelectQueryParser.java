@@ -0,0 +1,101 @@
+package com.bfg.platform.common.query;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class SelectQueryParser {
+
+    private SelectQueryParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /** Request attribute holding the parsed select set; SparseFieldsetResponseAdvice writes only these fields */
+    public static final String SELECTED_FIELDS_ATTRIBUTE = SelectQueryParser.class.getName() + ".selectedFields";
+
+    /**
+     * Parses and validates a $select list against SelectConfig. Returns an empty set when nothing
+     * was requested (full DTOs); otherwise the requested fields in request order, with uuid first
+     * and the id field of every relation a dotted field reads from.
+     * Dotted fields require their relation in $expand, mirroring ExpandQueryParser's nesting rule.
+     */
+    public static Set<String> parse(List<String> selectList, Class<?> entityClass, Set<String> expand) {
+        if (selectList == null || selectList.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<String> requested = selectList.stream()
+                .filter(s -> s != null && !s.isBlank())
+                .flatMap(s -> Stream.of(s.split(",")))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+
+        if (requested.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> invalid = requested.stream()
+                .filter(field -> !SelectConfig.isSelectable(entityClass, field))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (!invalid.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Invalid select options for " + entityClass.getSimpleName() + ": " + invalid
+            );
+        }
+
+        for (String field : requested) {
+            if (field.contains(".")) {
+                String parent = field.substring(0, field.lastIndexOf('.'));
+                if (expand == null || !expand.contains(parent)) {
+                    throw new IllegalArgumentException(
+                        "Cannot select '" + field + "' without also expanding '" + parent + "'"
+                    );
+                }
+            }
+        }
+
+        Set<String> select = new LinkedHashSet<>();
+        select.add(SelectConfig.ID_FIELD);
+        for (String field : requested) {
+            if (field.contains(".")) {
+                String relationIdField = SelectConfig.getRelationIdField(
+                        entityClass, field.substring(0, field.lastIndexOf('.')));
+                if (relationIdField != null) {
+                    select.add(relationIdField);
+                }
+            }
+            select.add(field);
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(SELECTED_FIELDS_ATTRIBUTE, select, RequestAttributes.SCOPE_REQUEST);
+        }
+        return select;
+    }
+
+    /**
+     * Strips a prefix from the keys of a projected row and returns the child-level values.
+     * E.g. subRow({"year": 2025, "athlete.firstName": "Ivan"}, "athlete") → {"firstName": "Ivan"}
+     */
+    public static Map<String, Object> subRow(Map<String, Object> row, String prefix) {
+        String dotPrefix = prefix + ".";
+        Map<String, Object> child = new LinkedHashMap<>();
+        row.forEach((field, value) -> {
+            if (field.startsWith(dotPrefix)) {
+                child.put(field.substring(dotPrefix.length()), value);
+            }
+        });
+        return child;
+    }
+}
@@ -0,0 +1,96 @@
+package com.bfg.platform.common.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes only the selected fields of list items for requests that went through SelectQueryParser.
+ * Sparse DTOs leave every unselected field null; those are dropped from the output, while a selected
+ * field that is null keeps its "field": null. Nested objects keep their uuid.
+ */
+@RestControllerAdvice
+public class SparseFieldsetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String CONTENT_FIELD = "content";
+
+    private final ObjectMapper objectMapper;
+
+    public SparseFieldsetResponseAdvice(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        Object attribute = servletRequest.getServletRequest().getAttribute(SelectQueryParser.SELECTED_FIELDS_ATTRIBUTE);
+        if (!(attribute instanceof Set<?> selected) || selected.isEmpty()) {
+            return body;
+        }
+
+        JsonNode tree = objectMapper.valueToTree(body);
+        JsonNode content = tree.get(CONTENT_FIELD);
+        if (content == null || !content.isArray()) {
+            // Not a list page, e.g. an error raised after the select was parsed
+            return body;
+        }
+        content.forEach(item -> prune(item, "", selected));
+        return tree;
+    }
+
+    /** Removes the properties of an item, or of a nested object under prefix, that no selected field covers */
+    private static void prune(JsonNode node, String prefix, Set<?> selected) {
+        if (!(node instanceof ObjectNode object)) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String path = prefix + field.getKey();
+            if (selected.contains(path) || (!prefix.isEmpty() && SelectConfig.ID_FIELD.equals(field.getKey()))) {
+                continue;
+            }
+            if (field.getValue().isObject() && selectsInto(selected, path + ".")) {
+                prune(field.getValue(), path + ".", selected);
+                continue;
+            }
+            fields.remove();
+        }
+    }
+
+    private static boolean selectsInto(Set<?> selected, String prefix) {
+        for (Object field : selected) {
+            if (field.toString().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,38 @@
+package com.bfg.platform.common.repository;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 (RFC 9562): 48-bit Unix time in milliseconds, version 7, a 12-bit counter and 62 random bits.
+ * Ids generated in this JVM are strictly increasing — the counter orders ids within a millisecond and
+ * borrows the next millisecond when it runs out — so new rows append to the right edge of the primary
+ * key index. Values stay ordinary uuid column values; existing v4 ids are unaffected.
+ */
+public class UuidV7Generator implements IdentifierGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+
+    /** Last issued (milliseconds << COUNTER_BITS | counter) */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    public static UUID next() {
+        long timeAndCounter = LAST.updateAndGet(
+                last -> Math.max(System.currentTimeMillis() << COUNTER_BITS, last + 1));
+        long millis = timeAndCounter >>> COUNTER_BITS;
+        long counter = timeAndCounter & ((1L << COUNTER_BITS) - 1);
+        long msb = (millis << 16) | 0x7000L | counter;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
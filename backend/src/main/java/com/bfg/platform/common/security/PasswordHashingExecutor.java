@@ -0,0 +1,182 @@
+package com.bfg.platform.common.security;
+
+import com.bfg.platform.common.exception.ServiceException;
+import com.bfg.platform.common.exception.ServiceUnavailableException;
+import com.bfg.platform.common.i18n.MessageResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt work on a small dedicated pool so hashing bursts (login storms, user migrations)
+ * cannot occupy every servlet thread. Single operations are shed with 503 when the queue is full
+ * or the wait exceeds the timeout; bulk encoding never sheds — it holds at most bulk-in-flight
+ * tasks in the pool (half of it by default, shared by all batches) so logins keep free threads and
+ * queue slots, and the calling thread hashes the overflow itself, which throttles the batch.
+ * Metrics: bfg.password.hashing.queue, .active, .rejected and .wait.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MessageResolver messageResolver;
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore bulkPermits;
+    private final long waitTimeoutMs;
+    private final Counter rejected;
+    private final Timer wait;
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            MessageResolver messageResolver,
+            MeterRegistry meterRegistry,
+            @Value("${bfg.password-hashing.threads:0}") int threads,
+            @Value("${bfg.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${bfg.password-hashing.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${bfg.password-hashing.bulk-in-flight:0}") int bulkInFlight
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.messageResolver = messageResolver;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("password-hashing-");
+        this.executor.setDaemon(true);
+        this.executor.initialize();
+        // Always below the pool size; a single-thread pool leaves bulk work entirely to the callers
+        this.bulkPermits = new Semaphore(bulkInFlight > 0 ? Math.min(bulkInFlight, poolSize - 1) : poolSize / 2);
+
+        Gauge.builder("bfg.password.hashing.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("bfg.password.hashing.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Password hashing tasks running")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("bfg.password.hashing.rejected")
+                .description("Password hashing requests shed because the pool was saturated")
+                .register(meterRegistry);
+        this.wait = Timer.builder("bfg.password.hashing.wait")
+                .description("Time from submission until a password hash was available")
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return await(submit(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matches = await(submit(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        return Boolean.TRUE.equals(matches);
+    }
+
+    /** Encodes all passwords in parallel; results are in input order */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (CharSequence rawPassword : rawPasswords) {
+            Callable<String> task = () -> passwordEncoder.encode(rawPassword);
+            Future<String> pooled = bulkPermits.tryAcquire() ? submitBulk(task) : null;
+            if (pooled != null) {
+                futures.add(pooled);
+            } else {
+                FutureTask<String> inline = new FutureTask<>(task);
+                inline.run();
+                futures.add(inline);
+            }
+        }
+        List<String> encoded = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            encoded.add(get(future));
+        }
+        return encoded;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /** Submits a task holding a bulk permit; null (permit returned) when the pool is full */
+    private <T> Future<T> submitBulk(Callable<T> task) {
+        try {
+            return executor.submit(() -> {
+                try {
+                    return task.call();
+                } finally {
+                    bulkPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkPermits.release();
+            return null;
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException(messageResolver.resolve("error.serverBusy"));
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        long start = System.nanoTime();
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceUnavailableException(messageResolver.resolve("error.serverBusy"));
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(messageResolver.resolve("error.serverBusy"));
+        } catch (ExecutionException e) {
+            throw propagate(e);
+        } finally {
+            wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static <T> T get(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            throw propagate(e);
+        }
+    }
+
+    private static RuntimeException propagate(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new ServiceException("Password hashing failed", e.getCause());
+    }
+}
@@ -0,0 +1,54 @@
+package com.bfg.platform.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/** Minimal CSV handling for file imports: comma or semicolon delimiters and double-quoted fields */
+public class CsvUtils {
+
+    private CsvUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /** Spreadsheet exports with a Bulgarian locale use ';' */
+    public static char detectDelimiter(String headerLine) {
+        return headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ';' : ',';
+    }
+
+    /** Splits the header row into lower-case column names, dropping a UTF-8 BOM */
+    public static List<String> parseHeader(String headerLine, char delimiter) {
+        String line = headerLine.startsWith("\uFEFF") ? headerLine.substring(1) : headerLine;
+        return split(line, delimiter).stream()
+                .map(h -> h.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    public static List<String> split(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -2,41 +2,112 @@ package com.bfg.platform.common.util;
 
 import org.springframework.data.domain.Page;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Method;
+import java.util.List;
 
+/**
+ * Copies a Page into a generated list response (content, totalElements, totalPages, ...).
+ * The fluent setters of each response type are resolved once into method handles and cached
+ * per class; PageResponseTypes registers all generated response types at startup, so a type
+ * without a usable content(List) fails the boot instead of the first request.
+ */
 public class PageConverter {
 
+    private static final ClassValue<Adapter> ADAPTERS = new ClassValue<>() {
+        @Override
+        protected Adapter computeValue(Class<?> responseClass) {
+            return Adapter.resolve(responseClass);
+        }
+    };
+
     public static <T, R> R toResponse(Page<T> page, Class<R> responseClass) {
         try {
-            R response = responseClass.getDeclaredConstructor().newInstance();
-            
-            Method contentMethod = responseClass.getMethod("content", java.util.List.class);
-            contentMethod.invoke(response, page.getContent());
-            
-            setFluentMethod(response, responseClass, "totalElements", page.getTotalElements());
-            setFluentMethod(response, responseClass, "totalPages", page.getTotalPages());
-            setFluentMethod(response, responseClass, "size", page.getSize());
-            setFluentMethod(response, responseClass, "number", page.getNumber());
-            setFluentMethod(response, responseClass, "numberOfElements", page.getNumberOfElements());
-            setFluentMethod(response, responseClass, "first", page.isFirst());
-            setFluentMethod(response, responseClass, "last", page.isLast());
-            setFluentMethod(response, responseClass, "empty", page.isEmpty());
-            
-            return response;
-        } catch (Exception e) {
+            return responseClass.cast(ADAPTERS.get(responseClass).convert(page));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException("Failed to convert Page to response type: " + responseClass.getName(), e);
         }
     }
 
-    private static <R> void setFluentMethod(R response, Class<R> responseClass, String methodName, Object value) {
-        try {
-            Class<?> valueType = value.getClass();
-            Method method = findFluentMethod(responseClass, methodName, valueType);
-            
-            if (method != null) {
-                method.invoke(response, value);
+    /** Resolves the setters of a response type up front; throws if it has no content(List) */
+    public static void register(Class<?> responseClass) {
+        ADAPTERS.get(responseClass);
+    }
+
+    static boolean isPageResponse(Class<?> type) {
+        return findFluentMethod(type, "content", List.class) != null;
+    }
+
+    private record Adapter(
+            MethodHandle constructor,
+            MethodHandle content,
+            MethodHandle totalElements,
+            MethodHandle totalPages,
+            MethodHandle size,
+            MethodHandle number,
+            MethodHandle numberOfElements,
+            MethodHandle first,
+            MethodHandle last,
+            MethodHandle empty
+    ) {
+
+        static Adapter resolve(Class<?> responseClass) {
+            MethodHandle content = setter(responseClass, "content", List.class, List.class);
+            if (content == null) {
+                throw new IllegalStateException(responseClass.getName() + " has no content(List) method");
+            }
+            MethodHandle constructor;
+            try {
+                constructor = MethodHandles.publicLookup()
+                        .findConstructor(responseClass, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(responseClass.getName() + " has no public no-arg constructor", e);
+            }
+            return new Adapter(
+                    constructor,
+                    content,
+                    setter(responseClass, "totalElements", Long.class, long.class),
+                    setter(responseClass, "totalPages", Integer.class, int.class),
+                    setter(responseClass, "size", Integer.class, int.class),
+                    setter(responseClass, "number", Integer.class, int.class),
+                    setter(responseClass, "numberOfElements", Integer.class, int.class),
+                    setter(responseClass, "first", Boolean.class, boolean.class),
+                    setter(responseClass, "last", Boolean.class, boolean.class),
+                    setter(responseClass, "empty", Boolean.class, boolean.class));
+        }
+
+        Object convert(Page<?> page) throws Throwable {
+            Object response = constructor.invokeExact();
+            content.invokeExact(response, (List<?>) page.getContent());
+            if (totalElements != null) totalElements.invokeExact(response, page.getTotalElements());
+            if (totalPages != null) totalPages.invokeExact(response, page.getTotalPages());
+            if (size != null) size.invokeExact(response, page.getSize());
+            if (number != null) number.invokeExact(response, page.getNumber());
+            if (numberOfElements != null) numberOfElements.invokeExact(response, page.getNumberOfElements());
+            if (first != null) first.invokeExact(response, page.isFirst());
+            if (last != null) last.invokeExact(response, page.isLast());
+            if (empty != null) empty.invokeExact(response, page.isEmpty());
+            return response;
+        }
+
+        /** Handle of shape (Object, callType)void for the fluent setter, or null when the type has none */
+        private static MethodHandle setter(Class<?> responseClass, String name, Class<?> valueType, Class<?> callType) {
+            Method method = findFluentMethod(responseClass, name, valueType);
+            if (method == null) {
+                return null;
+            }
+            try {
+                return MethodHandles.publicLookup().unreflect(method)
+                        .asType(MethodType.methodType(void.class, Object.class, callType));
+            } catch (IllegalAccessException | WrongMethodTypeException e) {
+                throw new IllegalStateException("Unusable " + name + " method on " + responseClass.getName(), e);
             }
-        } catch (Exception e) {
         }
     }
 
@@ -59,7 +130,7 @@ public class PageConverter {
     private static boolean isCompatibleType(Class<?> type1, Class<?> type2) {
         if (type1 == type2) return true;
         if (type1.isAssignableFrom(type2) || type2.isAssignableFrom(type1)) return true;
-        
+
         return (type1 == int.class && type2 == Integer.class) ||
                (type1 == Integer.class && type2 == int.class) ||
                (type1 == long.class && type2 == Long.class) ||
@@ -68,4 +139,3 @@ public class PageConverter {
                (type1 == Boolean.class && type2 == boolean.class);
     }
 }
-
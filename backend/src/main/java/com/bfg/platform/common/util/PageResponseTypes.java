@@ -0,0 +1,38 @@
+package com.bfg.platform.common.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Registers every generated list response (gen.model.*200Response with content(List)) with
+ * PageConverter at startup, so their setters are resolved before the first request.
+ */
+@Slf4j
+@Component
+public class PageResponseTypes {
+
+    private static final String MODEL_PACKAGE = "com.bfg.platform.gen.model";
+
+    @PostConstruct
+    void registerAll() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*200Response")));
+
+        int registered = 0;
+        for (BeanDefinition candidate : scanner.findCandidateComponents(MODEL_PACKAGE)) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), getClass().getClassLoader());
+            if (PageConverter.isPageResponse(type)) {
+                PageConverter.register(type);
+                registered++;
+            }
+        }
+        log.debug("Resolved page converters for {} response type(s)", registered);
+    }
+}
@@ -1,18 +1,24 @@
 package com.bfg.platform.competition.controller;
 
 import com.bfg.platform.competition.service.CompetitionProgressionService;
+import com.bfg.platform.competition.service.ProgressionSnapshotService.ProgressionSnapshot;
 import com.bfg.platform.gen.api.ProgressionApi;
 import com.bfg.platform.gen.model.AdvanceProgressionRequest;
 import com.bfg.platform.gen.model.AdvanceProgressionResponse;
+import com.bfg.platform.gen.model.CompetitionEventStatus;
 import com.bfg.platform.gen.model.CompetitionParticipationDto;
 import com.bfg.platform.gen.model.ProgressionDataDto;
 import com.bfg.platform.gen.model.RecordResultsRequest;
+import com.bfg.platform.gen.model.ResultImportReport;
 import com.bfg.platform.gen.model.SetLanesRequest;
 import com.bfg.platform.gen.model.UpdateParticipationStatusRequest;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -45,10 +51,23 @@ public class CompetitionProgressionController implements ProgressionApi {
         return ResponseEntity.ok(result);
     }
 
+    @Override
+    @PreAuthorize("hasAnyAuthority('APP_ADMIN', 'FEDERATION_ADMIN')")
+    public ResponseEntity<ResultImportReport> importResults(
+            UUID uuid, MultipartFile file, CompetitionEventStatus eventStatus, Boolean dryRun) {
+        ResultImportReport report = progressionService.importResults(uuid, file, eventStatus, Boolean.TRUE.equals(dryRun));
+        return ResponseEntity.ok(report);
+    }
+
     @Override
     @PreAuthorize("hasAnyAuthority('APP_ADMIN', 'FEDERATION_ADMIN', 'CLUB_ADMIN', 'COACH', 'UMPIRE')")
-    public ResponseEntity<ProgressionDataDto> getProgressionData(UUID uuid) {
-        return ResponseEntity.ok(progressionService.getProgressionData(uuid));
+    public ResponseEntity<ProgressionDataDto> getProgressionData(UUID uuid, String ifNoneMatch) {
+        ProgressionSnapshot snapshot = progressionService.getProgressionSnapshot(uuid, parseVersion(ifNoneMatch));
+        String eTag = "\"" + snapshot.version() + "\"";
+        if (snapshot.notModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(snapshot.data());
     }
 
     @Override
@@ -65,4 +84,22 @@ public class CompetitionProgressionController implements ProgressionApi {
                 participationUuid, request.getParticipationStatus());
         return ResponseEntity.ok(result);
     }
+
+    @Override
+    @PreAuthorize("hasAnyAuthority('APP_ADMIN', 'FEDERATION_ADMIN', 'CLUB_ADMIN', 'COACH', 'UMPIRE')")
+    public ResponseEntity<SseEmitter> streamProgression(UUID uuid, UUID eventUuid, String lastEventId) {
+        return ResponseEntity.ok(progressionService.streamProgression(uuid, eventUuid, lastEventId));
+    }
+
+    private static Long parseVersion(String ifNoneMatch) {
+        if (ifNoneMatch == null) return null;
+        String value = ifNoneMatch.trim();
+        if (value.startsWith("W/")) value = value.substring(2);
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -1,10 +1,9 @@
 package com.bfg.platform.competition.entity;
 
+import com.bfg.platform.common.repository.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -31,7 +30,7 @@ import java.util.UUID;
 public class CompetitionFinalStanding {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "id", updatable = false)
     @Setter(AccessLevel.NONE)
     private UUID id;
@@ -0,0 +1,43 @@
+package com.bfg.platform.competition.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Denormalized progression data for a competition, maintained by ProgressionSnapshotService.
+ * Rows are written only through the native statements in CompetitionProgressionSnapshotRepository.
+ */
+@Entity
+@Immutable
+@Table(name = "competition_progression_snapshots")
+@Data
+@NoArgsConstructor
+@Setter(AccessLevel.NONE)
+public class CompetitionProgressionSnapshot {
+
+    @Id
+    @Column(name = "competition_id", updatable = false)
+    private UUID competitionId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "payload", columnDefinition = "jsonb")
+    private String payload;
+
+    @Column(name = "created_at", insertable = false, updatable = false, nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "modified_at", insertable = false, updatable = false, nullable = false)
+    private Instant modifiedAt;
+}
@@ -0,0 +1,274 @@
+package com.bfg.platform.competition.live;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory fan-out of progression deltas to SSE subscribers.
+ * Every competition keeps a bounded replay buffer so reconnecting clients can resume
+ * from their Last-Event-ID; when the cursor has fallen out of the buffer a "resync" event
+ * tells the client to reload progression data once and continue on the stream.
+ * Each subscriber has its own bounded queue — a consumer that cannot keep up is disconnected
+ * instead of stalling the publisher, and recovers through the same cursor mechanism.
+ */
+@Component
+@Slf4j
+public class LiveResultsBroadcaster {
+
+    static final String EVENT_PROGRESSION = "progression";
+    static final String EVENT_RESYNC = "resync";
+    static final String EVENT_CONNECTED = "connected";
+
+    private final long emitterTimeoutMs;
+    private final int replayBufferSize;
+    private final int subscriberQueueCapacity;
+    private final ThreadPoolTaskExecutor dispatchExecutor;
+
+    // Seeded from the clock so cursors from a previous process never look "ahead" of a fresh one
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Map<UUID, CompetitionChannel> channels = new ConcurrentHashMap<>();
+
+    public LiveResultsBroadcaster(
+            @Value("${bfg.live-results.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${bfg.live-results.replay-buffer-size:500}") int replayBufferSize,
+            @Value("${bfg.live-results.subscriber-queue-capacity:256}") int subscriberQueueCapacity,
+            @Value("${bfg.live-results.dispatch-threads:4}") int dispatchThreads
+    ) {
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.replayBufferSize = replayBufferSize;
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+
+        this.dispatchExecutor = new ThreadPoolTaskExecutor();
+        this.dispatchExecutor.setCorePoolSize(dispatchThreads);
+        this.dispatchExecutor.setMaxPoolSize(dispatchThreads);
+        this.dispatchExecutor.setQueueCapacity(10_000);
+        this.dispatchExecutor.setThreadNamePrefix("live-results-");
+        this.dispatchExecutor.setDaemon(true);
+        this.dispatchExecutor.initialize();
+    }
+
+    /**
+     * Opens a stream for a competition, optionally narrowed to a single timetable event.
+     * lastEventId is the cursor sent by the client on reconnect (null on first connect).
+     */
+    public SseEmitter subscribe(UUID competitionId, UUID eventId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, eventId, subscriberQueueCapacity);
+        Long cursor = parseCursor(lastEventId);
+
+        // Register and compute the replay atomically so no delta falls between the two
+        CompetitionChannel channel = channels.compute(competitionId, (id, existing) -> {
+            CompetitionChannel target = existing != null ? existing : new CompetitionChannel();
+            synchronized (target) {
+                if (cursor == null) {
+                    subscriber.offer(Frame.control(sequence.get(), EVENT_CONNECTED));
+                } else {
+                    List<Frame> missed = target.framesAfter(cursor);
+                    List<Frame> replay = missed != null ? missed.stream().filter(subscriber::accepts).toList() : null;
+                    if (replay == null || replay.size() >= subscriberQueueCapacity) {
+                        subscriber.offer(Frame.control(sequence.get(), EVENT_RESYNC));
+                    } else {
+                        replay.forEach(subscriber::offer);
+                    }
+                }
+                target.subscribers.add(subscriber);
+            }
+            return target;
+        });
+
+        emitter.onCompletion(() -> channel.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> channel.subscribers.remove(subscriber));
+        emitter.onError(e -> channel.subscribers.remove(subscriber));
+
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProgressionChanged(ProgressionChangedEvent change) {
+        CompetitionChannel channel = channels.computeIfAbsent(change.competitionId(), id -> new CompetitionChannel());
+
+        List<Subscriber> targets;
+        Frame frame;
+        synchronized (channel) {
+            frame = Frame.delta(sequence.incrementAndGet(), change);
+            channel.append(frame, replayBufferSize);
+            targets = new ArrayList<>(channel.subscribers);
+        }
+
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.accepts(frame)) continue;
+            if (!subscriber.offer(frame)) {
+                log.debug("Live results subscriber for competition {} is too slow, disconnecting", change.competitionId());
+                channel.subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bfg.live-results.heartbeat-interval-ms:20000}")
+    public void sendHeartbeats() {
+        for (UUID competitionId : channels.keySet()) {
+            CompetitionChannel channel = channels.computeIfPresent(competitionId, (id, existing) ->
+                    existing.subscribers.isEmpty() && existing.isStale(emitterTimeoutMs) ? null : existing);
+            if (channel == null) continue;
+            for (Subscriber subscriber : channel.subscribers) {
+                if (subscriber.offer(Frame.HEARTBEAT)) {
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    public int subscriberCount(UUID competitionId) {
+        CompetitionChannel channel = channels.get(competitionId);
+        return channel != null ? channel.subscribers.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+        channels.clear();
+        dispatchExecutor.shutdown();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) return;
+        try {
+            dispatchExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Frame frame;
+            while ((frame = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(frame.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away — the emitter callbacks unregister the subscriber
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private static Long parseCursor(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static final class CompetitionChannel {
+        private final Deque<Frame> buffer = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile long lastActivityAt = System.currentTimeMillis();
+
+        void append(Frame frame, int capacity) {
+            buffer.addLast(frame);
+            while (buffer.size() > capacity) {
+                buffer.removeFirst();
+            }
+            lastActivityAt = System.currentTimeMillis();
+        }
+
+        /** Frames after the cursor, or null when the cursor is older than the buffer and a resync is required */
+        List<Frame> framesAfter(long cursor) {
+            if (buffer.isEmpty()) {
+                return cursor == Long.MIN_VALUE ? null : List.of();
+            }
+            if (cursor < buffer.peekFirst().sequence() - 1) {
+                return null;
+            }
+            List<Frame> missed = new ArrayList<>();
+            for (Frame frame : buffer) {
+                if (frame.sequence() > cursor) missed.add(frame);
+            }
+            return missed;
+        }
+
+        boolean isStale(long idleMs) {
+            return System.currentTimeMillis() - lastActivityAt > idleMs;
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final UUID eventId;
+        private final Queue<Frame> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        Subscriber(SseEmitter emitter, UUID eventId, int capacity) {
+            this.emitter = emitter;
+            this.eventId = eventId;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        boolean accepts(Frame frame) {
+            if (eventId == null || frame.change() == null) return true;
+            return frame.change().eventId() == null || eventId.equals(frame.change().eventId());
+        }
+
+        boolean offer(Frame frame) {
+            return queue.offer(frame);
+        }
+    }
+
+    private record Frame(long sequence, String name, ProgressionChangedEvent change) {
+
+        static final Frame HEARTBEAT = new Frame(-1, null, null);
+
+        static Frame delta(long sequence, ProgressionChangedEvent change) {
+            return new Frame(sequence, EVENT_PROGRESSION, change);
+        }
+
+        static Frame control(long sequence, String name) {
+            return new Frame(sequence, name, null);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .id(Long.toString(sequence))
+                    .name(name);
+            return change != null ? event.data(change) : event.data("{}");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.bfg.platform.competition.live;
+
+public enum ProgressionChangeType {
+
+    /** Results were recorded for an event — participations replace the event's participations */
+    RESULTS,
+
+    /** Lanes changed for an unraced stage — participations replace the event's participations */
+    LANES,
+
+    /** A single participation changed status (check-in / undo check-in) — upsert of that participation */
+    PARTICIPATION_STATUS,
+
+    /** The timetable event status changed; participations, when present, replace the event's participations */
+    EVENT_STATUS,
+
+    /** New participations were generated — clients should reload progression data */
+    PROGRESSION_ADVANCED
+}
@@ -0,0 +1,31 @@
+package com.bfg.platform.competition.live;
+
+import com.bfg.platform.gen.model.CompetitionEventStatus;
+import com.bfg.platform.gen.model.CompetitionParticipationDto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delta published by the progression write paths. Delivered to live subscribers
+ * only after the surrounding transaction commits.
+ * eventId is null for competition-wide changes (PROGRESSION_ADVANCED);
+ * participations is null when the change carries no participation payload.
+ */
+public record ProgressionChangedEvent(
+        UUID competitionId,
+        UUID eventId,
+        ProgressionChangeType type,
+        CompetitionEventStatus eventStatus,
+        List<CompetitionParticipationDto> participations) {
+
+    public static ProgressionChangedEvent forEvent(UUID competitionId, UUID eventId, ProgressionChangeType type,
+                                                   CompetitionEventStatus eventStatus,
+                                                   List<CompetitionParticipationDto> participations) {
+        return new ProgressionChangedEvent(competitionId, eventId, type, eventStatus, participations);
+    }
+
+    public static ProgressionChangedEvent advanced(UUID competitionId) {
+        return new ProgressionChangedEvent(competitionId, null, ProgressionChangeType.PROGRESSION_ADVANCED, null, null);
+    }
+}
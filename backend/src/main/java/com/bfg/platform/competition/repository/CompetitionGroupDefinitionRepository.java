@@ -1,14 +1,18 @@
 package com.bfg.platform.competition.repository;
 
 import com.bfg.platform.competition.entity.CompetitionGroupDefinition;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -17,4 +21,9 @@ public interface CompetitionGroupDefinitionRepository extends JpaRepository<Comp
     @Override
     @NonNull
     Page<CompetitionGroupDefinition> findAll(@NonNull Specification<CompetitionGroupDefinition> spec, @NonNull Pageable pageable);
+
+    @Override
+    @NonNull
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<CompetitionGroupDefinition> findAllById(@NonNull Iterable<UUID> ids);
 }
@@ -0,0 +1,56 @@
+package com.bfg.platform.competition.repository;
+
+import com.bfg.platform.competition.entity.CompetitionProgressionSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CompetitionProgressionSnapshotRepository extends JpaRepository<CompetitionProgressionSnapshot, UUID> {
+
+    /** Version of a built snapshot, without reading the payload; empty while none is stored */
+    @Query(value = """
+        SELECT version FROM competition_progression_snapshots
+        WHERE competition_id = :competitionId AND payload IS NOT NULL
+        """, nativeQuery = true)
+    Optional<Long> findBuiltVersion(@Param("competitionId") UUID competitionId);
+
+    /**
+     * Bumps the version and clears the payload, creating the row on first use. Two statements
+     * instead of ON CONFLICT ... DO UPDATE, which H2 does not parse; the update takes the row lock.
+     */
+    default void invalidate(UUID competitionId) {
+        ensureExists(competitionId);
+        bumpVersion(competitionId);
+    }
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO competition_progression_snapshots (competition_id, version, payload)
+        VALUES (:competitionId, 1, NULL)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    void ensureExists(@Param("competitionId") UUID competitionId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE competition_progression_snapshots
+        SET version = version + 1, payload = NULL
+        WHERE competition_id = :competitionId
+        """, nativeQuery = true)
+    void bumpVersion(@Param("competitionId") UUID competitionId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE competition_progression_snapshots
+        SET payload = CAST(:payload AS jsonb)
+        WHERE competition_id = :competitionId AND version = :version AND payload IS NULL
+        """, nativeQuery = true)
+    int storePayload(@Param("competitionId") UUID competitionId, @Param("version") long version,
+                     @Param("payload") String payload);
+}
@@ -1,6 +1,7 @@
 package com.bfg.platform.competition.repository;
 
 import com.bfg.platform.competition.entity.CompetitionTimetableEvent;
+import com.bfg.platform.gen.model.CompetitionEventStatus;
 import com.bfg.platform.gen.model.QualificationEventType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -23,6 +24,9 @@ public interface CompetitionTimetableEventRepository extends JpaRepository<Compe
 
     long countByCompetitionIdAndDisciplineId(UUID competitionId, UUID disciplineId);
 
+    boolean existsByCompetitionIdAndDisciplineIdAndEventStatusNot(
+            UUID competitionId, UUID disciplineId, CompetitionEventStatus eventStatus);
+
     List<CompetitionTimetableEvent> findByCompetitionIdAndDisciplineIdOrderByScheduledAtAsc(
             UUID competitionId, UUID disciplineId);
 
@@ -2,15 +2,19 @@ package com.bfg.platform.competition.repository;
 
 import com.bfg.platform.competition.entity.DisciplineDefinition;
 import com.bfg.platform.gen.model.DisciplineGender;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -20,6 +24,11 @@ public interface DisciplineDefinitionRepository extends JpaRepository<Discipline
     @NonNull
     Page<DisciplineDefinition> findAll(@NonNull Specification<DisciplineDefinition> spec, @NonNull Pageable pageable);
 
+    @Override
+    @NonNull
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<DisciplineDefinition> findAllById(@NonNull Iterable<UUID> ids);
+
     boolean existsByCompetitionGroupIdAndMaxCrewFromTransferGreaterThan(UUID competitionGroupId, Integer maxCrewFromTransfer);
 
     boolean existsByCompetitionGroupIdAndHasCoxswain(UUID competitionGroupId, boolean hasCoxswain);
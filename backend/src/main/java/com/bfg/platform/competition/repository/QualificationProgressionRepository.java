@@ -2,11 +2,14 @@ package com.bfg.platform.competition.repository;
 
 import com.bfg.platform.competition.entity.QualificationProgression;
 import com.bfg.platform.gen.model.QualificationEventType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -20,8 +23,10 @@ public interface QualificationProgressionRepository extends JpaRepository<Qualif
     @NonNull
     Page<QualificationProgression> findAll(@NonNull Specification<QualificationProgression> spec, @NonNull Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<QualificationProgression> findByQualificationTierIdOrderByCreatedAtAsc(UUID qualificationTierId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<QualificationProgression> findByQualificationTierIdAndSourceEvent(UUID qualificationTierId, QualificationEventType sourceEvent);
 
     void deleteByQualificationTierId(UUID qualificationTierId);
@@ -1,11 +1,14 @@
 package com.bfg.platform.competition.repository;
 
 import com.bfg.platform.competition.entity.QualificationTier;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -19,5 +22,6 @@ public interface QualificationTierRepository extends JpaRepository<Qualification
     @NonNull
     Page<QualificationTier> findAll(@NonNull Specification<QualificationTier> spec, @NonNull Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<QualificationTier> findByQualificationSchemeIdOrderByBoatCountMinAsc(UUID qualificationSchemeId);
 }
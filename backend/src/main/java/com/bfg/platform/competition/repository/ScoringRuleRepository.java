@@ -1,11 +1,14 @@
 package com.bfg.platform.competition.repository;
 
 import com.bfg.platform.competition.entity.ScoringRule;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -19,5 +22,6 @@ public interface ScoringRuleRepository extends JpaRepository<ScoringRule, UUID>,
     @NonNull
     Page<ScoringRule> findAll(@NonNull Specification<ScoringRule> spec, @NonNull Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ScoringRule> findByScoringSchemeIdOrderByPlacementAsc(UUID scoringSchemeId);
 }
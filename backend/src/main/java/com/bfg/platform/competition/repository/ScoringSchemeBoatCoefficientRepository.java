@@ -1,14 +1,19 @@
 package com.bfg.platform.competition.repository;
 
 import com.bfg.platform.competition.entity.ScoringSchemeBoatCoefficient;
+import com.bfg.platform.gen.model.BoatClass;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -17,4 +22,7 @@ public interface ScoringSchemeBoatCoefficientRepository extends JpaRepository<Sc
     @Override
     @NonNull
     Page<ScoringSchemeBoatCoefficient> findAll(@NonNull Specification<ScoringSchemeBoatCoefficient> spec, @NonNull Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<ScoringSchemeBoatCoefficient> findFirstByScoringSchemeIdAndBoatClass(UUID scoringSchemeId, BoatClass boatClass);
 }
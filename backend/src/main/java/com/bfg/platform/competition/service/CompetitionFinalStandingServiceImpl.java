@@ -25,7 +25,8 @@ import com.bfg.platform.gen.model.ParticipationStatus;
 import com.bfg.platform.gen.model.ProgressionGenerationStatus;
 import com.bfg.platform.gen.model.QualificationEventType;
 import com.bfg.platform.gen.model.ScoringType;
-import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,9 +41,12 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
-@AllArgsConstructor
+@Slf4j
 public class CompetitionFinalStandingServiceImpl implements CompetitionFinalStandingService {
 
+    /** JAVA ranks in memory, SQL ranks with window functions in Postgres, COMPARE runs both and logs differences */
+    enum StandingsEngine { JAVA, SQL, COMPARE }
+
     private static final List<QualificationEventType> PHASE_PRIORITY = List.of(
             QualificationEventType.FA, QualificationEventType.FB, QualificationEventType.SF, QualificationEventType.H
     );
@@ -55,6 +59,29 @@ public class CompetitionFinalStandingServiceImpl implements CompetitionFinalStan
     private final ScoringSchemeRepository scoringSchemeRepository;
     private final ScoringRuleRepository scoringRuleRepository;
     private final ScoringSchemeBoatCoefficientRepository boatCoefficientRepository;
+    private final StandingsEngine engine;
+
+    public CompetitionFinalStandingServiceImpl(
+            CompetitionFinalStandingRepository standingRepository,
+            CompetitionRepository competitionRepository,
+            CompetitionTimetableEventRepository timetableEventRepository,
+            CompetitionParticipationRepository participationRepository,
+            DisciplineDefinitionRepository disciplineDefinitionRepository,
+            ScoringSchemeRepository scoringSchemeRepository,
+            ScoringRuleRepository scoringRuleRepository,
+            ScoringSchemeBoatCoefficientRepository boatCoefficientRepository,
+            @Value("${bfg.standings.engine:JAVA}") StandingsEngine engine
+    ) {
+        this.standingRepository = standingRepository;
+        this.competitionRepository = competitionRepository;
+        this.timetableEventRepository = timetableEventRepository;
+        this.participationRepository = participationRepository;
+        this.disciplineDefinitionRepository = disciplineDefinitionRepository;
+        this.scoringSchemeRepository = scoringSchemeRepository;
+        this.scoringRuleRepository = scoringRuleRepository;
+        this.boatCoefficientRepository = boatCoefficientRepository;
+        this.engine = engine;
+    }
 
     @Override
     @Transactional
@@ -150,6 +177,51 @@ public class CompetitionFinalStandingServiceImpl implements CompetitionFinalStan
     private List<CompetitionFinalStanding> computeForDiscipline(
             Competition competition, DisciplineDefinition discipline, List<CompetitionTimetableEvent> events) {
 
+        List<CompetitionFinalStanding> standings = switch (engine) {
+            case JAVA -> rankInJava(competition, discipline, events);
+            case SQL -> rankInSql(competition, discipline);
+            case COMPARE -> compareEngines(competition, discipline, events);
+        };
+
+        computePoints(standings, competition, discipline);
+
+        return standings;
+    }
+
+    private List<CompetitionFinalStanding> rankInSql(Competition competition, DisciplineDefinition discipline) {
+        return standingRepository.rankDiscipline(competition.getId(), discipline.getId()).stream()
+                .map(row -> CompetitionFinalStanding.builder()
+                        .competitionId(competition.getId())
+                        .disciplineId(discipline.getId())
+                        .entryId(row.getEntryId())
+                        .overallRank(row.getOverallRank().intValue())
+                        .timeMs(row.getTimeMs())
+                        .points(BigDecimal.ZERO)
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private List<CompetitionFinalStanding> compareEngines(
+            Competition competition, DisciplineDefinition discipline, List<CompetitionTimetableEvent> events) {
+
+        List<CompetitionFinalStanding> javaStandings = rankInJava(competition, discipline, events);
+        List<CompetitionFinalStanding> sqlStandings = rankInSql(competition, discipline);
+
+        Map<UUID, String> javaRows = javaStandings.stream()
+                .collect(Collectors.toMap(CompetitionFinalStanding::getEntryId, s -> s.getOverallRank() + "/" + s.getTimeMs()));
+        Map<UUID, String> sqlRows = sqlStandings.stream()
+                .collect(Collectors.toMap(CompetitionFinalStanding::getEntryId, s -> s.getOverallRank() + "/" + s.getTimeMs()));
+
+        if (!javaRows.equals(sqlRows)) {
+            log.warn("Standings engines disagree for competition {}, discipline {}: java={}, sql={}",
+                    competition.getId(), discipline.getShortName(), javaRows, sqlRows);
+        }
+        return javaStandings;
+    }
+
+    private List<CompetitionFinalStanding> rankInJava(
+            Competition competition, DisciplineDefinition discipline, List<CompetitionTimetableEvent> events) {
+
         Map<QualificationEventType, List<CompetitionTimetableEvent>> eventsByPhase = events.stream()
                 .collect(Collectors.groupingBy(CompetitionTimetableEvent::getQualificationEventType));
 
@@ -235,9 +307,6 @@ public class CompetitionFinalStandingServiceImpl implements CompetitionFinalStan
                     .build());
         }
 
-        // Compute points
-        computePoints(standings, competition, discipline);
-
         return standings;
     }
 
@@ -264,10 +333,8 @@ public class CompetitionFinalStandingServiceImpl implements CompetitionFinalStan
         ScoringScheme scheme = scoringSchemeRepository.findById(competition.getScoringSchemeId()).orElse(null);
         if (scheme == null) return;
 
-        BigDecimal coefficient = boatCoefficientRepository.findAll().stream()
-                .filter(c -> c.getScoringSchemeId().equals(competition.getScoringSchemeId())
-                        && c.getBoatClass() == discipline.getBoatClass())
-                .findFirst()
+        BigDecimal coefficient = boatCoefficientRepository
+                .findFirstByScoringSchemeIdAndBoatClass(competition.getScoringSchemeId(), discipline.getBoatClass())
                 .map(ScoringSchemeBoatCoefficient::getCoefficient)
                 .orElse(BigDecimal.ONE);
 
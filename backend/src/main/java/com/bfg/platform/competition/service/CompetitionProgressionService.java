@@ -7,7 +7,10 @@ import com.bfg.platform.gen.model.CompetitionParticipationDto;
 import com.bfg.platform.gen.model.ParticipationResultRequest;
 import com.bfg.platform.gen.model.ParticipationStatus;
 import com.bfg.platform.gen.model.ProgressionDataDto;
+import com.bfg.platform.gen.model.ResultImportReport;
 import com.bfg.platform.gen.model.SetLanesRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,9 +23,15 @@ public interface CompetitionProgressionService {
 
     ProgressionDataDto recordResults(UUID eventId, List<ParticipationResultRequest> results, CompetitionEventStatus eventStatus);
 
+    ResultImportReport importResults(UUID competitionId, MultipartFile file, CompetitionEventStatus eventStatus, boolean dryRun);
+
     ProgressionDataDto getProgressionData(UUID competitionId);
 
+    ProgressionSnapshotService.ProgressionSnapshot getProgressionSnapshot(UUID competitionId, Long knownVersion);
+
     ProgressionDataDto getEventParticipations(UUID eventId);
 
     CompetitionParticipationDto updateParticipationStatus(UUID participationUuid, ParticipationStatus newStatus);
+
+    SseEmitter streamProgression(UUID competitionId, UUID eventId, String lastEventId);
 }
@@ -11,6 +11,9 @@ import com.bfg.platform.competition.entity.Entry;
 import com.bfg.platform.competition.entity.QualificationProgression;
 import com.bfg.platform.competition.entity.QualificationScheme;
 import com.bfg.platform.competition.entity.QualificationTier;
+import com.bfg.platform.competition.live.LiveResultsBroadcaster;
+import com.bfg.platform.competition.live.ProgressionChangeType;
+import com.bfg.platform.competition.live.ProgressionChangedEvent;
 import com.bfg.platform.competition.mapper.CompetitionProgressionMapper;
 import com.bfg.platform.competition.repository.CompetitionParticipationRepository;
 import com.bfg.platform.competition.repository.CompetitionFinalStandingRepository;
@@ -33,16 +36,27 @@ import com.bfg.platform.gen.model.ParticipationStatus;
 import com.bfg.platform.gen.model.ProgressionDataDto;
 import com.bfg.platform.gen.model.ProgressionGenerationStatus;
 import com.bfg.platform.gen.model.QualificationEventType;
+import com.bfg.platform.gen.model.ResultImportError;
+import com.bfg.platform.gen.model.ResultImportReport;
 import com.bfg.platform.gen.model.SetLanesRequest;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -66,6 +80,9 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
     private final QualificationSchemeRepository schemeRepository;
     private final QualificationProgressionRepository progressionRulesRepository;
     private final DisciplineDefinitionRepository disciplineDefinitionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LiveResultsBroadcaster liveResultsBroadcaster;
+    private final ProgressionSnapshotService progressionSnapshotService;
 
     // ═══════════════════════════════════════════════════════════════════════
     //  ADVANCE PROGRESSION
@@ -97,6 +114,10 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
             results.add(advanceDisciplineProgression(competitionId, disciplineId, tiers, laneCount));
         }
 
+        if (results.stream().anyMatch(r -> r.getStatus() == ProgressionGenerationStatus.SUCCESS)) {
+            eventPublisher.publishEvent(ProgressionChangedEvent.advanced(competitionId));
+        }
+
         AdvanceProgressionResponse response = new AdvanceProgressionResponse();
         response.setResults(results);
         return response;
@@ -361,7 +382,8 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
             participation.setLane(a.getLane());
         }
 
-        participationRepository.saveAll(participationByEntryId.values());
+        List<CompetitionParticipation> updated = participationRepository.saveAll(participationByEntryId.values());
+        publishLaneChanges(competitionId, events, updated);
 
         ProgressionDataDto dto = new ProgressionDataDto();
         dto.setParticipations(
@@ -385,46 +407,67 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
         CompetitionTimetableEvent event = timetableEventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("CompetitionTimetableEvent", eventId));
 
-        CompetitionEventStatus previousStatus = event.getEventStatus();
-
         Map<UUID, ParticipationResultRequest> resultMap = results.stream()
                 .collect(Collectors.toMap(ParticipationResultRequest::getParticipationId, r -> r));
 
         List<CompetitionParticipation> participations = participationRepository
                 .findByCompetitionEventIdOrderByLaneAsc(eventId);
 
+        List<String> errors = new ArrayList<>();
+        applyEventResults(event, participations, resultMap, eventStatus, Set.of(), errors);
+        if (!errors.isEmpty()) {
+            throw new ValidationErrorsException(errors);
+        }
+
+        List<CompetitionParticipation> saved = participationRepository.saveAll(participations);
+        timetableEventRepository.save(event);
+
+        List<CompetitionParticipationDto> dtos = saved.stream().map(CompetitionProgressionMapper::toDto).toList();
+        eventPublisher.publishEvent(ProgressionChangedEvent.forEvent(
+                event.getCompetitionId(), eventId, ProgressionChangeType.RESULTS, eventStatus, dtos));
+        return toProgressionDataDto(dtos);
+    }
+
+    /**
+     * Applies results to one event's participations in memory: validates them, cleans up next-stage
+     * data and standings invalidated by the change, computes places and sets the event status.
+     * Later-stage events in {@code updatedEventIds} receive their results in the same call (a
+     * multi-stage import), so they are neither checked for results nor cleaned up.
+     * Nothing is saved when errors are reported; callers persist the entities.
+     */
+    private void applyEventResults(CompetitionTimetableEvent event, List<CompetitionParticipation> participations,
+                                   Map<UUID, ParticipationResultRequest> resultMap,
+                                   CompetitionEventStatus eventStatus, Set<UUID> updatedEventIds,
+                                   List<String> errors) {
+        CompetitionEventStatus previousStatus = event.getEventStatus();
+
         boolean hasTimeChanges = detectTimeChanges(participations, resultMap);
 
-        List<String> errors = new ArrayList<>();
+        int errorCount = errors.size();
         for (CompetitionParticipation p : participations) {
             applyResult(p, resultMap.get(p.getId()), errors);
         }
 
-        if (!errors.isEmpty()) {
-            throw new ValidationErrorsException(errors);
+        if (errors.size() > errorCount) {
+            return;
         }
 
         if (previousStatus == CompetitionEventStatus.OFFICIAL_RESULTS
                 && eventStatus == CompetitionEventStatus.UNOFFICIAL_RESULTS) {
-            validateNoNextStageResults(event);
-            deleteNextStageParticipations(event);
+            validateNoNextStageResults(event, updatedEventIds);
+            deleteNextStageParticipations(event, updatedEventIds);
             finalStandingRepository.deleteByCompetitionIdAndDisciplineId(event.getCompetitionId(), event.getDisciplineId());
         } else if (hasTimeChanges && previousStatus == CompetitionEventStatus.OFFICIAL_RESULTS) {
-            validateNoNextStageResults(event);
-            deleteNextStageParticipations(event);
+            validateNoNextStageResults(event, updatedEventIds);
+            deleteNextStageParticipations(event, updatedEventIds);
             finalStandingRepository.deleteByCompetitionIdAndDisciplineId(event.getCompetitionId(), event.getDisciplineId());
         } else if (hasTimeChanges) {
-            validateNoNextStageResults(event);
+            validateNoNextStageResults(event, updatedEventIds);
             finalStandingRepository.deleteByCompetitionIdAndDisciplineId(event.getCompetitionId(), event.getDisciplineId());
         }
 
         computePlaces(participations);
-        List<CompetitionParticipation> saved = participationRepository.saveAll(participations);
-
         event.setEventStatus(eventStatus);
-        timetableEventRepository.save(event);
-
-        return toProgressionDataDto(saved.stream().map(CompetitionProgressionMapper::toDto).toList());
     }
 
     private boolean detectTimeChanges(List<CompetitionParticipation> participations, Map<UUID, ParticipationResultRequest> resultMap) {
@@ -439,7 +482,7 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
         return false;
     }
 
-    private void validateNoNextStageResults(CompetitionTimetableEvent sourceEvent) {
+    private void validateNoNextStageResults(CompetitionTimetableEvent sourceEvent, Set<UUID> updatedEventIds) {
         QualificationEventType currentStage = sourceEvent.getQualificationEventType();
         if (currentStage == null) return;
 
@@ -454,6 +497,7 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
         boolean anyDownstreamHasResults = allDisciplineEvents.stream()
                 .filter(e -> e.getQualificationEventType() != null)
                 .filter(e -> STAGE_ORDER.indexOf(e.getQualificationEventType()) > currentIndex)
+                .filter(e -> !updatedEventIds.contains(e.getId()))
                 .anyMatch(e -> e.getEventStatus() == CompetitionEventStatus.UNOFFICIAL_RESULTS
                         || e.getEventStatus() == CompetitionEventStatus.OFFICIAL_RESULTS);
 
@@ -463,7 +507,7 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
         }
     }
 
-    private void deleteNextStageParticipations(CompetitionTimetableEvent sourceEvent) {
+    private void deleteNextStageParticipations(CompetitionTimetableEvent sourceEvent, Set<UUID> updatedEventIds) {
         QualificationEventType currentStage = sourceEvent.getQualificationEventType();
         if (currentStage == null) return;
 
@@ -476,12 +520,14 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
                 .findByCompetitionIdAndDisciplineIdOrderByScheduledAtAsc(competitionId, disciplineId);
 
         for (CompetitionTimetableEvent event : allDisciplineEvents) {
-            if (event.getQualificationEventType() == null) continue;
+            if (event.getQualificationEventType() == null || updatedEventIds.contains(event.getId())) continue;
             int eventIndex = STAGE_ORDER.indexOf(event.getQualificationEventType());
             if (eventIndex > currentIndex) {
                 participationRepository.deleteByCompetitionEventId(event.getId());
                 event.setEventStatus(CompetitionEventStatus.SCHEDULED);
                 timetableEventRepository.save(event);
+                eventPublisher.publishEvent(ProgressionChangedEvent.forEvent(competitionId, event.getId(),
+                        ProgressionChangeType.EVENT_STATUS, CompetitionEventStatus.SCHEDULED, List.of()));
             }
         }
     }
@@ -509,6 +555,235 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
         p.setFinishTimeMs(result.getFinishTimeMs());
     }
 
+    // ═══════════════════════════════════════════════════════════════════════
+    //  IMPORT RESULTS
+    // ═══════════════════════════════════════════════════════════════════════
+
+    @Override
+    @Transactional
+    public ResultImportReport importResults(UUID competitionId, MultipartFile file,
+                                            CompetitionEventStatus eventStatus, boolean dryRun) {
+        if (!competitionRepository.existsById(competitionId)) {
+            throw new ResourceNotFoundException("Competition", competitionId);
+        }
+        if (eventStatus != CompetitionEventStatus.UNOFFICIAL_RESULTS && eventStatus != CompetitionEventStatus.OFFICIAL_RESULTS) {
+            throw new ValidationException("Event status must be UNOFFICIAL_RESULTS or OFFICIAL_RESULTS");
+        }
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException("Файлът е празен");
+        }
+
+        ResultImportIndex index = buildResultImportIndex(competitionId);
+        Map<UUID, Map<UUID, ParticipationResultRequest>> resultsByEvent = new LinkedHashMap<>();
+        List<ResultImportError> errors = new ArrayList<>();
+        int[] rowsRead = {0};
+
+        try (InputStream in = file.getInputStream()) {
+            ResultImportReader.read(in, file.getOriginalFilename(), row -> {
+                rowsRead[0]++;
+                resolveImportRow(row, index, resultsByEvent, errors);
+            });
+        } catch (IOException e) {
+            throw new ValidationException("Файлът не може да бъде прочетен: " + e.getMessage());
+        }
+
+        List<CompetitionParticipation> updatedParticipations = new ArrayList<>();
+        List<CompetitionTimetableEvent> updatedEvents = new ArrayList<>();
+        for (Map.Entry<UUID, Map<UUID, ParticipationResultRequest>> e : resultsByEvent.entrySet()) {
+            CompetitionTimetableEvent event = index.eventsById().get(e.getKey());
+            List<CompetitionParticipation> participations = index.participationsByEvent()
+                    .getOrDefault(event.getId(), List.of());
+            List<String> eventErrors = new ArrayList<>();
+            try {
+                applyEventResults(event, participations, e.getValue(), eventStatus, resultsByEvent.keySet(), eventErrors);
+            } catch (ValidationException ex) {
+                eventErrors.add(ex.getMessage());
+            }
+            eventErrors.forEach(message -> errors.add(importError(null, event.getId(), message)));
+            updatedParticipations.addAll(participations);
+            updatedEvents.add(event);
+        }
+
+        boolean apply = !dryRun && errors.isEmpty();
+        if (apply) {
+            participationRepository.saveAll(updatedParticipations);
+            timetableEventRepository.saveAll(updatedEvents);
+            for (CompetitionTimetableEvent event : updatedEvents) {
+                List<CompetitionParticipationDto> dtos = index.participationsByEvent()
+                        .getOrDefault(event.getId(), List.of()).stream()
+                        .map(CompetitionProgressionMapper::toDto)
+                        .toList();
+                eventPublisher.publishEvent(ProgressionChangedEvent.forEvent(
+                        competitionId, event.getId(), ProgressionChangeType.RESULTS, eventStatus, dtos));
+            }
+        } else {
+            // Dry run or errors: undo in-memory changes and any next-stage cleanup already issued
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+
+        ResultImportReport report = new ResultImportReport();
+        report.setDryRun(dryRun);
+        report.setApplied(apply);
+        report.setRowsRead(rowsRead[0]);
+        report.setEventsMatched(updatedEvents.size());
+        report.setParticipationsUpdated(updatedParticipations.size());
+        report.setErrors(errors);
+        return report;
+    }
+
+    private ResultImportIndex buildResultImportIndex(UUID competitionId) {
+        List<CompetitionTimetableEvent> events = timetableEventRepository.findByCompetitionId(competitionId);
+        Map<UUID, CompetitionTimetableEvent> eventsById = events.stream()
+                .collect(Collectors.toMap(CompetitionTimetableEvent::getId, e -> e));
+
+        Set<UUID> disciplineIds = events.stream().map(CompetitionTimetableEvent::getDisciplineId).collect(Collectors.toSet());
+        Map<String, UUID> disciplineIdByName = new HashMap<>();
+        for (DisciplineDefinition d : disciplineDefinitionRepository.findAllById(disciplineIds)) {
+            disciplineIdByName.putIfAbsent(d.getShortName().trim().toUpperCase(Locale.ROOT), d.getId());
+        }
+
+        // Heat numbers are 1-based positions in schedule order within a discipline phase
+        Map<String, CompetitionTimetableEvent> eventsByHeat = new HashMap<>();
+        events.stream()
+                .collect(Collectors.groupingBy(e -> e.getDisciplineId() + "|" + e.getQualificationEventType()))
+                .forEach((key, phaseEvents) -> {
+                    List<CompetitionTimetableEvent> ordered = phaseEvents.stream()
+                            .sorted(Comparator.comparing(CompetitionTimetableEvent::getScheduledAt))
+                            .toList();
+                    for (int i = 0; i < ordered.size(); i++) {
+                        eventsByHeat.put(key + "|" + (i + 1), ordered.get(i));
+                    }
+                });
+
+        Map<UUID, List<CompetitionParticipation>> participationsByEvent = participationRepository
+                .findByCompetitionId(competitionId).stream()
+                .collect(Collectors.groupingBy(CompetitionParticipation::getCompetitionEventId));
+
+        return new ResultImportIndex(eventsById, disciplineIdByName, eventsByHeat, participationsByEvent);
+    }
+
+    private void resolveImportRow(ResultImportReader.Row row, ResultImportIndex index,
+                                  Map<UUID, Map<UUID, ParticipationResultRequest>> resultsByEvent,
+                                  List<ResultImportError> errors) {
+        CompetitionTimetableEvent event;
+        try {
+            event = resolveImportEvent(row, index);
+        } catch (ValidationException e) {
+            errors.add(importError(row.rowNumber(), null, e.getMessage()));
+            return;
+        }
+
+        Integer lane = parseInteger(row.get(ResultImportReader.LANE));
+        if (lane == null) {
+            errors.add(importError(row.rowNumber(), event.getId(), "Липсващ или невалиден коридор (lane)"));
+            return;
+        }
+        CompetitionParticipation participation = index.participationsByEvent()
+                .getOrDefault(event.getId(), List.of()).stream()
+                .filter(p -> lane.equals(p.getLane()))
+                .findFirst()
+                .orElse(null);
+        if (participation == null) {
+            errors.add(importError(row.rowNumber(), event.getId(), "Няма участник на коридор " + lane));
+            return;
+        }
+
+        Integer timeMs;
+        try {
+            timeMs = ResultImportReader.parseTimeMs(row.get(ResultImportReader.TIME));
+        } catch (NumberFormatException e) {
+            errors.add(importError(row.rowNumber(), event.getId(), "Невалидно време: " + row.get(ResultImportReader.TIME)));
+            return;
+        }
+
+        ParticipationStatus status;
+        String statusValue = row.get(ResultImportReader.STATUS);
+        if (statusValue == null) {
+            status = timeMs != null ? ParticipationStatus.FINISHED : null;
+        } else {
+            try {
+                status = ParticipationStatus.valueOf(statusValue.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                status = null;
+            }
+        }
+        if (status == null) {
+            errors.add(importError(row.rowNumber(), event.getId(), "Невалиден или липсващ статус: " + statusValue));
+            return;
+        }
+
+        ParticipationResultRequest result = new ParticipationResultRequest();
+        result.setParticipationId(participation.getId());
+        result.setFinishStatus(status);
+        result.setFinishTimeMs(timeMs);
+
+        Map<UUID, ParticipationResultRequest> eventResults = resultsByEvent.computeIfAbsent(event.getId(), id -> new HashMap<>());
+        if (eventResults.putIfAbsent(participation.getId(), result) != null) {
+            errors.add(importError(row.rowNumber(), event.getId(), "Повторен резултат за коридор " + lane));
+        }
+    }
+
+    private CompetitionTimetableEvent resolveImportEvent(ResultImportReader.Row row, ResultImportIndex index) {
+        String eventRef = row.get(ResultImportReader.EVENT);
+        if (eventRef != null) {
+            try {
+                CompetitionTimetableEvent event = index.eventsById().get(UUID.fromString(eventRef));
+                if (event != null) return event;
+            } catch (IllegalArgumentException ignored) {
+                // Fall through to the not-found error below
+            }
+            throw new ValidationException("Непознато събитие: " + eventRef);
+        }
+
+        String disciplineName = row.get(ResultImportReader.DISCIPLINE);
+        String phaseValue = row.get(ResultImportReader.PHASE);
+        if (disciplineName == null || phaseValue == null) {
+            throw new ValidationException("Редът трябва да съдържа event или discipline и phase");
+        }
+        UUID disciplineId = index.disciplineIdByName().get(disciplineName.toUpperCase(Locale.ROOT));
+        if (disciplineId == null) {
+            throw new ValidationException("Непозната дисциплина: " + disciplineName);
+        }
+        QualificationEventType phase;
+        try {
+            phase = QualificationEventType.valueOf(phaseValue.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Непозната фаза: " + phaseValue);
+        }
+        String heatValue = row.get(ResultImportReader.HEAT);
+        Integer heat = heatValue == null ? Integer.valueOf(1) : parseInteger(heatValue);
+        CompetitionTimetableEvent event = heat == null ? null
+                : index.eventsByHeat().get(disciplineId + "|" + phase + "|" + heat);
+        if (event == null) {
+            throw new ValidationException("Няма събитие " + disciplineName + " " + phase + " " + heatValue);
+        }
+        return event;
+    }
+
+    private static Integer parseInteger(String value) {
+        if (value == null) return null;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ResultImportError importError(Integer row, UUID eventId, String message) {
+        ResultImportError error = new ResultImportError();
+        error.setRow(row);
+        error.setEventId(eventId);
+        error.setMessage(message);
+        return error;
+    }
+
+    private record ResultImportIndex(
+            Map<UUID, CompetitionTimetableEvent> eventsById,
+            Map<String, UUID> disciplineIdByName,
+            Map<String, CompetitionTimetableEvent> eventsByHeat,
+            Map<UUID, List<CompetitionParticipation>> participationsByEvent
+    ) {}
+
     // ═══════════════════════════════════════════════════════════════════════
     //  READ-ONLY QUERIES
     // ═══════════════════════════════════════════════════════════════════════
@@ -516,10 +791,12 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
     @Override
     @Transactional(readOnly = true)
     public ProgressionDataDto getProgressionData(UUID competitionId) {
-        List<CompetitionParticipationDto> participations = participationRepository.findByCompetitionId(competitionId).stream()
-                .map(CompetitionProgressionMapper::toDto)
-                .toList();
-        return toProgressionDataDto(participations);
+        return getProgressionSnapshot(competitionId, null).data();
+    }
+
+    @Override
+    public ProgressionSnapshotService.ProgressionSnapshot getProgressionSnapshot(UUID competitionId, Long knownVersion) {
+        return progressionSnapshotService.getSnapshot(competitionId, knownVersion);
     }
 
     @Override
@@ -531,6 +808,14 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
         return toProgressionDataDto(participations);
     }
 
+    @Override
+    public SseEmitter streamProgression(UUID competitionId, UUID eventId, String lastEventId) {
+        if (!competitionRepository.existsById(competitionId)) {
+            throw new ResourceNotFoundException("Competition", competitionId);
+        }
+        return liveResultsBroadcaster.subscribe(competitionId, eventId, lastEventId);
+    }
+
     // ═══════════════════════════════════════════════════════════════════════
     //  UPDATE PARTICIPATION STATUS
     // ═══════════════════════════════════════════════════════════════════════
@@ -578,7 +863,10 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
 
         participation.setParticipationStatus(newStatus);
         CompetitionParticipation saved = participationRepository.save(participation);
-        return CompetitionProgressionMapper.toDto(saved);
+        CompetitionParticipationDto dto = CompetitionProgressionMapper.toDto(saved);
+        eventPublisher.publishEvent(ProgressionChangedEvent.forEvent(event.getCompetitionId(), event.getId(),
+                ProgressionChangeType.PARTICIPATION_STATUS, event.getEventStatus(), List.of(dto)));
+        return dto;
     }
 
     // ═══════════════════════════════════════════════════════════════════════
@@ -591,6 +879,17 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
         return dto;
     }
 
+    private void publishLaneChanges(UUID competitionId, List<CompetitionTimetableEvent> events,
+                                    List<CompetitionParticipation> updated) {
+        Map<UUID, List<CompetitionParticipationDto>> byEvent = updated.stream()
+                .collect(Collectors.groupingBy(CompetitionParticipation::getCompetitionEventId,
+                        Collectors.mapping(CompetitionProgressionMapper::toDto, Collectors.toList())));
+        for (CompetitionTimetableEvent event : events) {
+            eventPublisher.publishEvent(ProgressionChangedEvent.forEvent(competitionId, event.getId(),
+                    ProgressionChangeType.LANES, event.getEventStatus(), byEvent.getOrDefault(event.getId(), List.of())));
+        }
+    }
+
     private Competition loadCompetition(UUID competitionId) {
         return competitionRepository.findById(competitionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Competition", competitionId));
@@ -657,7 +956,7 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
         };
     }
 
-    private record QualifiedEntry(UUID entryId, int rank, Integer timeMs) {}
+    record QualifiedEntry(UUID entryId, int rank, Integer timeMs) {}
 
     private List<QualifiedEntry> getQualifiedEntries(
             List<CompetitionTimetableEvent> sourceEvents,
@@ -729,6 +1028,12 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
 
     private void distributeEntriesSeeded(
             List<QualifiedEntry> entries, List<CompetitionTimetableEvent> events, int laneCount) {
+        seedLanes(entries, events, laneCount).forEach(participationRepository::save);
+    }
+
+    /** Deals ranked entries round-robin over the events; within an event the best ranked get the centre lanes */
+    static List<CompetitionParticipation> seedLanes(
+            List<QualifiedEntry> entries, List<CompetitionTimetableEvent> events, int laneCount) {
 
         entries.sort(Comparator.comparingInt(QualifiedEntry::rank));
 
@@ -747,6 +1052,8 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
                 .filter(lane -> lane <= laneCount)
                 .toList();
 
+        List<CompetitionParticipation> participations = new ArrayList<>(entries.size());
+
         for (int eventIndex = 0; eventIndex < eventCount; eventIndex++) {
             List<QualifiedEntry> bucket = eventBuckets.get(eventIndex);
             CompetitionTimetableEvent event = events.get(eventIndex);
@@ -765,12 +1072,13 @@ public class CompetitionProgressionServiceImpl implements CompetitionProgression
                         .lane(lane)
                         .build();
 
-                participationRepository.save(participation);
+                participations.add(participation);
             }
         }
+        return participations;
     }
 
-    private void computePlaces(List<CompetitionParticipation> participations) {
+    static void computePlaces(List<CompetitionParticipation> participations) {
         List<CompetitionParticipation> finished = participations.stream()
                 .filter(p -> ParticipationStatus.FINISHED.equals(p.getParticipationStatus()) && p.getFinishTimeMs() != null)
                 .sorted(Comparator.comparing(CompetitionParticipation::getFinishTimeMs))
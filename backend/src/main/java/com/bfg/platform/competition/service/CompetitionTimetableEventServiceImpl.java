@@ -3,6 +3,8 @@ package com.bfg.platform.competition.service;
 import com.bfg.platform.competition.entity.Competition;
 import com.bfg.platform.competition.entity.CompetitionParticipation;
 import com.bfg.platform.competition.entity.CompetitionTimetableEvent;
+import com.bfg.platform.competition.live.ProgressionChangeType;
+import com.bfg.platform.competition.live.ProgressionChangedEvent;
 import com.bfg.platform.competition.mapper.CompetitionTimetableEventMapper;
 import com.bfg.platform.competition.query.CompetitionTimetableEventQueryAdapter;
 import com.bfg.platform.competition.repository.CompetitionParticipationRepository;
@@ -31,6 +33,7 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -58,6 +61,7 @@ public class CompetitionTimetableEventServiceImpl implements CompetitionTimetabl
     private final CompetitionRepository competitionRepository;
     private final CompetitionParticipationRepository participationRepository;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -153,6 +157,8 @@ public class CompetitionTimetableEventServiceImpl implements CompetitionTimetabl
 
         event.setEventStatus(newStatus);
         CompetitionTimetableEvent saved = repository.save(event);
+        eventPublisher.publishEvent(ProgressionChangedEvent.forEvent(saved.getCompetitionId(), saved.getId(),
+                ProgressionChangeType.EVENT_STATUS, newStatus, null));
         return CompetitionTimetableEventMapper.toDto(saved);
     }
 
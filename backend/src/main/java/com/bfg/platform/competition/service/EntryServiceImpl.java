@@ -83,6 +83,7 @@ public class EntryServiceImpl implements EntryService {
     private final EntityManager entityManager;
     private final AuthorizationService authorizationService;
     private final SecurityContextHelper securityContextHelper;
+    private final ProgressionSnapshotService progressionSnapshotService;
 
     // ═══════════════════════════════════════════════════════════════════════
     //  PUBLIC API
@@ -746,11 +747,16 @@ public class EntryServiceImpl implements EntryService {
         if (!deleteErrors.isEmpty()) {
             throw new ValidationErrorsException(deleteErrors);
         }
+        boolean deleted = false;
         for (Map.Entry<String, Entry> e : existingByKey.entrySet()) {
             if (!incomingKeys.contains(e.getKey())) {
                 entryRepository.delete(e.getValue());
+                deleted = true;
             }
         }
+        if (deleted) {
+            progressionSnapshotService.invalidate(competitionId);
+        }
 
         return result;
     }
@@ -0,0 +1,25 @@
+package com.bfg.platform.competition.service;
+
+import com.bfg.platform.gen.model.ProgressionDataDto;
+
+import java.util.UUID;
+
+public interface ProgressionSnapshotService {
+
+    /**
+     * Returns the current progression snapshot. When knownVersion matches the current version
+     * only the version is read and data() is null (304 Not Modified).
+     * Throws ResourceNotFoundException when the competition does not exist.
+     */
+    ProgressionSnapshot getSnapshot(UUID competitionId, Long knownVersion);
+
+    /** Marks the snapshot stale inside the caller's transaction; it is rebuilt after commit or on next read. */
+    void invalidate(UUID competitionId);
+
+    record ProgressionSnapshot(long version, ProgressionDataDto data) {
+
+        public boolean notModified() {
+            return data == null;
+        }
+    }
+}
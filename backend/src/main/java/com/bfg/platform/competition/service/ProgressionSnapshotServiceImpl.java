@@ -0,0 +1,197 @@
+package com.bfg.platform.competition.service;
+
+import com.bfg.platform.common.exception.ResourceNotFoundException;
+import com.bfg.platform.common.exception.ServiceException;
+import com.bfg.platform.competition.entity.CompetitionProgressionSnapshot;
+import com.bfg.platform.competition.live.ProgressionChangedEvent;
+import com.bfg.platform.competition.mapper.CompetitionProgressionMapper;
+import com.bfg.platform.competition.repository.CompetitionParticipationRepository;
+import com.bfg.platform.competition.repository.CompetitionProgressionSnapshotRepository;
+import com.bfg.platform.competition.repository.CompetitionRepository;
+import com.bfg.platform.gen.model.ProgressionDataDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Per-competition progression read model. Write paths publish ProgressionChangedEvent;
+ * the snapshot row is invalidated (version bumped, payload cleared) once per competition before
+ * the write commits, however many events the transaction published, and rebuilt after the commit
+ * on a background worker that also coalesces rebuilds still waiting for the same competition.
+ * A read that arrives before the rebuild builds the snapshot itself.
+ * Reads are a primary-key lookup on competition_id; a conditional read that matches
+ * the current version only selects the version column.
+ * Rebuilds only store their payload if the version they started from is still current,
+ * so a concurrent write can never be overwritten by an older snapshot.
+ */
+@Service
+@Slf4j
+public class ProgressionSnapshotServiceImpl implements ProgressionSnapshotService {
+
+    private static final Object INVALIDATED_KEY = ProgressionSnapshotServiceImpl.class.getName() + ".invalidated";
+
+    private final CompetitionProgressionSnapshotRepository snapshotRepository;
+    private final CompetitionRepository competitionRepository;
+    private final CompetitionParticipationRepository participationRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate rebuildTransaction;
+    private final ThreadPoolTaskExecutor rebuildExecutor;
+    private final Set<UUID> pendingRebuilds = ConcurrentHashMap.newKeySet();
+
+    public ProgressionSnapshotServiceImpl(
+            CompetitionProgressionSnapshotRepository snapshotRepository,
+            CompetitionRepository competitionRepository,
+            CompetitionParticipationRepository participationRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.snapshotRepository = snapshotRepository;
+        this.competitionRepository = competitionRepository;
+        this.participationRepository = participationRepository;
+        this.objectMapper = objectMapper;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.rebuildExecutor = new ThreadPoolTaskExecutor();
+        this.rebuildExecutor.setCorePoolSize(1);
+        this.rebuildExecutor.setMaxPoolSize(1);
+        this.rebuildExecutor.setThreadNamePrefix("progression-snapshot-");
+        this.rebuildExecutor.initialize();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProgressionSnapshot getSnapshot(UUID competitionId, Long knownVersion) {
+        if (knownVersion != null) {
+            Long builtVersion = snapshotRepository.findBuiltVersion(competitionId).orElse(null);
+            if (knownVersion.equals(builtVersion)) {
+                return new ProgressionSnapshot(builtVersion, null);
+            }
+        }
+
+        CompetitionProgressionSnapshot current = snapshotRepository.findById(competitionId).orElse(null);
+        if (current != null && current.getPayload() != null) {
+            return toSnapshot(current.getVersion(), current.getPayload(), knownVersion);
+        }
+        // A snapshot row only exists for an existing competition; check before creating one
+        if (current == null && !competitionRepository.existsById(competitionId)) {
+            throw new ResourceNotFoundException("Competition", competitionId);
+        }
+
+        BuiltSnapshot built = rebuildTransaction.execute(status -> rebuild(competitionId));
+        return toSnapshot(built.version(), built.payload(), knownVersion);
+    }
+
+    @Override
+    @Transactional
+    public void invalidate(UUID competitionId) {
+        snapshotRepository.invalidate(competitionId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProgressionChanging(ProgressionChangedEvent change) {
+        if (invalidatedInTransaction().add(change.competitionId())) {
+            snapshotRepository.invalidate(change.competitionId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProgressionChanged(ProgressionChangedEvent change) {
+        UUID competitionId = change.competitionId();
+        if (!pendingRebuilds.add(competitionId)) return;
+        try {
+            rebuildExecutor.execute(() -> rebuildInBackground(competitionId));
+        } catch (RejectedExecutionException e) {
+            // The next read rebuilds the stale snapshot
+            pendingRebuilds.remove(competitionId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+
+    private void rebuildInBackground(UUID competitionId) {
+        // Released before the work starts so changes committed meanwhile schedule another pass
+        pendingRebuilds.remove(competitionId);
+        try {
+            rebuildTransaction.executeWithoutResult(status -> rebuild(competitionId));
+        } catch (RuntimeException e) {
+            // The next read rebuilds the stale snapshot
+            log.warn("Failed to rebuild progression snapshot for competition {}: {}", competitionId, e.getMessage());
+        }
+    }
+
+    /** Competitions already invalidated by the current transaction; bound until it completes */
+    @SuppressWarnings("unchecked")
+    private static Set<UUID> invalidatedInTransaction() {
+        Set<UUID> invalidated = (Set<UUID>) TransactionSynchronizationManager.getResource(INVALIDATED_KEY);
+        if (invalidated == null) {
+            invalidated = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(INVALIDATED_KEY, invalidated);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(INVALIDATED_KEY);
+                }
+            });
+        }
+        return invalidated;
+    }
+
+    private BuiltSnapshot rebuild(UUID competitionId) {
+        snapshotRepository.ensureExists(competitionId);
+        CompetitionProgressionSnapshot current = snapshotRepository.findById(competitionId)
+                .orElseThrow(() -> new IllegalStateException("Progression snapshot missing for " + competitionId));
+        if (current.getPayload() != null) {
+            return new BuiltSnapshot(current.getVersion(), current.getPayload());
+        }
+
+        ProgressionDataDto dto = new ProgressionDataDto();
+        dto.setParticipations(participationRepository.findByCompetitionId(competitionId).stream()
+                .map(CompetitionProgressionMapper::toDto)
+                .toList());
+        String payload = serialize(dto);
+        snapshotRepository.storePayload(competitionId, current.getVersion(), payload);
+        return new BuiltSnapshot(current.getVersion(), payload);
+    }
+
+    private ProgressionSnapshot toSnapshot(long version, String payload, Long knownVersion) {
+        if (knownVersion != null && knownVersion == version) {
+            return new ProgressionSnapshot(version, null);
+        }
+        try {
+            return new ProgressionSnapshot(version, objectMapper.readValue(payload, ProgressionDataDto.class));
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("Failed to read progression snapshot", e);
+        }
+    }
+
+    private String serialize(ProgressionDataDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("Failed to write progression snapshot", e);
+        }
+    }
+
+    private record BuiltSnapshot(long version, String payload) {}
+}
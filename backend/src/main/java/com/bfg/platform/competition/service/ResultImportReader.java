@@ -0,0 +1,156 @@
+package com.bfg.platform.competition.service;
+
+import com.bfg.platform.common.exception.ValidationException;
+import com.bfg.platform.common.util.CsvUtils;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streams rows out of timing-system exports without loading the whole file.
+ * CSV: header row, comma or semicolon separated, double-quoted fields allowed.
+ * XML: every {@code <result>} or {@code <row>} element is a row; values are read from attributes.
+ */
+final class ResultImportReader {
+
+    static final String EVENT = "event";
+    static final String DISCIPLINE = "discipline";
+    static final String PHASE = "phase";
+    static final String HEAT = "heat";
+    static final String LANE = "lane";
+    static final String STATUS = "status";
+    static final String TIME = "time";
+
+    private ResultImportReader() {}
+
+    /** One raw row; rowNumber is 1-based and excludes the CSV header */
+    record Row(int rowNumber, Map<String, String> values) {
+
+        String get(String column) {
+            String value = values.get(column);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+    }
+
+    static void read(InputStream input, String filename, Consumer<Row> consumer) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(input);
+        if (isXml(in, filename)) {
+            readXml(in, consumer);
+        } else {
+            readCsv(in, consumer);
+        }
+    }
+
+    private static boolean isXml(BufferedInputStream in, String filename) throws IOException {
+        if (filename != null) {
+            String lower = filename.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".xml")) return true;
+            if (lower.endsWith(".csv") || lower.endsWith(".txt")) return false;
+        }
+        in.mark(64);
+        int b;
+        do {
+            b = in.read();
+        } while (b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == 0xEF || b == 0xBB || b == 0xBF);
+        in.reset();
+        return b == '<';
+    }
+
+    // ── CSV ──────────────────────────────────────────────────────────────
+
+    private static void readCsv(InputStream in, Consumer<Row> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new ValidationException("Файлът е празен");
+        }
+        char delimiter = CsvUtils.detectDelimiter(headerLine);
+        List<String> header = CsvUtils.parseHeader(headerLine, delimiter);
+
+        String line;
+        int rowNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            rowNumber++;
+            List<String> fields = CsvUtils.split(line, delimiter);
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.size() && i < fields.size(); i++) {
+                values.put(header.get(i), fields.get(i));
+            }
+            consumer.accept(new Row(rowNumber, values));
+        }
+    }
+
+    // ── XML ──────────────────────────────────────────────────────────────
+
+    private static void readXml(InputStream in, Consumer<Row> consumer) {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+
+        XMLStreamReader reader = null;
+        try {
+            reader = factory.createXMLStreamReader(in, StandardCharsets.UTF_8.name());
+            int rowNumber = 0;
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) continue;
+                String name = reader.getLocalName().toLowerCase(Locale.ROOT);
+                if (!name.equals("result") && !name.equals("row")) continue;
+
+                rowNumber++;
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < reader.getAttributeCount(); i++) {
+                    values.put(reader.getAttributeLocalName(i).toLowerCase(Locale.ROOT), reader.getAttributeValue(i));
+                }
+                consumer.accept(new Row(rowNumber, values));
+            }
+        } catch (XMLStreamException e) {
+            throw new ValidationException("Невалиден XML файл: " + e.getMessage());
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // Nothing left to release
+                }
+            }
+        }
+    }
+
+    // ── Values ───────────────────────────────────────────────────────────
+
+    /** Accepts plain milliseconds or clock notation: ss.SS, m:ss.SS, h:mm:ss.SS */
+    static Integer parseTimeMs(String value) {
+        if (value == null) return null;
+        String v = value.trim().replace(',', '.');
+        if (v.matches("\\d+")) {
+            return Integer.parseInt(v);
+        }
+        String[] parts = v.split(":");
+        if (parts.length > 3) {
+            throw new NumberFormatException(value);
+        }
+        double seconds = Double.parseDouble(parts[parts.length - 1]);
+        int minutes = parts.length >= 2 ? Integer.parseInt(parts[parts.length - 2]) : 0;
+        int hours = parts.length == 3 ? Integer.parseInt(parts[0]) : 0;
+        if (seconds < 0 || minutes < 0 || hours < 0) {
+            throw new NumberFormatException(value);
+        }
+        return (int) Math.round(((hours * 60 + minutes) * 60 + seconds) * 1000);
+    }
+}
@@ -0,0 +1,103 @@
+package com.bfg.platform.competition.service;
+
+import com.bfg.platform.competition.entity.CompetitionTimetableEvent;
+import com.bfg.platform.competition.live.ProgressionChangedEvent;
+import com.bfg.platform.competition.repository.CompetitionTimetableEventRepository;
+import com.bfg.platform.gen.model.CompetitionEventStatus;
+import com.bfg.platform.gen.model.DisciplineStandingResult;
+import com.bfg.platform.gen.model.ProgressionGenerationStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Recomputes final standings for a single discipline once its last event has official results.
+ * Requests are deduplicated per (competition, discipline) while queued; a change that arrives
+ * while a recompute is running queues one more pass so the final state is always picked up.
+ */
+@Component
+@Slf4j
+public class StandingsRecomputeTrigger {
+
+    private final CompetitionTimetableEventRepository timetableEventRepository;
+    private final CompetitionFinalStandingService standingService;
+    private final boolean enabled;
+    private final ThreadPoolTaskExecutor executor;
+    private final Set<DisciplineKey> pending = ConcurrentHashMap.newKeySet();
+
+    public StandingsRecomputeTrigger(
+            CompetitionTimetableEventRepository timetableEventRepository,
+            CompetitionFinalStandingService standingService,
+            @Value("${bfg.standings.auto-recompute.enabled:true}") boolean enabled
+    ) {
+        this.timetableEventRepository = timetableEventRepository;
+        this.standingService = standingService;
+        this.enabled = enabled;
+
+        // Single worker: recomputes never race each other on the same discipline
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setThreadNamePrefix("standings-");
+        this.executor.initialize();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProgressionChanged(ProgressionChangedEvent change) {
+        if (!enabled || change.eventId() == null || change.eventStatus() != CompetitionEventStatus.OFFICIAL_RESULTS) {
+            return;
+        }
+
+        CompetitionTimetableEvent event = timetableEventRepository.findById(change.eventId()).orElse(null);
+        if (event == null || event.getDisciplineId() == null) return;
+
+        boolean allOfficial = !timetableEventRepository.existsByCompetitionIdAndDisciplineIdAndEventStatusNot(
+                event.getCompetitionId(), event.getDisciplineId(), CompetitionEventStatus.OFFICIAL_RESULTS);
+        if (allOfficial) {
+            enqueue(new DisciplineKey(event.getCompetitionId(), event.getDisciplineId()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void enqueue(DisciplineKey key) {
+        if (!pending.add(key)) return;
+        try {
+            executor.execute(() -> recompute(key));
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+            log.warn("Standings recompute for discipline {} rejected", key.disciplineId());
+        }
+    }
+
+    private void recompute(DisciplineKey key) {
+        // Released before the work starts so changes committed meanwhile schedule another pass
+        pending.remove(key);
+        try {
+            List<DisciplineStandingResult> results = standingService.computeStandings(
+                    key.competitionId(), List.of(key.disciplineId()));
+            results.stream()
+                    .filter(r -> r.getStatus() == ProgressionGenerationStatus.ERROR)
+                    .forEach(r -> log.warn("Automatic standings recompute failed for {}: {}",
+                            r.getDisciplineName(), r.getReason()));
+        } catch (RuntimeException e) {
+            log.warn("Automatic standings recompute failed for competition {}, discipline {}: {}",
+                    key.competitionId(), key.disciplineId(), e.getMessage());
+        }
+    }
+
+    private record DisciplineKey(UUID competitionId, UUID disciplineId) {}
+}
@@ -0,0 +1,90 @@
+package com.bfg.platform.config;
+
+import com.bfg.platform.competition.entity.CompetitionGroupDefinition;
+import com.bfg.platform.competition.entity.DisciplineDefinition;
+import com.bfg.platform.competition.entity.QualificationProgression;
+import com.bfg.platform.competition.entity.QualificationScheme;
+import com.bfg.platform.competition.entity.QualificationTier;
+import com.bfg.platform.competition.entity.ScoringRule;
+import com.bfg.platform.competition.entity.ScoringScheme;
+import com.bfg.platform.competition.entity.ScoringSchemeBoatCoefficient;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process JCache (Ehcache 3) regions backing the Hibernate second-level and query cache.
+ * Only reference data that changes a few times a season is cached; every region is bounded
+ * on heap and expires after time-to-live-minutes as a safety net behind explicit invalidation.
+ */
+@Configuration
+public class ReferenceDataCacheConfig {
+
+    public static final List<Class<?>> REFERENCE_ENTITIES = List.of(
+            DisciplineDefinition.class,
+            CompetitionGroupDefinition.class,
+            ScoringScheme.class,
+            ScoringRule.class,
+            ScoringSchemeBoatCoefficient.class,
+            QualificationScheme.class,
+            QualificationTier.class,
+            QualificationProgression.class
+    );
+
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceDataCacheManager(
+            @Value("${bfg.reference-cache.entity-heap-entries:2000}") long entityHeapEntries,
+            @Value("${bfg.reference-cache.query-heap-entries:1000}") long queryHeapEntries,
+            @Value("${bfg.reference-cache.time-to-live-minutes:60}") long timeToLiveMinutes
+    ) {
+        CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        Duration ttl = Duration.ofMinutes(timeToLiveMinutes);
+
+        for (Class<?> entity : REFERENCE_ENTITIES) {
+            createRegion(cacheManager, entity.getName(), entityHeapEntries, ttl);
+        }
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queryHeapEntries, ttl);
+        // One entry per table; must never expire before the query results that depend on it
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 1000, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataCacheCustomizer(CacheManager referenceDataCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, referenceDataCacheManager);
+    }
+
+    @Bean
+    public MeterBinder referenceDataCacheMetrics(CacheManager referenceDataCacheManager) {
+        return registry -> referenceDataCacheManager.getCacheNames().forEach(name ->
+                JCacheMetrics.monitor(registry, referenceDataCacheManager.getCache(name), Tags.of("cacheManager", "reference-data")));
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long heapEntries, Duration ttl) {
+        var config = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(heapEntries))
+                .withExpiry(ttl != null
+                        ? ExpiryPolicyBuilder.timeToLiveExpiration(ttl)
+                        : ExpiryPolicyBuilder.noExpiration());
+        cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(config));
+        cacheManager.enableStatistics(name, true);
+    }
+}
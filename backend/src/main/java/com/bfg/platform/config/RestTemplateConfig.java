@@ -1,14 +1,29 @@
 package com.bfg.platform.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Outbound calls (Brevo) never block a caller indefinitely. The JDK client underneath keeps
+     * idle keep-alive connections pooled per host (http.maxConnections, default 5).
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            @Value("${bfg.http-client.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${bfg.http-client.read-timeout-ms:10000}") long readTimeoutMs
+    ) {
+        return builder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
     }
 }
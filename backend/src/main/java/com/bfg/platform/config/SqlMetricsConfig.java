@@ -0,0 +1,67 @@
+package com.bfg.platform.config;
+
+import com.bfg.platform.common.metrics.SlowRequestSampler;
+import com.bfg.platform.common.metrics.SqlMetricsDataSource;
+import com.bfg.platform.common.metrics.SqlMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL instrumentation, off unless bfg.sql-metrics.enabled=true: it proxies every JDBC
+ * statement and result set and adds metric series per endpoint and filter shape. When disabled none
+ * of these beans exist, the data source is not wrapped and requests carry no extra work.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bfg.sql-metrics.enabled", havingValue = "true")
+public class SqlMetricsConfig implements WebMvcConfigurer {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final SqlMetricsInterceptor interceptor;
+
+    public SqlMetricsConfig(
+            MeterRegistry meterRegistry,
+            SlowRequestSampler slowRequestSampler,
+            @Value("${bfg.sql-metrics.capture-statements:100}") int captureStatements,
+            @Value("${bfg.sql-metrics.max-filter-shapes:20}") int maxFilterShapes
+    ) {
+        this.interceptor = new SqlMetricsInterceptor(meterRegistry, slowRequestSampler, captureStatements, maxFilterShapes);
+    }
+
+    /** Wraps only the data source the application uses, not the pools behind a routing data source */
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlMetricsDataSource)) {
+                    return new SqlMetricsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static SlowRequestSampler slowRequestSampler(
+            @Value("${bfg.sql-metrics.slow-request-ms:1000}") long slowRequestMs,
+            @Value("${bfg.sql-metrics.slow-statement-count:50}") int slowStatementCount,
+            @Value("${bfg.sql-metrics.retained-samples:50}") int retainedSamples
+    ) {
+        return new SlowRequestSampler(slowRequestMs, slowStatementCount, retainedSamples);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor);
+    }
+}
@@ -8,6 +8,8 @@ import com.bfg.platform.common.exception.ResourceNotFoundException;
 import com.bfg.platform.common.i18n.MessageResolver;
 import com.bfg.platform.common.query.ExpandQueryParser;
 import com.bfg.platform.common.query.OffsetBasedPageRequest;
+import com.bfg.platform.common.query.PageEnricher;
+import com.bfg.platform.common.security.PasswordHashingExecutor;
 import com.bfg.platform.common.security.SecurityContextHelper;
 import com.bfg.platform.gen.model.SystemRole;
 import com.bfg.platform.gen.model.UserBatchMigrationRequest;
@@ -28,9 +30,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -44,9 +51,11 @@ public class UserServiceImpl implements UserService {
     private final com.bfg.platform.club.repository.ClubRepository clubRepository;
     private final com.bfg.platform.club.repository.ClubCoachRepository clubCoachRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final SecurityContextHelper securityContextHelper;
     private final ScopeAccessValidator scopeAccessValidator;
     private final MessageResolver messageResolver;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     public Page<UserDto> getAllUsers(String filter, String search, List<String> orderBy, Integer top, Integer skip, List<String> expand) {
@@ -60,21 +69,30 @@ public class UserServiceImpl implements UserService {
         Specification<User> spec = Specification.where(filterSpec).and(searchSpec);
         Pageable pageable = OffsetBasedPageRequest.of(skip, top, UserQueryAdapter.parseSort(orderBy));
         Page<UserDto> page = userRepository.findAll(spec, pageable).map(UserMapper::toDto);
+        return PageEnricher.apply(page, PageEnricher.batch(
+                this::findAssignedUserIds,
+                (dto, assigned) -> dto.setAssignedToClub(assigned.contains(dto.getUuid()))));
+    }
 
-        Set<UUID> assignedCoachIds = new java.util.HashSet<>(clubCoachRepository.findAllAssignedCoachIds());
-        Set<UUID> assignedAdminIds = new java.util.HashSet<>(clubRepository.findAllAssignedClubAdminIds());
-
-        page.forEach(dto -> {
-            if (dto.getRole() == SystemRole.COACH) {
-                dto.setAssignedToClub(assignedCoachIds.contains(dto.getUuid()));
-            } else if (dto.getRole() == SystemRole.CLUB_ADMIN) {
-                dto.setAssignedToClub(assignedAdminIds.contains(dto.getUuid()));
-            } else {
-                dto.setAssignedToClub(false);
-            }
-        });
+    /** Coaches and club admins on the page that are assigned to a club; two lookups bounded by the page size */
+    private Set<UUID> findAssignedUserIds(Collection<UserDto> users) {
+        List<UUID> coachIds = idsWithRole(users, SystemRole.COACH);
+        List<UUID> clubAdminIds = idsWithRole(users, SystemRole.CLUB_ADMIN);
+        Set<UUID> assigned = new HashSet<>();
+        if (!coachIds.isEmpty()) {
+            assigned.addAll(clubCoachRepository.findAssignedCoachIds(coachIds));
+        }
+        if (!clubAdminIds.isEmpty()) {
+            assigned.addAll(clubRepository.findAssignedClubAdminIds(clubAdminIds));
+        }
+        return assigned;
+    }
 
-        return page;
+    private static List<UUID> idsWithRole(Collection<UserDto> users, SystemRole role) {
+        return users.stream()
+                .filter(dto -> dto.getRole() == role)
+                .map(UserDto::getUuid)
+                .toList();
     }
 
     @Override
@@ -152,60 +170,66 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Inserts the batch in one transaction. A username taken by a concurrent request after the lookup
+     * fails that insert; the batch is then retried user by user so only the conflicting ones are skipped.
+     */
     @Override
-    @Transactional
     public UserBatchMigrationResponse migrateUsers(UserBatchMigrationRequest request) {
         List<UserDto> created = new java.util.ArrayList<>();
         List<UserBatchMigrationSkippedItem> skipped = new java.util.ArrayList<>();
 
+        List<MigrationCandidate> candidates = new java.util.ArrayList<>();
         for (UserBatchMigrationRequestItem item : request.getUsers()) {
             String email = item.getEmail() != null ? item.getEmail().trim() : "";
-            String username = (item.getUsername() != null && !item.getUsername().isBlank())
-                    ? item.getUsername().trim()
-                    : email;
-
             if (email.isEmpty()) {
-                UserBatchMigrationSkippedItem skip = new UserBatchMigrationSkippedItem();
-                skip.setUser(item);
-                skip.setReason("Email is required");
-                skipped.add(skip);
-                continue;
+                addSkipped(skipped, item, "Email is required");
+            } else if (item.getRole() == SystemRole.APP_ADMIN) {
+                addSkipped(skipped, item, "Cannot migrate users with APP_ADMIN role");
+            } else {
+                candidates.add(new MigrationCandidate(item, (item.getUsername() != null && !item.getUsername().isBlank())
+                        ? item.getUsername().trim()
+                        : email));
             }
+        }
 
-            if (item.getRole() == SystemRole.APP_ADMIN) {
-                UserBatchMigrationSkippedItem skip = new UserBatchMigrationSkippedItem();
-                skip.setUser(item);
-                skip.setReason("Cannot migrate users with APP_ADMIN role");
-                skipped.add(skip);
-                continue;
+        // One lookup for the whole batch; names repeated within the batch count as taken after the first
+        Set<String> takenUsernames = candidates.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(userRepository.findExistingUsernames(
+                        candidates.stream().map(MigrationCandidate::username).toList()));
+        List<MigrationCandidate> accepted = new java.util.ArrayList<>();
+        for (MigrationCandidate candidate : candidates) {
+            if (!takenUsernames.add(candidate.username())) {
+                addSkipped(skipped, candidate.item(), "Username already exists: " + candidate.username());
+            } else {
+                accepted.add(candidate);
             }
+        }
 
-            if (userRepository.existsByUsername(username)) {
-                UserBatchMigrationSkippedItem skip = new UserBatchMigrationSkippedItem();
-                skip.setUser(item);
-                skip.setReason("Username already exists: " + username);
-                skipped.add(skip);
-                continue;
-            }
+        List<String> passwordHashes = passwordHashingExecutor.encodeAll(
+                accepted.stream().map(candidate -> generateRandomPassword()).toList());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
 
-            try {
-                User user = new User();
-                user.setFirstName(item.getFirstName() != null ? item.getFirstName().trim() : "");
-                user.setLastName(item.getLastName() != null ? item.getLastName().trim() : "");
-                user.setDateOfBirth(item.getDateOfBirth());
-                user.setEmail(email);
-                user.setUsername(username);
-                user.setRole(item.getRole());
-                user.setActive(true);
-                user.setPassword(passwordEncoder.encode(generateRandomPassword()));
-
-                User savedUser = userRepository.save(user);
-                created.add(UserMapper.toDto(savedUser));
-            } catch (DataIntegrityViolationException e) {
-                UserBatchMigrationSkippedItem skip = new UserBatchMigrationSkippedItem();
-                skip.setUser(item);
-                skip.setReason("Duplicate entry: " + ConstraintViolationMessageExtractor.extractMessage(e));
-                skipped.add(skip);
+        List<User> users = new java.util.ArrayList<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            users.add(newMigratedUser(accepted.get(i), passwordHashes.get(i)));
+        }
+        try {
+            transactionTemplate.execute(status -> userRepository.saveAllAndFlush(users))
+                    .forEach(user -> created.add(UserMapper.toDto(user)));
+        } catch (DataIntegrityViolationException e) {
+            for (int i = 0; i < accepted.size(); i++) {
+                MigrationCandidate candidate = accepted.get(i);
+                User user = newMigratedUser(candidate, passwordHashes.get(i));
+                try {
+                    created.add(UserMapper.toDto(transactionTemplate.execute(status -> userRepository.saveAndFlush(user))));
+                } catch (DataIntegrityViolationException conflict) {
+                    addSkipped(skipped, candidate.item(),
+                            "Duplicate entry: " + ConstraintViolationMessageExtractor.extractMessage(conflict));
+                }
             }
         }
 
@@ -215,6 +239,27 @@ public class UserServiceImpl implements UserService {
         return response;
     }
 
+    private static User newMigratedUser(MigrationCandidate candidate, String passwordHash) {
+        UserBatchMigrationRequestItem item = candidate.item();
+        User user = new User();
+        user.setFirstName(item.getFirstName() != null ? item.getFirstName().trim() : "");
+        user.setLastName(item.getLastName() != null ? item.getLastName().trim() : "");
+        user.setDateOfBirth(item.getDateOfBirth());
+        user.setEmail(item.getEmail().trim());
+        user.setUsername(candidate.username());
+        user.setRole(item.getRole());
+        user.setActive(true);
+        user.setPassword(passwordHash);
+        return user;
+    }
+
+    private static void addSkipped(List<UserBatchMigrationSkippedItem> skipped, UserBatchMigrationRequestItem item, String reason) {
+        UserBatchMigrationSkippedItem skip = new UserBatchMigrationSkippedItem();
+        skip.setUser(item);
+        skip.setReason(reason);
+        skipped.add(skip);
+    }
+
     private void validateCreatePermissions(UserCreateRequest request) {
         SystemRole currentRole = securityContextHelper.getUserRole();
         SystemRole targetRole = request.getRole();
@@ -311,4 +356,5 @@ public class UserServiceImpl implements UserService {
         return new String(passwordArray);
     }
 
+    private record MigrationCandidate(UserBatchMigrationRequestItem item, String username) {}
 }
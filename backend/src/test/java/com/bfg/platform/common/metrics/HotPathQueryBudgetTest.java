@@ -0,0 +1,561 @@
+package com.bfg.platform.common.metrics;
+
+import com.bfg.platform.athlete.entity.Accreditation;
+import com.bfg.platform.athlete.entity.Athlete;
+import com.bfg.platform.athlete.repository.AccreditationRepository;
+import com.bfg.platform.athlete.repository.AthleteRepository;
+import com.bfg.platform.athlete.service.AccreditationService;
+import com.bfg.platform.auth.service.AuthService;
+import com.bfg.platform.club.entity.Club;
+import com.bfg.platform.club.repository.ClubRepository;
+import com.bfg.platform.competition.entity.Competition;
+import com.bfg.platform.competition.entity.CompetitionTimetableEvent;
+import com.bfg.platform.competition.entity.CompetitionGroupDefinition;
+import com.bfg.platform.competition.entity.DisciplineDefinition;
+import com.bfg.platform.competition.entity.Entry;
+import com.bfg.platform.competition.entity.QualificationProgression;
+import com.bfg.platform.competition.entity.QualificationScheme;
+import com.bfg.platform.competition.entity.QualificationTier;
+import com.bfg.platform.competition.repository.CompetitionFinalStandingRepository;
+import com.bfg.platform.competition.repository.CompetitionRepository;
+import com.bfg.platform.competition.repository.CompetitionTimetableEventRepository;
+import com.bfg.platform.competition.repository.CompetitionGroupDefinitionRepository;
+import com.bfg.platform.competition.repository.DisciplineDefinitionRepository;
+import com.bfg.platform.competition.repository.EntryRepository;
+import com.bfg.platform.competition.repository.QualificationProgressionRepository;
+import com.bfg.platform.competition.repository.QualificationSchemeRepository;
+import com.bfg.platform.competition.repository.QualificationTierRepository;
+import com.bfg.platform.competition.service.ClubRankingService;
+import com.bfg.platform.competition.service.CompetitionFinalStandingService;
+import com.bfg.platform.competition.service.CompetitionProgressionService;
+import com.bfg.platform.competition.service.EntryService;
+import com.bfg.platform.gen.model.AccreditationDto;
+import com.bfg.platform.gen.model.AccreditationStatus;
+import com.bfg.platform.gen.model.AdvanceProgressionRequest;
+import com.bfg.platform.gen.model.AdvanceProgressionResponse;
+import com.bfg.platform.gen.model.ClubEntriesDto;
+import com.bfg.platform.gen.model.ClubEntriesRequest;
+import com.bfg.platform.gen.model.ClubRankingsResponse;
+import com.bfg.platform.gen.model.CompetitionEventStatus;
+import com.bfg.platform.gen.model.CompetitionParticipationDto;
+import com.bfg.platform.gen.model.CompetitionType;
+import com.bfg.platform.gen.model.CrewMemberRequest;
+import com.bfg.platform.gen.model.DisciplineProgressionResult;
+import com.bfg.platform.gen.model.DisciplineStandingResult;
+import com.bfg.platform.gen.model.EntryRequest;
+import com.bfg.platform.gen.model.Gender;
+import com.bfg.platform.gen.model.ParticipationResultRequest;
+import com.bfg.platform.gen.model.ParticipationStatus;
+import com.bfg.platform.gen.model.ProgressionGenerationStatus;
+import com.bfg.platform.gen.model.QualificationEventType;
+import com.bfg.platform.gen.model.ScopeType;
+import com.bfg.platform.gen.model.SeatPosition;
+import com.bfg.platform.gen.model.SystemRole;
+import com.bfg.platform.gen.model.TokenResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL statement and wall-time budgets of the hot service paths, measured with SqlRequestStats on
+ * the instrumented H2 data source. Measured calls run outside a test transaction and commit, so
+ * work done after the commit on the caller's thread (snapshot rebuild, standings trigger) counts
+ * against the flow. Writing flows run on competitions the test seeds and deletes afterwards; the
+ * regatta grows with bfg.query-budget.scale and the budgets grow per discipline, not per boat.
+ * A failure lists the captured statements, which usually points straight at the N+1.
+ */
+@SpringBootTest
+@ActiveProfiles("it")
+class HotPathQueryBudgetTest {
+
+    private static final int CAPTURE_STATEMENTS = 500;
+    private static final int DISCIPLINES_PER_SCALE = 4;
+    private static final int BOATS_PER_DISCIPLINE = 10;
+    private static final List<SeatPosition> ROWING_SEATS = List.of(
+            SeatPosition.STROKE, SeatPosition.BOW, SeatPosition.TWO, SeatPosition.THREE,
+            SeatPosition.FOUR, SeatPosition.FIVE, SeatPosition.SIX, SeatPosition.SEVEN);
+
+    @Value("${bfg.query-budget.scale:1}")
+    private int scale;
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private AccreditationService accreditationService;
+    @Autowired
+    private EntryService entryService;
+    @Autowired
+    private CompetitionProgressionService progressionService;
+    @Autowired
+    private CompetitionFinalStandingService finalStandingService;
+    @Autowired
+    private ClubRankingService clubRankingService;
+    @Autowired
+    private CompetitionRepository competitionRepository;
+    @Autowired
+    private CompetitionTimetableEventRepository timetableEventRepository;
+    @Autowired
+    private CompetitionFinalStandingRepository standingRepository;
+    @Autowired
+    private EntryRepository entryRepository;
+    @Autowired
+    private AccreditationRepository accreditationRepository;
+    @Autowired
+    private AthleteRepository athleteRepository;
+    @Autowired
+    private CompetitionGroupDefinitionRepository groupRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+    @Autowired
+    private DisciplineDefinitionRepository disciplineDefinitionRepository;
+    @Autowired
+    private QualificationSchemeRepository schemeRepository;
+    @Autowired
+    private QualificationTierRepository tierRepository;
+    @Autowired
+    private QualificationProgressionRepository progressionRuleRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<UUID> seededCompetitions = new ArrayList<>();
+    private final List<UUID> seededSchemes = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        seededCompetitions.forEach(this::deleteCompetition);
+        seededSchemes.forEach(this::deleteQualificationScheme);
+    }
+
+    @Test
+    void login() {
+        Measured<TokenResponse> login = measure(() -> authService.login("fedadmin@example.com", "fed123"));
+
+        assertThat(login.result().getAccessToken()).isNotBlank();
+        assertWithinBudget("login", login, 6, 1500);
+    }
+
+    @Test
+    void getAllAccreditationsWithExpand() {
+        authenticate(SystemRole.FEDERATION_ADMIN);
+
+        Measured<Page<AccreditationDto>> page = measure(() -> accreditationService.getAllAccreditations(
+                null, null, null, 50, 0, List.of("athlete", "club"), null));
+
+        assertThat(page.result().getContent()).isNotEmpty()
+                .allSatisfy(accreditation -> assertThat(accreditation.getAthlete()).isNotNull());
+        assertWithinBudget("getAllAccreditations", page, 6, 1000);
+    }
+
+    @Test
+    void submitEntries() {
+        authenticate(SystemRole.APP_ADMIN);
+        Competition source = competition("ТЕСТ-ЗАЯВКИ");
+        UUID clubId = entryRepository.findByCompetitionId(source.getId()).get(0).getClubId();
+        Competition competition = inTransaction(() -> copyWithOpenSubmissions(source));
+        ClubEntriesRequest request = eligibleEntries(competition, clubId);
+        assertThat(request.getEntries()).as("eligible crews in the bootstrap club").isNotEmpty();
+
+        Measured<ClubEntriesDto> submitted = measure(
+                () -> entryService.submitEntries(competition.getId(), clubId, request));
+
+        assertThat(submitted.result().getEntries()).hasSameSizeAs(request.getEntries());
+        assertWithinBudget("submitEntries", submitted, 40, 3000);
+    }
+
+    @Test
+    void advanceProgression() {
+        authenticate(SystemRole.APP_ADMIN);
+        int disciplines = disciplineCount();
+        UUID competitionId = inTransaction(() -> seedRegattaWithHeats(disciplines));
+
+        Measured<AdvanceProgressionResponse> heats = measure(
+                () -> progressionService.advanceProgression(competitionId, new AdvanceProgressionRequest()));
+        assertAllAdvancedTo(heats.result(), QualificationEventType.H);
+        assertWithinBudget("advanceProgression (heats)", heats, 20 + 12 * disciplines, 5000);
+
+        recordOfficialResults(competitionId, QualificationEventType.H);
+
+        Measured<AdvanceProgressionResponse> finals = measure(
+                () -> progressionService.advanceProgression(competitionId, new AdvanceProgressionRequest()));
+        assertAllAdvancedTo(finals.result(), QualificationEventType.FA);
+        assertWithinBudget("advanceProgression (final A)", finals, 20 + 12 * disciplines, 5000);
+    }
+
+    @Test
+    void computeStandings() {
+        authenticate(SystemRole.APP_ADMIN);
+        int disciplines = disciplineCount();
+        UUID competitionId = raceRegatta(disciplines);
+
+        Measured<List<DisciplineStandingResult>> standings = measure(
+                () -> finalStandingService.computeStandings(competitionId, disciplineIds(competitionId)));
+
+        assertThat(standings.result()).hasSize(disciplines)
+                .allSatisfy(result -> assertThat(result.getStatus()).isEqualTo(ProgressionGenerationStatus.SUCCESS));
+        assertWithinBudget("computeStandings", standings, 20 + 8 * disciplines, 5000);
+    }
+
+    @Test
+    void computeClubRankings() {
+        authenticate(SystemRole.APP_ADMIN);
+        UUID competitionId = raceRegatta(disciplineCount());
+
+        Measured<ClubRankingsResponse> rankings = measure(
+                () -> clubRankingService.computeClubRankings(List.of(competitionId)));
+
+        assertThat(rankings.result()).isNotNull();
+        assertWithinBudget("computeClubRankings", rankings, 20, 5000);
+    }
+
+    // ── Measurement ─────────────────────────────────────────────────────
+
+    private <T> Measured<T> measure(Supplier<T> call) {
+        SqlRequestStats stats = SqlRequestStats.open(CAPTURE_STATEMENTS);
+        long started = System.nanoTime();
+        try {
+            T result = call.get();
+            return new Measured<>(result, stats, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } finally {
+            SqlRequestStats.close();
+        }
+    }
+
+    private static void assertWithinBudget(String flow, Measured<?> measured, int statements, long millis) {
+        String sql = measured.stats().captured().stream()
+                .map(SqlRequestStats.Statement::sql)
+                .collect(Collectors.joining("\n  ", "\n  ", ""));
+        assertThat(measured.stats().statements())
+                .as("%s: SQL statements (is the data source instrumented?)%s", flow, sql)
+                .isPositive()
+                .isLessThanOrEqualTo(statements);
+        assertThat(measured.millis()).as("%s: wall time in ms", flow).isLessThanOrEqualTo(millis);
+    }
+
+    private record Measured<T>(T result, SqlRequestStats stats, long millis) {
+    }
+
+    // ── Data ────────────────────────────────────────────────────────────
+
+    private static void authenticate(SystemRole role) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                UUID.randomUUID(), null, List.of(new SimpleGrantedAuthority(role.getValue())));
+        authentication.setDetails(Map.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private int disciplineCount() {
+        return (int) Math.min((long) DISCIPLINES_PER_SCALE * scale, disciplineDefinitionRepository.count());
+    }
+
+    private Competition competition(String shortName) {
+        return competitionRepository.findAll().stream()
+                .filter(c -> shortName.equals(c.getShortName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Bootstrap competition " + shortName + " is missing"));
+    }
+
+    private List<UUID> disciplineIds(UUID competitionId) {
+        return timetableEventRepository.findByCompetitionId(competitionId).stream()
+                .map(CompetitionTimetableEvent::getDisciplineId)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * A copy of a bootstrap competition's timetable with the submission window open now, so entries
+     * can be submitted without touching the bootstrap data.
+     */
+    private Competition copyWithOpenSubmissions(Competition source) {
+        Instant now = Instant.now();
+        Competition copy = competitionRepository.save(Competition.builder()
+                .shortName("БЮДЖЕТ-ЗАЯВКИ").name(source.getName()).location(source.getLocation())
+                .startDate(source.getStartDate()).endDate(source.getEndDate())
+                .entrySubmissionsOpenAt(now.minus(Duration.ofDays(1)))
+                .entrySubmissionsClosedAt(now.plus(Duration.ofDays(7)))
+                .lastChangesBeforeTmAt(now.plus(Duration.ofDays(8)))
+                .technicalMeetingAt(now.plus(Duration.ofDays(9)))
+                .awardingCeremonyAt(now.plus(Duration.ofDays(10)))
+                .scoringSchemeId(source.getScoringSchemeId())
+                .qualificationSchemeId(source.getQualificationSchemeId())
+                .competitionType(source.getCompetitionType()).isTemplate(false).build());
+        seededCompetitions.add(copy.getId());
+
+        for (CompetitionTimetableEvent event : timetableEventRepository.findByCompetitionId(source.getId())) {
+            timetableEventRepository.save(CompetitionTimetableEvent.builder()
+                    .competitionId(copy.getId()).disciplineId(event.getDisciplineId())
+                    .qualificationEventType(event.getQualificationEventType())
+                    .scheduledAt(event.getScheduledAt())
+                    .build());
+        }
+        return copy;
+    }
+
+    /**
+     * As many boats per timetable discipline as the club's active accreditations allow, each athlete
+     * in one boat only and inside the group's age range, so the request passes validation in full.
+     */
+    private ClubEntriesRequest eligibleEntries(Competition competition, UUID clubId) {
+        int year = competition.getStartDate().getYear();
+        List<Accreditation> accreditations = accreditationRepository.findByClubId(clubId).stream()
+                .filter(accreditation -> Integer.valueOf(year).equals(accreditation.getYear()))
+                .filter(accreditation -> accreditation.getStatus() == AccreditationStatus.ACTIVE)
+                .toList();
+        Map<UUID, Athlete> athletes = athleteRepository
+                .findAllById(accreditations.stream().map(Accreditation::getAthleteId).toList()).stream()
+                .collect(Collectors.toMap(Athlete::getId, athlete -> athlete));
+        Set<UUID> used = new HashSet<>();
+
+        List<EntryRequest> requests = new ArrayList<>();
+        for (UUID disciplineId : disciplineIds(competition.getId())) {
+            DisciplineDefinition discipline = disciplineDefinitionRepository.findById(disciplineId).orElseThrow();
+            CompetitionGroupDefinition group = groupRepository.findById(discipline.getCompetitionGroupId()).orElseThrow();
+            for (int team = 1; team <= discipline.getMaxBoatsPerClub(); team++) {
+                List<CrewMemberRequest> crew = pickCrew(discipline, group, year, accreditations, athletes, used);
+                if (crew == null) {
+                    break;
+                }
+                EntryRequest request = new EntryRequest();
+                request.setDisciplineId(disciplineId);
+                request.setTeamNumber(team);
+                request.setCrewMembers(crew);
+                requests.add(request);
+            }
+        }
+        ClubEntriesRequest request = new ClubEntriesRequest();
+        request.setEntries(requests);
+        return request;
+    }
+
+    /** Rowers (half of each gender in mixed boats) and a cox if the boat has one; null if the club runs out */
+    private static List<CrewMemberRequest> pickCrew(
+            DisciplineDefinition discipline, CompetitionGroupDefinition group, int year,
+            List<Accreditation> accreditations, Map<UUID, Athlete> athletes, Set<UUID> used) {
+        List<Gender> rowers = new ArrayList<>();
+        for (int seat = 0; seat < discipline.getCrewSize(); seat++) {
+            rowers.add(switch (discipline.getGender()) {
+                case MALE -> Gender.MALE;
+                case FEMALE -> Gender.FEMALE;
+                case MIXED -> seat % 2 == 0 ? Gender.MALE : Gender.FEMALE;
+            });
+        }
+        List<SeatPosition> seats = ROWING_SEATS.subList(0, rowers.size());
+
+        Set<UUID> taken = new HashSet<>();
+        List<CrewMemberRequest> crew = new ArrayList<>();
+        for (int i = 0; i < rowers.size(); i++) {
+            Accreditation rower = pickAthlete(accreditations, athletes, used, taken,
+                    rowers.get(i), year, group.getMinAge(), group.getMaxAge());
+            if (rower == null) {
+                return null;
+            }
+            crew.add(crewMember(seats.get(i), rower));
+        }
+        if (discipline.isHasCoxswain()) {
+            Accreditation cox = pickAthlete(accreditations, athletes, used, taken, null, year,
+                    group.getCoxMinAge() != null ? group.getCoxMinAge() : group.getMinAge(),
+                    group.getCoxMaxAge() != null ? group.getCoxMaxAge() : group.getMaxAge());
+            if (cox == null) {
+                return null;
+            }
+            crew.add(crewMember(SeatPosition.COX, cox));
+        }
+        used.addAll(taken);
+        return crew;
+    }
+
+    private static Accreditation pickAthlete(
+            List<Accreditation> accreditations, Map<UUID, Athlete> athletes, Set<UUID> used, Set<UUID> taken,
+            Gender gender, int year, Integer minAge, Integer maxAge) {
+        for (Accreditation accreditation : accreditations) {
+            Athlete athlete = athletes.get(accreditation.getAthleteId());
+            if (athlete == null || used.contains(athlete.getId()) || taken.contains(athlete.getId())
+                    || (gender != null && gender != athlete.getGender())) {
+                continue;
+            }
+            if (athlete.getDateOfBirth() != null) {
+                int age = year - athlete.getDateOfBirth().getYear();
+                if ((minAge != null && age < minAge) || (maxAge != null && age > maxAge)) {
+                    continue;
+                }
+            }
+            taken.add(athlete.getId());
+            return accreditation;
+        }
+        return null;
+    }
+
+    private static CrewMemberRequest crewMember(SeatPosition seat, Accreditation accreditation) {
+        CrewMemberRequest member = new CrewMemberRequest();
+        member.setSeatPosition(seat);
+        member.setAccreditationId(accreditation.getId());
+        return member;
+    }
+
+    /**
+     * A competition with its own qualification scheme (two heats, top three of each to final A)
+     * and the given number of disciplines, each with boats from the internal clubs in turn.
+     */
+    private UUID seedRegattaWithHeats(int disciplines) {
+        QualificationScheme scheme = schemeRepository.save(QualificationScheme.builder()
+                .name("Бюджет на заявките").laneCount(6).isActive(true).build());
+        seededSchemes.add(scheme.getId());
+        QualificationTier tier = tierRepository.save(QualificationTier.builder()
+                .qualificationSchemeId(scheme.getId())
+                .boatCountMin(7).boatCountMax(12).heatCount(2)
+                .semiFinalCount(0).finalBCount(0).finalACount(1).build());
+        progressionRuleRepository.save(QualificationProgression.builder()
+                .qualificationTierId(tier.getId())
+                .sourceEvent(QualificationEventType.H).destEvent(QualificationEventType.FA)
+                .qualifyByPosition(3).qualifyByTime(0).build());
+
+        Competition template = competition("ТЕСТ-КЛАС");
+        LocalDate startDate = LocalDate.now().plusDays(30);
+        Competition competition = competitionRepository.save(Competition.builder()
+                .shortName("БЮДЖЕТ").name("Бюджет на заявките").location("Пловдив")
+                .startDate(startDate).endDate(startDate.plusDays(1))
+                .scoringSchemeId(template.getScoringSchemeId())
+                .qualificationSchemeId(scheme.getId())
+                .competitionType(CompetitionType.NATIONAL_WATER).isTemplate(false).build());
+        seededCompetitions.add(competition.getId());
+
+        List<UUID> clubIds = clubRepository.findAll().stream()
+                .filter(club -> club.getType() == ScopeType.INTERNAL)
+                .map(Club::getId)
+                .toList();
+        Instant heatsAt = startDate.atStartOfDay().toInstant(ZoneOffset.UTC).plus(Duration.ofHours(8));
+        List<UUID> disciplineIds = disciplineDefinitionRepository.findAll().stream()
+                .limit(disciplines)
+                .map(DisciplineDefinition::getId)
+                .toList();
+        int scheduled = 0;
+        int boats = 0;
+        for (UUID disciplineId : disciplineIds) {
+            for (QualificationEventType type : List.of(QualificationEventType.H, QualificationEventType.H, QualificationEventType.FA)) {
+                timetableEventRepository.save(CompetitionTimetableEvent.builder()
+                        .competitionId(competition.getId()).disciplineId(disciplineId)
+                        .qualificationEventType(type)
+                        .scheduledAt(heatsAt.plus(Duration.ofMinutes(10L * scheduled++)))
+                        .build());
+            }
+            for (int team = 1; team <= BOATS_PER_DISCIPLINE; team++) {
+                entryRepository.save(Entry.builder().competitionId(competition.getId())
+                        .clubId(clubIds.get(boats++ % clubIds.size()))
+                        .disciplineId(disciplineId).teamNumber(team).build());
+            }
+        }
+        return competition.getId();
+    }
+
+    /**
+     * Seeds a regatta and races it to official final A results. The last official result of each
+     * discipline starts the automatic standings recompute; wait for it so nothing runs alongside
+     * the measured call.
+     */
+    private UUID raceRegatta(int disciplines) {
+        UUID competitionId = inTransaction(() -> seedRegattaWithHeats(disciplines));
+        progressionService.advanceProgression(competitionId, new AdvanceProgressionRequest());
+        recordOfficialResults(competitionId, QualificationEventType.H);
+        progressionService.advanceProgression(competitionId, new AdvanceProgressionRequest());
+        recordOfficialResults(competitionId, QualificationEventType.FA);
+        awaitStandings(competitionId, disciplines);
+        return competitionId;
+    }
+
+    private void awaitStandings(UUID competitionId, int disciplines) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (standingRepository.findByCompetitionId(competitionId).stream()
+                .map(standing -> standing.getDisciplineId())
+                .distinct()
+                .count() < disciplines) {
+            assertThat(System.nanoTime()).as("automatic standings recompute finished").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /** Distinct finish times per event so the stage has official results and no ties */
+    private void recordOfficialResults(UUID competitionId, QualificationEventType stage) {
+        List<CompetitionTimetableEvent> events = timetableEventRepository.findByCompetitionId(competitionId).stream()
+                .filter(event -> stage.equals(event.getQualificationEventType()))
+                .toList();
+        for (CompetitionTimetableEvent event : events) {
+            List<CompetitionParticipationDto> participations =
+                    progressionService.getEventParticipations(event.getId()).getParticipations();
+            List<ParticipationResultRequest> results = new ArrayList<>();
+            for (int i = 0; i < participations.size(); i++) {
+                ParticipationResultRequest result = new ParticipationResultRequest();
+                result.setParticipationId(participations.get(i).getUuid());
+                result.setFinishStatus(ParticipationStatus.FINISHED);
+                result.setFinishTimeMs(420_000 + 1_000 * i);
+                results.add(result);
+            }
+            progressionService.recordResults(event.getId(), results, CompetitionEventStatus.OFFICIAL_RESULTS);
+        }
+    }
+
+    private static void assertAllAdvancedTo(AdvanceProgressionResponse response, QualificationEventType stage) {
+        assertThat(response.getResults()).isNotEmpty().allSatisfy((DisciplineProgressionResult result) -> {
+            assertThat(result.getStatus()).as("%s: %s", result.getDisciplineName(), result.getReason())
+                    .isEqualTo(ProgressionGenerationStatus.SUCCESS);
+            assertThat(result.getStage()).isEqualTo(stage.getValue());
+        });
+    }
+
+    private void deleteCompetition(UUID competitionId) {
+        jdbcTemplate.update("DELETE FROM competition_final_standings WHERE competition_id = ?", competitionId);
+        jdbcTemplate.update("""
+                DELETE FROM competition_participations WHERE competition_event_id IN (
+                    SELECT id FROM competition_timetable_events WHERE competition_id = ?)""", competitionId);
+        jdbcTemplate.update(
+                "DELETE FROM crew_members WHERE entry_id IN (SELECT id FROM entries WHERE competition_id = ?)",
+                competitionId);
+        jdbcTemplate.update("DELETE FROM entries WHERE competition_id = ?", competitionId);
+        jdbcTemplate.update("DELETE FROM competition_timetable_events WHERE competition_id = ?", competitionId);
+        jdbcTemplate.update("DELETE FROM competition_progression_snapshots WHERE competition_id = ?", competitionId);
+        jdbcTemplate.update("DELETE FROM competitions WHERE id = ?", competitionId);
+    }
+
+    private void deleteQualificationScheme(UUID schemeId) {
+        jdbcTemplate.update("""
+                DELETE FROM qualification_progressions WHERE qualification_tier_id IN (
+                    SELECT id FROM qualification_tiers WHERE qualification_scheme_id = ?)""", schemeId);
+        jdbcTemplate.update("DELETE FROM qualification_tiers WHERE qualification_scheme_id = ?", schemeId);
+        jdbcTemplate.update("DELETE FROM qualification_schemes WHERE id = ?", schemeId);
+    }
+}
@@ -0,0 +1,258 @@
+package com.bfg.platform.competition.service;
+
+import com.bfg.platform.club.entity.Club;
+import com.bfg.platform.club.repository.ClubRepository;
+import com.bfg.platform.competition.entity.Competition;
+import com.bfg.platform.competition.entity.CompetitionParticipation;
+import com.bfg.platform.competition.entity.CompetitionTimetableEvent;
+import com.bfg.platform.competition.entity.DisciplineDefinition;
+import com.bfg.platform.competition.entity.Entry;
+import com.bfg.platform.competition.entity.QualificationProgression;
+import com.bfg.platform.competition.entity.QualificationScheme;
+import com.bfg.platform.competition.entity.QualificationTier;
+import com.bfg.platform.competition.repository.CompetitionFinalStandingRepository;
+import com.bfg.platform.competition.repository.CompetitionParticipationRepository;
+import com.bfg.platform.competition.repository.CompetitionRepository;
+import com.bfg.platform.competition.repository.CompetitionTimetableEventRepository;
+import com.bfg.platform.competition.repository.DisciplineDefinitionRepository;
+import com.bfg.platform.competition.repository.EntryRepository;
+import com.bfg.platform.competition.repository.QualificationProgressionRepository;
+import com.bfg.platform.competition.repository.QualificationSchemeRepository;
+import com.bfg.platform.competition.repository.QualificationTierRepository;
+import com.bfg.platform.gen.model.AdvanceProgressionRequest;
+import com.bfg.platform.gen.model.CompetitionEventStatus;
+import com.bfg.platform.gen.model.CompetitionType;
+import com.bfg.platform.gen.model.ParticipationResultRequest;
+import com.bfg.platform.gen.model.ParticipationStatus;
+import com.bfg.platform.gen.model.QualificationEventType;
+import com.bfg.platform.gen.model.ResultImportReport;
+import com.bfg.platform.gen.model.ScopeType;
+import com.bfg.platform.gen.model.SystemRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A results file that covers several stages of a discipline: correcting official heat times in the
+ * same file as the final's results must not delete the final's participations the import then saves.
+ */
+@SpringBootTest
+@ActiveProfiles("it")
+class ResultImportMultiStageTest {
+
+    private static final int BOATS = 10;
+
+    @Autowired
+    private CompetitionProgressionService progressionService;
+    @Autowired
+    private CompetitionRepository competitionRepository;
+    @Autowired
+    private CompetitionTimetableEventRepository timetableEventRepository;
+    @Autowired
+    private CompetitionParticipationRepository participationRepository;
+    @Autowired
+    private CompetitionFinalStandingRepository standingRepository;
+    @Autowired
+    private EntryRepository entryRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+    @Autowired
+    private DisciplineDefinitionRepository disciplineDefinitionRepository;
+    @Autowired
+    private QualificationSchemeRepository schemeRepository;
+    @Autowired
+    private QualificationTierRepository tierRepository;
+    @Autowired
+    private QualificationProgressionRepository progressionRuleRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID competitionId;
+    private UUID schemeId;
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        if (competitionId != null) {
+            jdbcTemplate.update("DELETE FROM competition_final_standings WHERE competition_id = ?", competitionId);
+            jdbcTemplate.update("""
+                    DELETE FROM competition_participations WHERE competition_event_id IN (
+                        SELECT id FROM competition_timetable_events WHERE competition_id = ?)""", competitionId);
+            jdbcTemplate.update("DELETE FROM entries WHERE competition_id = ?", competitionId);
+            jdbcTemplate.update("DELETE FROM competition_timetable_events WHERE competition_id = ?", competitionId);
+            jdbcTemplate.update("DELETE FROM competition_progression_snapshots WHERE competition_id = ?", competitionId);
+            jdbcTemplate.update("DELETE FROM competitions WHERE id = ?", competitionId);
+        }
+        if (schemeId != null) {
+            jdbcTemplate.update("""
+                    DELETE FROM qualification_progressions WHERE qualification_tier_id IN (
+                        SELECT id FROM qualification_tiers WHERE qualification_scheme_id = ?)""", schemeId);
+            jdbcTemplate.update("DELETE FROM qualification_tiers WHERE qualification_scheme_id = ?", schemeId);
+            jdbcTemplate.update("DELETE FROM qualification_schemes WHERE id = ?", schemeId);
+        }
+    }
+
+    @Test
+    void correctedHeatsAndFinalInOneFileKeepTheFinal() {
+        authenticate();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seedRegattaWithHeats());
+        progressionService.advanceProgression(competitionId, new AdvanceProgressionRequest());
+        List<CompetitionTimetableEvent> heats = events(QualificationEventType.H);
+        heats.forEach(heat -> recordOfficialResults(heat, 420_000));
+        progressionService.advanceProgression(competitionId, new AdvanceProgressionRequest());
+        CompetitionTimetableEvent finalA = events(QualificationEventType.FA).get(0);
+        assertThat(participations(finalA)).as("final A generated from the heats").isNotEmpty();
+
+        // The final first, then the heats with times corrected by a tenth of a second (order unchanged)
+        StringBuilder csv = new StringBuilder("event,lane,time,status\n");
+        appendResults(csv, finalA, 410_000);
+        for (CompetitionTimetableEvent heat : heats) {
+            appendResults(csv, heat, 420_100);
+        }
+
+        ResultImportReport report = progressionService.importResults(competitionId,
+                new MockMultipartFile("file", "results.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8)),
+                CompetitionEventStatus.OFFICIAL_RESULTS, false);
+
+        assertThat(report.getErrors()).isEmpty();
+        assertThat(report.getApplied()).isTrue();
+        assertThat(report.getEventsMatched()).isEqualTo(heats.size() + 1);
+        assertThat(timetableEventRepository.findById(finalA.getId()).orElseThrow().getEventStatus())
+                .isEqualTo(CompetitionEventStatus.OFFICIAL_RESULTS);
+        assertThat(participations(finalA)).hasSize(2 * 3)
+                .allSatisfy(p -> {
+                    assertThat(p.getParticipationStatus()).isEqualTo(ParticipationStatus.FINISHED);
+                    assertThat(p.getFinishTimeMs()).isGreaterThanOrEqualTo(410_000);
+                });
+        assertThat(participations(heats.get(0)))
+                .allSatisfy(p -> assertThat(p.getFinishTimeMs()).isGreaterThanOrEqualTo(420_100));
+        awaitStandings();
+    }
+
+    /** The official final starts the automatic standings recompute; let it finish before cleaning up */
+    private void awaitStandings() {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (standingRepository.findByCompetitionId(competitionId).isEmpty()) {
+            assertThat(System.nanoTime()).as("automatic standings recompute finished").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static void authenticate() {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                UUID.randomUUID(), null, List.of(new SimpleGrantedAuthority(SystemRole.APP_ADMIN.getValue())));
+        authentication.setDetails(Map.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    /** One discipline with two heats and a final A; the top three of each heat advance */
+    private void seedRegattaWithHeats() {
+        QualificationScheme scheme = schemeRepository.save(QualificationScheme.builder()
+                .name("Импорт на няколко етапа").laneCount(6).isActive(true).build());
+        schemeId = scheme.getId();
+        QualificationTier tier = tierRepository.save(QualificationTier.builder()
+                .qualificationSchemeId(scheme.getId())
+                .boatCountMin(7).boatCountMax(12).heatCount(2)
+                .semiFinalCount(0).finalBCount(0).finalACount(1).build());
+        progressionRuleRepository.save(QualificationProgression.builder()
+                .qualificationTierId(tier.getId())
+                .sourceEvent(QualificationEventType.H).destEvent(QualificationEventType.FA)
+                .qualifyByPosition(3).qualifyByTime(0).build());
+
+        Competition template = competitionRepository.findAll().stream()
+                .filter(c -> "ТЕСТ-КЛАС".equals(c.getShortName()))
+                .findFirst()
+                .orElseThrow();
+        LocalDate startDate = LocalDate.now().plusDays(30);
+        Competition competition = competitionRepository.save(Competition.builder()
+                .shortName("ИМПОРТ").name("Импорт на няколко етапа").location("Пловдив")
+                .startDate(startDate).endDate(startDate.plusDays(1))
+                .scoringSchemeId(template.getScoringSchemeId())
+                .qualificationSchemeId(scheme.getId())
+                .competitionType(CompetitionType.NATIONAL_WATER).isTemplate(false).build());
+        competitionId = competition.getId();
+
+        UUID disciplineId = disciplineDefinitionRepository.findAll().stream()
+                .map(DisciplineDefinition::getId)
+                .findFirst()
+                .orElseThrow();
+        Instant heatsAt = startDate.atStartOfDay().toInstant(ZoneOffset.UTC).plus(Duration.ofHours(8));
+        List<QualificationEventType> types = List.of(QualificationEventType.H, QualificationEventType.H, QualificationEventType.FA);
+        for (int i = 0; i < types.size(); i++) {
+            timetableEventRepository.save(CompetitionTimetableEvent.builder()
+                    .competitionId(competitionId).disciplineId(disciplineId)
+                    .qualificationEventType(types.get(i))
+                    .scheduledAt(heatsAt.plus(Duration.ofMinutes(10L * i)))
+                    .build());
+        }
+        List<UUID> clubIds = clubRepository.findAll().stream()
+                .filter(club -> club.getType() == ScopeType.INTERNAL)
+                .map(Club::getId)
+                .toList();
+        for (int team = 1; team <= BOATS; team++) {
+            entryRepository.save(Entry.builder().competitionId(competitionId)
+                    .clubId(clubIds.get(team % clubIds.size()))
+                    .disciplineId(disciplineId).teamNumber(team).build());
+        }
+    }
+
+    private List<CompetitionTimetableEvent> events(QualificationEventType stage) {
+        return timetableEventRepository.findByCompetitionId(competitionId).stream()
+                .filter(event -> stage.equals(event.getQualificationEventType()))
+                .toList();
+    }
+
+    private List<CompetitionParticipation> participations(CompetitionTimetableEvent event) {
+        return participationRepository.findByCompetitionEventIdOrderByLaneAsc(event.getId());
+    }
+
+    private void recordOfficialResults(CompetitionTimetableEvent event, int firstTimeMs) {
+        List<ParticipationResultRequest> results = new ArrayList<>();
+        List<CompetitionParticipation> participations = participations(event);
+        for (int i = 0; i < participations.size(); i++) {
+            ParticipationResultRequest result = new ParticipationResultRequest();
+            result.setParticipationId(participations.get(i).getId());
+            result.setFinishStatus(ParticipationStatus.FINISHED);
+            result.setFinishTimeMs(firstTimeMs + 1_000 * i);
+            results.add(result);
+        }
+        progressionService.recordResults(event.getId(), results, CompetitionEventStatus.OFFICIAL_RESULTS);
+    }
+
+    private void appendResults(StringBuilder csv, CompetitionTimetableEvent event, int firstTimeMs) {
+        List<CompetitionParticipation> participations = participations(event);
+        for (int i = 0; i < participations.size(); i++) {
+            csv.append(event.getId()).append(',')
+                    .append(participations.get(i).getLane()).append(',')
+                    .append(firstTimeMs + 1_000 * i).append(",FINISHED\n");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.bfg.platform.competition.service;
+
+import com.bfg.platform.club.repository.ClubRepository;
+import com.bfg.platform.competition.entity.Competition;
+import com.bfg.platform.competition.entity.CompetitionFinalStanding;
+import com.bfg.platform.competition.entity.CompetitionParticipation;
+import com.bfg.platform.competition.entity.CompetitionTimetableEvent;
+import com.bfg.platform.competition.entity.Entry;
+import com.bfg.platform.competition.repository.CompetitionFinalStandingRepository;
+import com.bfg.platform.competition.repository.CompetitionParticipationRepository;
+import com.bfg.platform.competition.repository.CompetitionRepository;
+import com.bfg.platform.competition.repository.CompetitionTimetableEventRepository;
+import com.bfg.platform.competition.repository.DisciplineDefinitionRepository;
+import com.bfg.platform.competition.repository.EntryRepository;
+import com.bfg.platform.competition.repository.ScoringRuleRepository;
+import com.bfg.platform.competition.repository.ScoringSchemeBoatCoefficientRepository;
+import com.bfg.platform.competition.repository.ScoringSchemeRepository;
+import com.bfg.platform.competition.service.CompetitionFinalStandingServiceImpl.StandingsEngine;
+import com.bfg.platform.gen.model.CompetitionEventStatus;
+import com.bfg.platform.gen.model.CompetitionType;
+import com.bfg.platform.gen.model.DisciplineStandingResult;
+import com.bfg.platform.gen.model.ParticipationStatus;
+import com.bfg.platform.gen.model.ProgressionGenerationStatus;
+import com.bfg.platform.gen.model.QualificationEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the in-memory (JAVA) and window-function (SQL) standings engines over the same data and
+ * compares the stored standings row by row: the bootstrap competitions plus a discipline built
+ * around ties, DNF/DNS fallbacks, DSQ and missing times.
+ */
+@SpringBootTest
+@ActiveProfiles("it")
+@Transactional
+class StandingsEngineComparisonTest {
+
+    @Autowired
+    private CompetitionFinalStandingRepository standingRepository;
+    @Autowired
+    private CompetitionRepository competitionRepository;
+    @Autowired
+    private CompetitionTimetableEventRepository timetableEventRepository;
+    @Autowired
+    private CompetitionParticipationRepository participationRepository;
+    @Autowired
+    private DisciplineDefinitionRepository disciplineDefinitionRepository;
+    @Autowired
+    private ScoringSchemeRepository scoringSchemeRepository;
+    @Autowired
+    private ScoringRuleRepository scoringRuleRepository;
+    @Autowired
+    private ScoringSchemeBoatCoefficientRepository boatCoefficientRepository;
+    @Autowired
+    private EntryRepository entryRepository;
+    @Autowired
+    private ClubRepository clubRepository;
+
+    private CompetitionFinalStandingServiceImpl javaEngine;
+    private CompetitionFinalStandingServiceImpl sqlEngine;
+
+    @BeforeEach
+    void setUp() {
+        javaEngine = engine(StandingsEngine.JAVA);
+        sqlEngine = engine(StandingsEngine.SQL);
+    }
+
+    @Test
+    void sqlEngineMatchesJavaEngineOnBootstrapCompetitions() {
+        int compared = 0;
+        for (Competition competition : competitionRepository.findAll()) {
+            List<UUID> disciplineIds = timetableEventRepository.findByCompetitionId(competition.getId()).stream()
+                    .map(CompetitionTimetableEvent::getDisciplineId)
+                    .distinct()
+                    .toList();
+            if (disciplineIds.isEmpty()) {
+                continue;
+            }
+            compared += assertSameStandings(competition.getId(), disciplineIds);
+        }
+        assertThat(compared).as("standing rows compared").isPositive();
+    }
+
+    @Test
+    void sqlEngineMatchesJavaEngineOnTiesAndMissingTimes() {
+        Competition template = competitionRepository.findAll().get(0);
+        UUID clubId = clubRepository.findAll().get(0).getId();
+        UUID disciplineId = disciplineDefinitionRepository.findAll().get(0).getId();
+
+        Competition competition = competitionRepository.save(Competition.builder()
+                .shortName("СРАВНЕНИЕ").name("Сравнение на класиранията").location("Пловдив")
+                .startDate(LocalDate.of(2026, 6, 1)).endDate(LocalDate.of(2026, 6, 2))
+                .scoringSchemeId(template.getScoringSchemeId())
+                .qualificationSchemeId(template.getQualificationSchemeId())
+                .competitionType(CompetitionType.NATIONAL_WATER).isTemplate(false).build());
+
+        CompetitionTimetableEvent heat = event(competition, disciplineId, QualificationEventType.H, "2026-06-01T08:00:00Z");
+        CompetitionTimetableEvent sf = event(competition, disciplineId, QualificationEventType.SF, "2026-06-01T12:00:00Z");
+        CompetitionTimetableEvent fb = event(competition, disciplineId, QualificationEventType.FB, "2026-06-02T09:00:00Z");
+        CompetitionTimetableEvent fa = event(competition, disciplineId, QualificationEventType.FA, "2026-06-02T10:00:00Z");
+
+        Map<UUID, Integer> lanes = new HashMap<>();
+        Entry[] e = new Entry[13];
+        for (int i = 1; i < e.length; i++) {
+            e[i] = entryRepository.save(Entry.builder().competitionId(competition.getId()).clubId(clubId)
+                    .disciplineId(disciplineId).teamNumber(i).build());
+        }
+
+        // Tie in FA on equal times
+        race(lanes, heat, e[1], ParticipationStatus.FINISHED, 430000);
+        race(lanes, sf, e[1], ParticipationStatus.FINISHED, 415000);
+        race(lanes, fa, e[1], ParticipationStatus.FINISHED, 400000);
+        race(lanes, fa, e[2], ParticipationStatus.FINISHED, 400000);
+        race(lanes, fa, e[3], ParticipationStatus.FINISHED, 401000);
+        // Finished in FA without a time: excluded even though SF has one
+        race(lanes, sf, e[4], ParticipationStatus.FINISHED, 405000);
+        race(lanes, fa, e[4], ParticipationStatus.FINISHED, null);
+        // DNS in FA, DNF in SF: falls back past SF to the heat time
+        race(lanes, heat, e[5], ParticipationStatus.FINISHED, 420000);
+        race(lanes, sf, e[5], ParticipationStatus.DNF, null);
+        race(lanes, fa, e[5], ParticipationStatus.DNS, null);
+        // DNF in FA with no earlier time: excluded
+        race(lanes, fa, e[6], ParticipationStatus.DNF, null);
+        // Tie in FB between a finished time and a DNS fallback
+        race(lanes, fb, e[7], ParticipationStatus.FINISHED, 410000);
+        race(lanes, heat, e[8], ParticipationStatus.FINISHED, 410000);
+        race(lanes, fb, e[8], ParticipationStatus.DNS, null);
+        // DSQ in the deepest phase: excluded despite a heat time
+        race(lanes, heat, e[9], ParticipationStatus.FINISHED, 425000);
+        race(lanes, sf, e[9], ParticipationStatus.DSQ, null);
+        // Never raced
+        race(lanes, heat, e[10], ParticipationStatus.REGISTERED, null);
+        // Tie in the heats
+        race(lanes, heat, e[11], ParticipationStatus.FINISHED, 435000);
+        race(lanes, heat, e[12], ParticipationStatus.FINISHED, 435000);
+        participationRepository.flush();
+
+        assertSameStandings(competition.getId(), List.of(disciplineId));
+
+        Map<UUID, Integer> ranks = standingRepository.findByCompetitionIdAndDisciplineId(competition.getId(), disciplineId)
+                .stream()
+                .collect(Collectors.toMap(CompetitionFinalStanding::getEntryId, CompetitionFinalStanding::getOverallRank));
+        assertThat(ranks).containsExactlyInAnyOrderEntriesOf(Map.of(
+                e[1].getId(), 1, e[2].getId(), 1, e[3].getId(), 3, e[5].getId(), 4,
+                e[7].getId(), 5, e[8].getId(), 5, e[11].getId(), 7, e[12].getId(), 7));
+    }
+
+    /** Computes the disciplines with both engines and asserts identical stored rows; returns the row count */
+    private int assertSameStandings(UUID competitionId, List<UUID> disciplineIds) {
+        List<String> javaRows = computeRows(javaEngine, competitionId, disciplineIds);
+        List<String> sqlRows = computeRows(sqlEngine, competitionId, disciplineIds);
+        assertThat(sqlRows).as("competition %s", competitionId).containsExactlyElementsOf(javaRows);
+        return javaRows.size();
+    }
+
+    private List<String> computeRows(
+            CompetitionFinalStandingServiceImpl service, UUID competitionId, List<UUID> disciplineIds) {
+        List<DisciplineStandingResult> results = service.computeStandings(competitionId, disciplineIds);
+        assertThat(results).allSatisfy(result -> assertThat(result.getStatus())
+                .as("%s: %s", result.getDisciplineName(), result.getReason())
+                .isNotEqualTo(ProgressionGenerationStatus.ERROR));
+
+        return standingRepository.findByCompetitionIdAndDisciplineIdIn(competitionId, disciplineIds).stream()
+                .sorted(Comparator.comparing((CompetitionFinalStanding s) -> s.getDisciplineId().toString())
+                        .thenComparing(CompetitionFinalStanding::getOverallRank)
+                        .thenComparing(s -> s.getEntryId().toString()))
+                .map(s -> s.getDisciplineId() + " " + s.getEntryId() + " rank=" + s.getOverallRank()
+                        + " time=" + s.getTimeMs() + " points=" + s.getPoints().setScale(2, RoundingMode.HALF_UP))
+                .toList();
+    }
+
+    private CompetitionTimetableEvent event(
+            Competition competition, UUID disciplineId, QualificationEventType type, String scheduledAt) {
+        return timetableEventRepository.save(CompetitionTimetableEvent.builder()
+                .competitionId(competition.getId()).disciplineId(disciplineId)
+                .qualificationEventType(type)
+                .scheduledAt(Instant.parse(scheduledAt))
+                .eventStatus(CompetitionEventStatus.OFFICIAL_RESULTS)
+                .build());
+    }
+
+    private void race(Map<UUID, Integer> lanes, CompetitionTimetableEvent event, Entry entry,
+                      ParticipationStatus status, Integer finishTimeMs) {
+        participationRepository.save(CompetitionParticipation.builder()
+                .competitionEventId(event.getId())
+                .entryId(entry.getId())
+                .lane(lanes.merge(event.getId(), 1, Integer::sum))
+                .participationStatus(status)
+                .finishTimeMs(finishTimeMs)
+                .build());
+    }
+
+    private CompetitionFinalStandingServiceImpl engine(StandingsEngine engine) {
+        return new CompetitionFinalStandingServiceImpl(
+                standingRepository, competitionRepository, timetableEventRepository, participationRepository,
+                disciplineDefinitionRepository, scoringSchemeRepository, scoringRuleRepository,
+                boatCoefficientRepository, engine);
+    }
+}